@@ -0,0 +1,158 @@
+package com.procore.benchmark;
+
+import com.procore.util.PasswordAnalysis;
+import com.procore.util.PasswordSecurityUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordSecurityUtil 및 회원가입 CPU 경로 벤치마크
+ *
+ * 길이별(8, 12, 16, 32, 128자) 비밀번호 묶음을 미리 만들어 두고 호출마다 순서대로 사용합니다.
+ * 묶음은 사전 단어 변형, 키보드/연속 패턴, 생년월일 포함, 무작위 강한 비밀번호, 한글 혼합을 섞어
+ * 실제 가입 요청과 비슷한 분기 분포를 만듭니다.
+ *
+ * 실행: mvn -B -P benchmark compile exec:exec
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordSecurityUtilBenchmark {
+
+  private static final int CORPUS_SIZE = 1024;
+  private static final int CORPUS_MASK = CORPUS_SIZE - 1;
+
+  // 검증 비용은 비밀번호 내용과 무관하고 해시 하나가 수백 ms 이므로 검증용 해시는 몇 개만 만듦
+  private static final int VERIFY_CORPUS_SIZE = 8;
+  private static final int VERIFY_CORPUS_MASK = VERIFY_CORPUS_SIZE - 1;
+
+  private static final String[] BASE_WORDS = {
+          "password", "qwerty", "dragon", "sunshine", "princess", "welcome", "letmein", "master"
+  };
+  private static final String LOWER = "abcdefghijklmnopqrstuvwxyz";
+  private static final String UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final String DIGITS = "0123456789";
+  private static final String SPECIAL = "!@#$%^&*(),.?\":{}|<>";
+  private static final String HANGUL = "가나다라마바사아자차카타파하";
+
+  @Param({"8", "12", "16", "32", "128"})
+  public int length;
+
+  private PasswordSecurityUtil util;
+  private String[] passwords;
+  private String[] hashes;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    util = new PasswordSecurityUtil();
+    passwords = new String[CORPUS_SIZE];
+    hashes = new String[VERIFY_CORPUS_SIZE];
+
+    Random random = new Random(42);
+    for (int i = 0; i < CORPUS_SIZE; i++) {
+      passwords[i] = generate(random, i % 5, length);
+    }
+    for (int i = 0; i < VERIFY_CORPUS_SIZE; i++) {
+      hashes[i] = util.hashPassword(passwords[i]);
+    }
+  }
+
+  private String next() {
+    return passwords[index++ & CORPUS_MASK];
+  }
+
+  @Benchmark
+  public PasswordSecurityUtil.PasswordStrength evaluatePasswordStrength() {
+    return util.evaluatePasswordStrength(next());
+  }
+
+  @Benchmark
+  public PasswordSecurityUtil.PasswordValidationResult validatePassword() {
+    return util.validatePassword(next());
+  }
+
+  @Benchmark
+  public boolean isCommonPassword() {
+    return util.isCommonPassword(next());
+  }
+
+  @Benchmark
+  public String hashPassword() {
+    return util.hashPassword(next());
+  }
+
+  @Benchmark
+  public boolean verifyPassword() {
+    int i = index++ & VERIFY_CORPUS_MASK;
+    return util.verifyPassword(passwords[i], hashes[i]);
+  }
+
+  /**
+   * MemberServiceImpl.registerMember 의 DB 이전 CPU 구간 (분석, 검증, 해시, 강도 로깅)
+   */
+  @Benchmark
+  public void registrationHotPath(Blackhole blackhole) {
+    String password = next();
+    PasswordAnalysis analysis = util.analyze(password);
+    PasswordSecurityUtil.PasswordValidationResult validation = util.validatePassword(password, analysis);
+    blackhole.consume(validation);
+    if (validation.isValid()) {
+      blackhole.consume(util.hashPassword(password));
+      blackhole.consume(util.evaluatePasswordStrength(analysis));
+    }
+  }
+
+  /**
+   * 종류별 비밀번호 생성
+   * 0: 사전 단어 변형, 1: 연속/키보드 패턴, 2: 생년월일 포함, 3: 무작위 강한 비밀번호, 4: 한글 혼합
+   */
+  private static String generate(Random random, int kind, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    switch (kind) {
+      case 0:
+        String word = BASE_WORDS[random.nextInt(BASE_WORDS.length)];
+        sb.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        sb.append(random.nextInt(1000)).append('!');
+        break;
+      case 1:
+        sb.append(random.nextBoolean() ? "Qwer" : "Abcd").append("1234").append('#');
+        break;
+      case 2:
+        sb.append(UPPER.charAt(random.nextInt(26))).append(LOWER.charAt(random.nextInt(26)));
+        sb.append(1970 + random.nextInt(40)).append(String.format("%02d%02d", 1 + random.nextInt(12), 1 + random.nextInt(28)));
+        sb.append('@');
+        break;
+      case 4:
+        sb.append(HANGUL.charAt(random.nextInt(HANGUL.length()))).append(HANGUL.charAt(random.nextInt(HANGUL.length())));
+        break;
+      default:
+        break;
+    }
+
+    String[] classes = {LOWER, UPPER, DIGITS, SPECIAL};
+    while (sb.length() < length) {
+      String chars = classes[sb.length() % classes.length];
+      sb.append(chars.charAt(random.nextInt(chars.length())));
+    }
+    sb.setLength(length);
+    return sb.toString();
+  }
+}
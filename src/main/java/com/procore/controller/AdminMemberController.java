@@ -0,0 +1,229 @@
+package com.procore.controller;
+
+import com.procore.service.MemberExportService;
+import com.procore.service.MemberImportService;
+import com.procore.service.MemberService;
+import com.procore.util.MemberCsvReader;
+import com.procore.vo.MemberSearchCondition;
+import com.procore.vo.MemberStatus;
+import com.procore.vo.MemberVO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Controller
+public class AdminMemberController {
+
+  private static final Logger log = LoggerFactory.getLogger(AdminMemberController.class);
+
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  /** 내보내기 출력 버퍼 (이만큼 모이면 컨테이너로 넘겨 청크로 전송) */
+  private static final int EXPORT_BUFFER_SIZE = 16 * 1024;
+
+  @Autowired
+  private MemberImportService memberImportService;
+
+  @Autowired
+  private MemberService memberService;
+
+  @Autowired
+  private MemberExportService memberExportService;
+
+  // 회원 검색 API (가입 최신순, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달)
+  // 조건: status, email/nickname (접두어), createdFrom/createdTo (yyyy-MM-dd, 끝 날짜 포함)
+  @GetMapping("/admin/members")
+  @ResponseBody
+  public Map<String, Object> searchMembers(@RequestParam(required = false) String status,
+                                          @RequestParam(required = false) String email,
+                                          @RequestParam(required = false) String nickname,
+                                          @RequestParam(required = false) String createdFrom,
+                                          @RequestParam(required = false) String createdTo,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(defaultValue = "20") int size) {
+    log.debug("회원 검색 API 요청: status={}, email={}, nickname={}, cursor={}", status, email, nickname, cursor);
+
+    Map<String, Object> result = new HashMap<>();
+
+    try {
+      MemberSearchCondition condition = new MemberSearchCondition();
+      if (status != null && !status.trim().isEmpty()) {
+        condition.setStatus(MemberStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+      }
+      condition.setEmailPrefix(email);
+      condition.setNicknamePrefix(nickname);
+      if (createdFrom != null && !createdFrom.trim().isEmpty()) {
+        condition.setCreatedFrom(LocalDate.parse(createdFrom.trim()).atStartOfDay());
+      }
+      if (createdTo != null && !createdTo.trim().isEmpty()) {
+        condition.setCreatedTo(LocalDate.parse(createdTo.trim()).plusDays(1).atStartOfDay());
+      }
+
+      int pageSize = size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+      MemberService.MemberPage page = memberService.searchMembers(condition, cursor, pageSize);
+
+      List<Map<String, Object>> members = new ArrayList<>(page.getMembers().size());
+      for (MemberVO member : page.getMembers()) {
+        members.add(toSummary(member));
+      }
+
+      result.put("success", true);
+      result.put("members", members);
+      result.put("nextCursor", page.getNextCursor());
+
+    } catch (DateTimeParseException e) {
+      result.put("success", false);
+      result.put("message", "날짜는 yyyy-MM-dd 형식으로 입력해주세요.");
+    } catch (IllegalArgumentException e) {
+      // 잘못된 status 값 또는 커서
+      result.put("success", false);
+      result.put("message", "검색 조건이 올바르지 않습니다: " + e.getMessage());
+    } catch (Exception e) {
+      log.error("회원 검색 중 예외 발생", e);
+      result.put("success", false);
+      result.put("message", "회원 검색 중 오류가 발생했습니다.");
+    }
+
+    return result;
+  }
+
+  // 회원 내보내기 API (format=csv|ndjson, fields=쉼표 구분 필드 이름, 검색 API 와 같은 조건)
+  // 결과를 모으지 않고 조회하면서 바로 응답 본문에 씁니다 (Content-Length 없이 chunked 전송)
+  @GetMapping("/admin/members/export")
+  public void exportMembers(@RequestParam(defaultValue = "csv") String format,
+                            @RequestParam(required = false) String fields,
+                            @RequestParam(required = false) String status,
+                            @RequestParam(required = false) String email,
+                            @RequestParam(required = false) String nickname,
+                            @RequestParam(required = false) String createdFrom,
+                            @RequestParam(required = false) String createdTo,
+                            HttpServletResponse response) throws IOException {
+    log.debug("회원 내보내기 API 요청: format={}, fields={}, status={}", format, fields, status);
+
+    MemberExportService.Format exportFormat;
+    MemberSearchCondition condition = new MemberSearchCondition();
+    List<String> fieldNames = null;
+    try {
+      exportFormat = MemberExportService.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+      if (status != null && !status.trim().isEmpty()) {
+        condition.setStatus(MemberStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+      }
+      condition.setEmailPrefix(email);
+      condition.setNicknamePrefix(nickname);
+      if (createdFrom != null && !createdFrom.trim().isEmpty()) {
+        condition.setCreatedFrom(LocalDate.parse(createdFrom.trim()).atStartOfDay());
+      }
+      if (createdTo != null && !createdTo.trim().isEmpty()) {
+        condition.setCreatedTo(LocalDate.parse(createdTo.trim()).plusDays(1).atStartOfDay());
+      }
+      if (fields != null && !fields.trim().isEmpty()) {
+        fieldNames = Arrays.asList(fields.split(","));
+      }
+    } catch (DateTimeParseException e) {
+      response.sendError(HttpServletResponse.SC_BAD_REQUEST, "날짜는 yyyy-MM-dd 형식으로 입력해주세요.");
+      return;
+    } catch (IllegalArgumentException e) {
+      response.sendError(HttpServletResponse.SC_BAD_REQUEST, "내보내기 조건이 올바르지 않습니다: " + e.getMessage());
+      return;
+    }
+
+    boolean csv = exportFormat == MemberExportService.Format.CSV;
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+    response.setHeader("Content-Disposition",
+            "attachment; filename=\"members." + (csv ? "csv" : "ndjson") + "\"");
+    response.setHeader("Cache-Control", "no-store");
+
+    Writer writer = new BufferedWriter(
+            new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+    try {
+      memberExportService.exportMembers(condition, fieldNames, exportFormat, writer);
+      writer.flush();
+    } catch (IllegalArgumentException e) {
+      // 알 수 없는 필드 (출력 전에 검사하므로 아직 응답 전)
+      response.reset();
+      response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+              e.getMessage() + " (가능한 필드: " + memberExportService.getExportableFields() + ")");
+    } catch (IOException e) {
+      // 대부분 클라이언트가 다운로드를 중단한 경우
+      log.warn("회원 내보내기 중단: {}", e.getMessage());
+    } catch (Exception e) {
+      log.error("회원 내보내기 중 예외 발생", e);
+      if (!response.isCommitted()) {
+        response.reset();
+        response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "회원 내보내기 중 오류가 발생했습니다.");
+      } else {
+        // 이미 일부를 보냈으면 상태 코드를 바꿀 수 없으므로 연결을 끊어 불완전한 응답임을 알림
+        throw e;
+      }
+    }
+  }
+
+  // 회원 일괄 등록 API (요청 본문: UTF-8 CSV, 헤더 email,password,nickname,name,phone,address)
+  @PostMapping(value = "/admin/members/import", consumes = "text/csv")
+  @ResponseBody
+  public Map<String, Object> importMembers(HttpServletRequest request) {
+    log.debug("회원 일괄 등록 API 요청");
+
+    Map<String, Object> result = new HashMap<>();
+
+    try (MemberCsvReader reader = new MemberCsvReader(
+            new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+      MemberImportService.ImportResult importResult = memberImportService.importMembers(reader);
+
+      result.put("success", true);
+      result.put("total", importResult.getTotal());
+      result.put("imported", importResult.getImported());
+      result.put("failed", importResult.getFailed());
+      result.put("failures", importResult.getFailures());
+      result.put("elapsedMillis", importResult.getElapsedMillis());
+
+    } catch (Exception e) {
+      log.error("회원 일괄 등록 중 예외 발생", e);
+      result.put("success", false);
+      result.put("message", "일괄 등록 중 오류가 발생했습니다: " + e.getMessage());
+    }
+
+    return result;
+  }
+
+  /**
+   * 검색 결과 한 건 (비밀번호/주소 제외, 일시는 ISO 문자열)
+   */
+  private static Map<String, Object> toSummary(MemberVO member) {
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("memberId", member.getMemberId());
+    summary.put("email", member.getEmail());
+    summary.put("nickname", member.getNickname());
+    summary.put("name", member.getName());
+    summary.put("phone", member.getPhone());
+    summary.put("status", member.getStatus());
+    summary.put("createdAt", member.getCreatedAt() != null ? member.getCreatedAt().toString() : null);
+    summary.put("updatedAt", member.getUpdatedAt() != null ? member.getUpdatedAt().toString() : null);
+    return summary;
+  }
+}
@@ -1,26 +1,76 @@
 package com.procore.controller;
 
+import com.procore.filter.SessionTokenFilter;
 import com.procore.service.MemberService;
+import com.procore.util.LoginRateLimiter;
+import com.procore.util.MemberSessionTokens;
+import com.procore.util.PasswordAnalysis;
+import com.procore.util.PasswordHashingExecutor;
 import com.procore.util.PasswordSecurityUtil;
+import com.procore.util.PasswordStrengthSessions;
+import com.procore.util.RequestExecutor;
 import com.procore.vo.MemberStatus;
 import com.procore.vo.MemberVO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.ExtendedModelMap;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 @Controller
 public class MemberController {
 
+  private static final Logger log = LoggerFactory.getLogger(MemberController.class);
+
+  /** 처리 풀 대기열 초과 또는 제한 시간 초과 시 안내 */
+  private static final String BUSY_MESSAGE = "요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
+
+  /** 회원가입 제한 시간 초과 시 안내 (이미 DB 쓰기에 들어간 가입은 완료될 수 있음) */
+  private static final String REGISTER_BUSY_MESSAGE =
+          "요청이 많아 처리가 지연되고 있습니다. 가입이 완료되었을 수 있으니 로그인해 보거나 이메일 중복확인 후 다시 시도해주세요.";
+
   @Autowired
   private MemberService memberService;
 
   @Autowired
   private PasswordSecurityUtil passwordSecurityUtil;
 
+  @Autowired
+  private PasswordStrengthSessions passwordStrengthSessions;
+
+  @Autowired
+  private MemberSessionTokens memberSessionTokens;
+
+  // DB 조회, 해시 대기가 있는 로그인/가입, CPU 만 쓰는 처리를 나누어 실행 (컨테이너 스레드는 바로 반환)
+  @Autowired
+  @Qualifier("dbRequestExecutor")
+  private RequestExecutor dbRequestExecutor;
+
+  @Autowired
+  @Qualifier("authRequestExecutor")
+  private RequestExecutor authRequestExecutor;
+
+  @Autowired
+  @Qualifier("cpuRequestExecutor")
+  private RequestExecutor cpuRequestExecutor;
+
   // 회원가입 페이지 보여주기
   @GetMapping("/member/register")
   public String registerForm() {
@@ -29,9 +79,18 @@ public class MemberController {
 
   // 회원가입 처리 (강화된 보안 검증 포함)
   @PostMapping("/member/register")
-  public String register(MemberVO memberVO, Model model) {
-    System.out.println("=== 강화된 보안 회원가입 요청 수신 ===");
-    System.out.println("받은 회원정보: " + memberVO);
+  public DeferredResult<ModelAndView> register(MemberVO memberVO, HttpServletRequest request) {
+    String remoteAddr = request.getRemoteAddr();
+    return authRequestExecutor.defer(() -> {
+      Model model = new ExtendedModelMap();
+      String view = processRegistration(memberVO, remoteAddr, model);
+      return new ModelAndView(view, model.asMap());
+    }, () -> new ModelAndView("member/register", "error", REGISTER_BUSY_MESSAGE));
+  }
+
+  private String processRegistration(MemberVO memberVO, String remoteAddr, Model model) {
+    log.debug("강화된 보안 회원가입 요청 수신");
+    log.debug("받은 회원정보: {}", memberVO);
 
     try {
       // 1. 입력값 기본 검증
@@ -39,35 +98,25 @@ public class MemberController {
         return "member/register";
       }
 
-      // 2. 비밀번호 보안 강화 검증
-      PasswordSecurityUtil.PasswordValidationResult passwordValidation =
-              passwordSecurityUtil.validatePassword(memberVO.getPassword());
-
-      if (!passwordValidation.isValid()) {
-        System.out.println("회원가입 실패 - 비밀번호 보안: " + passwordValidation.getMessage());
-        model.addAttribute("error", passwordValidation.getMessage());
-        return "member/register";
-      }
-
-      // 3. Status 기본값 설정
+      // 2. Status 기본값 설정
       memberVO.setStatus(MemberStatus.ACTIVE);
 
-      // 4. 서비스 호출하여 회원가입 처리
-      boolean success = memberService.registerMember(memberVO);
+      // 3. 서비스 호출하여 회원가입 처리 (비밀번호 보안 검증은 서비스에서 한 번만, 실패 시 INVALID_PASSWORD)
+      MemberService.RegistrationResult registration = memberService.registerMember(memberVO, remoteAddr);
 
-      if (success) {
-        System.out.println("강화된 보안 회원가입 성공: " + memberVO.getEmail());
+      if (registration.isSuccess()) {
+        log.info("강화된 보안 회원가입 성공: {}", memberVO.getEmail());
         model.addAttribute("message", "회원가입이 완료되었습니다! 강력한 보안으로 계정이 보호됩니다.");
         return "member/login";
       } else {
-        System.out.println("회원가입 실패: " + memberVO.getEmail());
-        model.addAttribute("error", "회원가입에 실패했습니다. 입력 정보를 다시 확인해주세요.");
+        log.info("회원가입 실패: {} ({})", memberVO.getEmail(), registration.getStatus());
+        model.addAttribute("error", registration.getMessage());
+        model.addAttribute("errorField", registration.getConflictField());
         return "member/register";
       }
 
     } catch (Exception e) {
-      System.err.println("회원가입 처리 중 예외 발생: " + e.getMessage());
-      e.printStackTrace();
+      log.error("회원가입 처리 중 예외 발생", e);
       model.addAttribute("error", "회원가입 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
       return "member/register";
     }
@@ -76,8 +125,12 @@ public class MemberController {
   // 비밀번호 강도 평가 API (AJAX용)
   @PostMapping("/member/check-password-strength")
   @ResponseBody
-  public Map<String, Object> checkPasswordStrength(@RequestParam String password) {
-    System.out.println("=== 비밀번호 강도 평가 API 요청 ===");
+  public DeferredResult<Map<String, Object>> checkPasswordStrength(@RequestParam String password) {
+    return cpuRequestExecutor.defer(() -> passwordStrengthResult(password), MemberController::busyResult);
+  }
+
+  private Map<String, Object> passwordStrengthResult(String password) {
+    log.debug("비밀번호 강도 평가 API 요청");
 
     Map<String, Object> result = new HashMap<>();
 
@@ -97,10 +150,10 @@ public class MemberController {
       result.put("message", strength.getMessage());
       result.put("isValid", strength.getScore() >= 3); // 보통 이상이어야 유효
 
-      System.out.println("비밀번호 강도 평가 결과: " + strength.getMessage() + " (" + strength.getScore() + "/5)");
+      log.debug("비밀번호 강도 평가 결과: {} ({}/5)", strength.getMessage(), strength.getScore());
 
     } catch (Exception e) {
-      System.err.println("비밀번호 강도 평가 중 예외: " + e.getMessage());
+      log.warn("비밀번호 강도 평가 중 예외: {}", e.getMessage());
       result.put("score", 0);
       result.put("level", "error");
       result.put("message", "강도 평가 중 오류가 발생했습니다");
@@ -110,37 +163,85 @@ public class MemberController {
     return result;
   }
 
+  // 비밀번호 강도 평가 스트림 (SSE): 처음에 session 이벤트로 세션 ID 를 보내고,
+  // 이후 변경 API 가 호출될 때마다 strength 이벤트로 평가 결과를 보냄
+  @GetMapping(value = "/member/password-strength/stream", produces = "text/event-stream")
+  public ResponseEntity<SseEmitter> openPasswordStrengthStream() throws IOException {
+    SseEmitter emitter = new SseEmitter(passwordStrengthSessions.getTimeoutMillis());
+
+    PasswordStrengthSessions.Session session = passwordStrengthSessions.open(strength -> {
+      try {
+        emitter.send(SseEmitter.event().name("strength").data(toStrengthMap(strength)));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    if (session == null) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    String id = session.getId();
+    emitter.onCompletion(() -> passwordStrengthSessions.close(id));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(e -> passwordStrengthSessions.close(id));
+    emitter.send(SseEmitter.event().name("session").data(Collections.singletonMap("id", id)));
+
+    log.debug("비밀번호 강도 평가 스트림 시작");
+    return ResponseEntity.ok(emitter);
+  }
+
+  // 비밀번호 입력 변경 API: 앞 keep 글자는 그대로 두고 그 뒤를 text 로 바꿈 (결과는 스트림으로 전송)
+  @PostMapping("/member/password-strength/stream/{id}")
+  public ResponseEntity<Void> editPasswordStrength(@PathVariable String id,
+                                                   @RequestParam int keep,
+                                                   @RequestParam(defaultValue = "") String text) {
+    try {
+      if (passwordStrengthSessions.edit(id, keep, text) == null) {
+        // 만료되었거나 닫힌 세션 (클라이언트가 스트림을 다시 엶)
+        return ResponseEntity.notFound().build();
+      }
+      return ResponseEntity.noContent().build();
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    } catch (UncheckedIOException e) {
+      // 스트림 연결이 끊어짐
+      log.debug("비밀번호 강도 평가 스트림 전송 실패: {}", e.getMessage());
+      passwordStrengthSessions.close(id);
+      return ResponseEntity.notFound().build();
+    }
+  }
+
   // 비밀번호 유효성 검사 API (AJAX용)
   @PostMapping("/member/validate-password")
   @ResponseBody
-  public Map<String, Object> validatePassword(@RequestParam String password) {
-    System.out.println("=== 비밀번호 유효성 검사 API 요청 ===");
+  public DeferredResult<Map<String, Object>> validatePassword(@RequestParam String password) {
+    return cpuRequestExecutor.defer(() -> passwordValidationResult(password), MemberController::busyResult);
+  }
+
+  private Map<String, Object> passwordValidationResult(String password) {
+    log.debug("비밀번호 유효성 검사 API 요청");
 
     Map<String, Object> result = new HashMap<>();
 
     try {
+      // 검증과 강도 평가에 같은 분석 결과를 사용
+      PasswordAnalysis analysis = passwordSecurityUtil.analyze(password);
       PasswordSecurityUtil.PasswordValidationResult validation =
-              passwordSecurityUtil.validatePassword(password);
+              passwordSecurityUtil.validatePassword(password, analysis);
 
       result.put("valid", validation.isValid());
       result.put("message", validation.getMessage());
 
       if (validation.isValid()) {
         PasswordSecurityUtil.PasswordStrength strength =
-                passwordSecurityUtil.evaluatePasswordStrength(password);
-
-        Map<String, Object> strengthMap = new HashMap<>();
-        strengthMap.put("score", strength.getScore());
-        strengthMap.put("level", strength.getLevel().getValue());
-        strengthMap.put("message", strength.getMessage());
-
-        result.put("strength", strengthMap);
+                passwordSecurityUtil.evaluatePasswordStrength(analysis);
+        result.put("strength", toStrengthMap(strength));
       }
 
-      System.out.println("비밀번호 유효성 검사 결과: " + (validation.isValid() ? "유효" : "무효"));
+      log.debug("비밀번호 유효성 검사 결과: {}", validation.isValid() ? "유효" : "무효");
 
     } catch (Exception e) {
-      System.err.println("비밀번호 유효성 검사 중 예외: " + e.getMessage());
+      log.warn("비밀번호 유효성 검사 중 예외: {}", e.getMessage());
       result.put("valid", false);
       result.put("message", "유효성 검사 중 오류가 발생했습니다");
     }
@@ -151,9 +252,13 @@ public class MemberController {
   // 이메일 중복 확인 API
   @PostMapping("/member/check-email")
   @ResponseBody
-  public Map<String, Object> checkEmailDuplicate(@RequestParam String email) {
-    System.out.println("=== 이메일 중복확인 API 요청 ===");
-    System.out.println("받은 이메일: [" + email + "]");
+  public DeferredResult<Map<String, Object>> checkEmailDuplicate(@RequestParam String email) {
+    return dbRequestExecutor.defer(() -> emailCheckResult(email), MemberController::busyResult);
+  }
+
+  private Map<String, Object> emailCheckResult(String email) {
+    log.debug("이메일 중복확인 API 요청");
+    log.debug("받은 이메일: [{}]", email);
 
     Map<String, Object> result = new HashMap<>();
 
@@ -183,7 +288,7 @@ public class MemberController {
       }
 
     } catch (Exception e) {
-      System.err.println("이메일 중복확인 API 처리 중 예외: " + e.getMessage());
+      log.warn("이메일 중복확인 API 처리 중 예외: {}", e.getMessage());
       result.put("success", false);
       result.put("message", "중복확인 중 오류가 발생했습니다. 다시 시도해주세요.");
     }
@@ -194,9 +299,13 @@ public class MemberController {
   // 닉네임 중복 확인 API
   @PostMapping("/member/check-nickname")
   @ResponseBody
-  public Map<String, Object> checkNicknameDuplicate(@RequestParam String nickname) {
-    System.out.println("=== 닉네임 중복확인 API 요청 ===");
-    System.out.println("받은 닉네임: [" + nickname + "]");
+  public DeferredResult<Map<String, Object>> checkNicknameDuplicate(@RequestParam String nickname) {
+    return dbRequestExecutor.defer(() -> nicknameCheckResult(nickname), MemberController::busyResult);
+  }
+
+  private Map<String, Object> nicknameCheckResult(String nickname) {
+    log.debug("닉네임 중복확인 API 요청");
+    log.debug("받은 닉네임: [{}]", nickname);
 
     Map<String, Object> result = new HashMap<>();
 
@@ -232,7 +341,7 @@ public class MemberController {
       }
 
     } catch (Exception e) {
-      System.err.println("닉네임 중복확인 API 처리 중 예외: " + e.getMessage());
+      log.warn("닉네임 중복확인 API 처리 중 예외: {}", e.getMessage());
       result.put("success", false);
       result.put("message", "중복확인 중 오류가 발생했습니다. 다시 시도해주세요.");
     }
@@ -240,6 +349,92 @@ public class MemberController {
     return result;
   }
 
+  // 가입 사전 확인 API (보낸 항목만 확인: 이메일/닉네임/전화번호 형식과 중복, 비밀번호 검증과 강도)
+  // 중복 확인은 SQL 한 번으로 묶고 비밀번호 분석은 그와 동시에 수행
+  @PostMapping("/member/precheck")
+  @ResponseBody
+  public DeferredResult<Map<String, Object>> precheckRegistration(@RequestParam(required = false) String email,
+                                                                  @RequestParam(required = false) String nickname,
+                                                                  @RequestParam(required = false) String phone,
+                                                                  @RequestParam(required = false) String password) {
+    return dbRequestExecutor.defer(() -> precheckResult(email, nickname, phone, password),
+            MemberController::busyResult);
+  }
+
+  private Map<String, Object> precheckResult(String email, String nickname, String phone, String password) {
+    log.debug("가입 사전 확인 API 요청: email=[{}], nickname=[{}]", email, nickname);
+
+    Map<String, Object> result = new HashMap<>();
+
+    try {
+      // 형식이 틀린 항목은 DB 로 보내지 않고 바로 결과에 담음
+      String emailToCheck = null;
+      if (email != null) {
+        String message = emailFormatError(email);
+        if (message != null) {
+          result.put("email", fieldResult(false, message));
+        } else {
+          emailToCheck = email.trim();
+        }
+      }
+
+      String nicknameToCheck = null;
+      if (nickname != null) {
+        String message = nicknameFormatError(nickname);
+        if (message != null) {
+          result.put("nickname", fieldResult(false, message));
+        } else {
+          nicknameToCheck = nickname.trim();
+        }
+      }
+
+      String phoneToCheck = null;
+      if (phone != null && !phone.trim().isEmpty()) {
+        if (!phone.trim().matches("^\\d{3}-\\d{4}-\\d{4}$")) {
+          result.put("phone", fieldResult(false, "올바른 전화번호 형식을 입력해주세요. (예: 010-1234-5678)"));
+        } else {
+          phoneToCheck = phone.trim();
+        }
+      }
+
+      MemberService.RegistrationPrecheck precheck =
+              memberService.precheckRegistration(emailToCheck, nicknameToCheck, phoneToCheck, password);
+
+      if (precheck.getEmailAvailable() != null) {
+        result.put("email", precheck.getEmailAvailable()
+                ? fieldResult(true, "사용 가능한 이메일입니다.")
+                : fieldResult(false, "이미 사용 중인 이메일입니다."));
+      }
+      if (precheck.getNicknameAvailable() != null) {
+        result.put("nickname", precheck.getNicknameAvailable()
+                ? fieldResult(true, "사용 가능한 닉네임입니다.")
+                : fieldResult(false, "이미 사용 중인 닉네임입니다."));
+      }
+      if (precheck.getPhoneAvailable() != null) {
+        result.put("phone", precheck.getPhoneAvailable()
+                ? fieldResult(true, "사용 가능한 전화번호입니다.")
+                : fieldResult(false, "이미 사용 중인 전화번호입니다."));
+      }
+      if (precheck.getPasswordValidation() != null) {
+        Map<String, Object> passwordResult = fieldResult(precheck.getPasswordValidation().isValid(),
+                precheck.getPasswordValidation().getMessage());
+        if (precheck.getPasswordStrength() != null) {
+          passwordResult.put("strength", toStrengthMap(precheck.getPasswordStrength()));
+        }
+        result.put("password", passwordResult);
+      }
+
+      result.put("success", true);
+
+    } catch (Exception e) {
+      log.warn("가입 사전 확인 API 처리 중 예외: {}", e.getMessage());
+      result.put("success", false);
+      result.put("message", "확인 중 오류가 발생했습니다. 다시 시도해주세요.");
+    }
+
+    return result;
+  }
+
   // 로그인 페이지
   @GetMapping("/member/login")
   public String loginForm() {
@@ -248,37 +443,63 @@ public class MemberController {
 
   // 로그인 처리 (강화된 보안 검증)
   @PostMapping("/member/login")
-  public String login(@RequestParam String email,
-                      @RequestParam String password,
-                      Model model) {
-    System.out.println("=== 강화된 보안 로그인 요청 수신 ===");
-    System.out.println("이메일: " + email);
+  public DeferredResult<ModelAndView> login(@RequestParam String email,
+                                            @RequestParam String password,
+                                            HttpServletRequest request) {
+    String remoteAddr = request.getRemoteAddr();
+    return authRequestExecutor.defer(() -> processLogin(email, password, remoteAddr),
+            () -> busyView("member/login"));
+  }
+
+  private ModelAndView processLogin(String email, String password, String remoteAddr) {
+    log.debug("강화된 보안 로그인 요청 수신");
+    log.debug("이메일: {}", email);
 
     try {
       if (email == null || email.trim().isEmpty() ||
               password == null || password.trim().isEmpty()) {
-        model.addAttribute("error", "이메일과 비밀번호를 모두 입력해주세요.");
-        return "member/login";
+        return new ModelAndView("member/login", "error", "이메일과 비밀번호를 모두 입력해주세요.");
       }
 
-      MemberVO member = memberService.login(email.trim(), password);
+      MemberVO member = memberService.login(email.trim(), password, remoteAddr);
 
       if (member != null) {
-        System.out.println("강화된 보안 로그인 성공: " + member.getEmail());
-        // TODO: 세션에 사용자 정보 저장
-        return "redirect:/";
+        log.info("강화된 보안 로그인 성공: {}", member.getEmail());
+        // 서버 세션 대신 서명된 토큰을 쿠키로 발급
+        // (응답은 이 풀 스레드가 아닌, 결과를 그리는 요청 스레드에서 건드림)
+        String token = memberSessionTokens.issue(member);
+        return new ModelAndView((View) (model, req, res) -> {
+          memberSessionTokens.addCookie(res, token);
+          res.sendRedirect(req.getContextPath() + "/");
+        });
       } else {
-        System.out.println("로그인 실패: " + email);
-        model.addAttribute("error", "이메일 또는 비밀번호가 올바르지 않습니다.");
-        return "member/login";
+        log.info("로그인 실패: {}", email);
+        return new ModelAndView("member/login", "error", "이메일 또는 비밀번호가 올바르지 않습니다.");
       }
 
+    } catch (LoginRateLimiter.RateLimitedException e) {
+      log.info("로그인 거부: 요청 제한 ({}) - {}", e.getScope(), email);
+      return new ModelAndView("member/login", "error", e.getMessage());
+    } catch (PasswordHashingExecutor.HashingRejectedException e) {
+      // 비밀번호가 틀린 것이 아니라 검증하지 못한 경우 (가입의 BUSY 와 같은 안내)
+      return busyView("member/login");
     } catch (Exception e) {
-      System.err.println("로그인 처리 중 예외 발생: " + e.getMessage());
-      e.printStackTrace();
-      model.addAttribute("error", "로그인 처리 중 오류가 발생했습니다.");
-      return "member/login";
+      log.error("로그인 처리 중 예외 발생", e);
+      return new ModelAndView("member/login", "error", "로그인 처리 중 오류가 발생했습니다.");
+    }
+  }
+
+  // 로그아웃 (현재 토큰을 만료 시까지 거부하고 쿠키 삭제)
+  @PostMapping("/member/logout")
+  public String logout(@RequestAttribute(name = SessionTokenFilter.LOGIN_MEMBER, required = false)
+                               MemberSessionTokens.SessionToken loginMember,
+                       HttpServletResponse response) {
+    if (loginMember != null) {
+      memberSessionTokens.revoke(loginMember);
+      log.info("로그아웃: {}", loginMember.getMemberId());
     }
+    memberSessionTokens.clearCookie(response);
+    return "redirect:/";
   }
 
   // 비밀번호 변경 페이지 (새로운 기능)
@@ -293,7 +514,7 @@ public class MemberController {
                                @RequestParam String newPassword,
                                @RequestParam String confirmPassword,
                                Model model) {
-    System.out.println("=== 비밀번호 변경 요청 수신 ===");
+    log.debug("비밀번호 변경 요청 수신");
 
     try {
       // 1. 기본 입력값 검증
@@ -325,7 +546,7 @@ public class MemberController {
       return "member/change-password";
 
     } catch (Exception e) {
-      System.err.println("비밀번호 변경 중 예외 발생: " + e.getMessage());
+      log.warn("비밀번호 변경 중 예외 발생: {}", e.getMessage());
       model.addAttribute("error", "비밀번호 변경 중 오류가 발생했습니다.");
       return "member/change-password";
     }
@@ -378,6 +599,63 @@ public class MemberController {
     return true;
   }
 
+  /**
+   * 이메일 입력 오류 메시지 (올바르면 null)
+   */
+  private String emailFormatError(String email) {
+    if (email == null || email.trim().isEmpty()) {
+      return "이메일을 입력해주세요.";
+    }
+    if (!isValidEmailFormat(email.trim())) {
+      return "올바른 이메일 형식을 입력해주세요.";
+    }
+    return null;
+  }
+
+  /**
+   * 닉네임 입력 오류 메시지 (올바르면 null)
+   */
+  private static String nicknameFormatError(String nickname) {
+    if (nickname == null || nickname.trim().isEmpty()) {
+      return "닉네임을 입력해주세요.";
+    }
+    String trimmedNickname = nickname.trim();
+    if (trimmedNickname.length() < 2 || trimmedNickname.length() > 10) {
+      return "닉네임은 2-10자 사이여야 합니다.";
+    }
+    if (!trimmedNickname.matches("^[a-zA-Z0-9가-힣_]+$")) {
+      return "닉네임은 영문, 숫자, 한글, 언더스코어만 사용 가능합니다.";
+    }
+    return null;
+  }
+
+  private static Map<String, Object> toStrengthMap(PasswordSecurityUtil.PasswordStrength strength) {
+    Map<String, Object> strengthMap = new HashMap<>();
+    strengthMap.put("score", strength.getScore());
+    strengthMap.put("level", strength.getLevel().getValue());
+    strengthMap.put("message", strength.getMessage());
+    return strengthMap;
+  }
+
+  private static Map<String, Object> busyResult() {
+    Map<String, Object> result = new HashMap<>();
+    result.put("success", false);
+    result.put("valid", false);
+    result.put("message", BUSY_MESSAGE);
+    return result;
+  }
+
+  private static ModelAndView busyView(String viewName) {
+    return new ModelAndView(viewName, "error", BUSY_MESSAGE);
+  }
+
+  private static Map<String, Object> fieldResult(boolean valid, String message) {
+    Map<String, Object> field = new HashMap<>();
+    field.put("valid", valid);
+    field.put("message", message);
+    return field;
+  }
+
   /**
    * 이메일 형식 검증
    */
@@ -0,0 +1,181 @@
+package com.procore.controller;
+
+import com.procore.mapper.plugin.SqlStatementInterceptor;
+import com.procore.util.AvailabilityCheckCoalescer;
+import com.procore.util.LatencyMetrics;
+import com.procore.util.LoginAttemptRecorder;
+import com.procore.util.LoginRateLimiter;
+import com.procore.util.MemberAvailabilityIndex;
+import com.procore.util.MemberLoginCache;
+import com.procore.util.MemberSessionTokens;
+import com.procore.util.PasswordHashingExecutor;
+import com.procore.util.PasswordStrengthSessions;
+import com.procore.util.ReadWriteRoutingDataSource;
+import com.procore.util.RequestExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Controller
+public class MonitorController {
+
+  @Autowired
+  private PasswordHashingExecutor passwordHashingExecutor;
+
+  @Autowired
+  private PasswordStrengthSessions passwordStrengthSessions;
+
+  @Autowired
+  @Qualifier("dbRequestExecutor")
+  private RequestExecutor dbRequestExecutor;
+
+  @Autowired
+  @Qualifier("authRequestExecutor")
+  private RequestExecutor authRequestExecutor;
+
+  @Autowired
+  @Qualifier("cpuRequestExecutor")
+  private RequestExecutor cpuRequestExecutor;
+
+  @Autowired
+  private MemberAvailabilityIndex memberAvailabilityIndex;
+
+  @Autowired
+  private AvailabilityCheckCoalescer availabilityCheckCoalescer;
+
+  @Autowired
+  private MemberLoginCache memberLoginCache;
+
+  @Autowired
+  private MemberSessionTokens memberSessionTokens;
+
+  @Autowired
+  private LoginAttemptRecorder loginAttemptRecorder;
+
+  @Autowired
+  private LoginRateLimiter loginRateLimiter;
+
+  @Autowired
+  private LatencyMetrics latencyMetrics;
+
+  @Autowired
+  private SqlStatementInterceptor sqlStatementInterceptor;
+
+  @Autowired
+  private ReadWriteRoutingDataSource routingDataSource;
+
+  // 비밀번호 해시 풀 상태 (대기열 길이, 대기 시간, 거부 수)
+  @GetMapping("/monitor/password-hashing")
+  @ResponseBody
+  public Map<String, Object> passwordHashingStats() {
+    return passwordHashingExecutor.getStats();
+  }
+
+  // 컨트롤러 비동기 처리 풀 상태 (대기열 길이, 거부/제한 시간 초과 수)
+  @GetMapping("/monitor/request-executors")
+  @ResponseBody
+  public Map<String, Object> requestExecutorStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("db", dbRequestExecutor.getStats());
+    stats.put("auth", authRequestExecutor.getStats());
+    stats.put("cpu", cpuRequestExecutor.getStats());
+    return stats;
+  }
+
+  // 비밀번호 강도 평가 스트림 상태 (열린 세션 수, 변경당 전송 글자 수)
+  @GetMapping("/monitor/password-strength-stream")
+  @ResponseBody
+  public Map<String, Object> passwordStrengthStreamStats() {
+    return passwordStrengthSessions.getStats();
+  }
+
+  // 회원 중복확인 인덱스 상태 (적재 건수, 메모리에서 끝난 조회 비율)
+  @GetMapping("/monitor/availability-index")
+  @ResponseBody
+  public Map<String, Object> availabilityIndexStats() {
+    return memberAvailabilityIndex.getStats();
+  }
+
+  // 중복확인 묶기 상태 (요청 수 대비 실제 DB 조회 수)
+  @GetMapping("/monitor/availability-checks")
+  @ResponseBody
+  public Map<String, Object> availabilityCheckStats() {
+    return availabilityCheckCoalescer.getStats();
+  }
+
+  // 로그인 조회 캐시 상태 (적중/실패/제거 건수)
+  @GetMapping("/monitor/login-cache")
+  @ResponseBody
+  public Map<String, Object> loginCacheStats() {
+    return memberLoginCache.getStats();
+  }
+
+  // 로그인 토큰 상태 (발급/확인/거부 건수, 거부 목록 크기)
+  @GetMapping("/monitor/session-tokens")
+  @ResponseBody
+  public Map<String, Object> sessionTokenStats() {
+    return memberSessionTokens.getStats();
+  }
+
+  // 로그인 시도 기록기 상태 (버퍼 사용량, 저장/버림 건수)
+  @GetMapping("/monitor/login-attempts")
+  @ResponseBody
+  public Map<String, Object> loginAttemptStats() {
+    return loginAttemptRecorder.getStats();
+  }
+
+  // 요청 제한 상태 (추적 중인 키 수, 거부 건수)
+  @GetMapping("/monitor/rate-limit")
+  @ResponseBody
+  public Map<String, Object> rateLimitStats() {
+    return loginRateLimiter.getStats();
+  }
+
+  // DataSource 라우팅 상태 (주 DB/복제본 커넥션 수, 복제본 장애 대체 건수, 풀 사용량)
+  @GetMapping("/monitor/datasource")
+  @ResponseBody
+  public Map<String, Object> dataSourceStats() {
+    return routingDataSource.getStats();
+  }
+
+  // 처리 시간 (Prometheus 텍스트 형식, 이름별 백분위/합계/건수)
+  @GetMapping("/metrics")
+  public void metricsText(HttpServletResponse response) throws IOException {
+    response.setContentType("text/plain; version=0.0.4; charset=UTF-8");
+    response.getWriter().write(latencyMetrics.toText());
+  }
+
+  // 처리 시간 (JSON, /metrics?format=json)
+  @GetMapping(value = "/metrics", params = "format=json")
+  @ResponseBody
+  public Map<String, Object> metricsJson() {
+    return latencyMetrics.getStats();
+  }
+
+  // SQL 문장별 요약 (sort: total, max, count, mean, rows, wait)
+  @GetMapping("/monitor/sql")
+  @ResponseBody
+  public List<Map<String, Object>> sqlStats(@RequestParam(defaultValue = "total") String sort,
+                                            @RequestParam(defaultValue = "20") int limit) {
+    return sqlStatementInterceptor.getSummary(sort, limit);
+  }
+
+  // SQL 문장별 요약 초기화
+  @PostMapping("/monitor/sql/reset")
+  @ResponseBody
+  public Map<String, Object> resetSqlStats() {
+    sqlStatementInterceptor.reset();
+    return Collections.singletonMap("success", true);
+  }
+}
@@ -0,0 +1,123 @@
+package com.procore.filter;
+
+import com.procore.service.MemberService;
+import com.procore.util.MemberSessionTokens;
+import com.procore.util.MemberSessionTokens.SessionToken;
+import com.procore.vo.MemberStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 로그인 토큰 확인 필터 (web.xml 의 DelegatingFilterProxy 가 root 컨텍스트의 sessionTokenFilter 빈으로 위임)
+ *
+ * 요청마다 쿠키(또는 Authorization: Bearer) 의 토큰을 확인하여 유효하면 요청 속성 LOGIN_MEMBER 에 넣습니다.
+ * 유효 시간의 절반이 지난 토큰은 DB 에서 회원 상태를 다시 확인한 뒤 새로 발급하고(최대 로그인 유지 시간까지),
+ * 활성 상태가 아니면 이 서버에서도 회원의 토큰을 거부합니다. 잘못되었거나 만료/거부된 토큰 쿠키는 지웁니다.
+ * protectedPaths 로 시작하는 경로는 로그인이 필요하며, GET 은 로그인 페이지로, 나머지는 401 로 응답합니다.
+ */
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(SessionTokenFilter.class);
+
+  /** 확인된 로그인 토큰(SessionToken) 요청 속성 이름 */
+  public static final String LOGIN_MEMBER = "loginMember";
+
+  private MemberSessionTokens sessionTokens;
+
+  private MemberService memberService;
+
+  private String[] protectedPaths = new String[0];
+
+  private String loginPath = "/member/login";
+
+  public void setSessionTokens(MemberSessionTokens sessionTokens) {
+    this.sessionTokens = sessionTokens;
+  }
+
+  public void setMemberService(MemberService memberService) {
+    this.memberService = memberService;
+  }
+
+  /** 쉼표로 구분한 경로 접두어 */
+  public void setProtectedPaths(String protectedPaths) {
+    this.protectedPaths = StringUtils.tokenizeToStringArray(protectedPaths, ",");
+  }
+
+  public void setLoginPath(String loginPath) {
+    this.loginPath = loginPath;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+          throws ServletException, IOException {
+    String text = sessionTokens.resolve(request);
+    SessionToken token = null;
+
+    if (StringUtils.hasLength(text)) {
+      token = sessionTokens.verify(text);
+      if (token == null || token.getStatus() != MemberStatus.ACTIVE) {
+        token = null;
+        sessionTokens.clearCookie(response);
+      } else if (sessionTokens.shouldRenew(token) && sessionTokens.canRenew(token)) {
+        token = renew(token, response);
+      }
+    }
+
+    if (token != null) {
+      request.setAttribute(LOGIN_MEMBER, token);
+    } else if (isProtected(request)) {
+      if ("GET".equals(request.getMethod())) {
+        response.sendRedirect(request.getContextPath() + loginPath);
+      } else {
+        response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+      }
+      return;
+    }
+
+    chain.doFilter(request, response);
+  }
+
+  /**
+   * DB 의 현재 상태를 확인하고 토큰을 갱신합니다.
+   * @return 계속 쓸 토큰, 회원이 활성 상태가 아니면 null
+   */
+  private SessionToken renew(SessionToken token, HttpServletResponse response) {
+    MemberStatus status;
+    try {
+      status = memberService.findMemberStatus(token.getMemberId());
+    } catch (RuntimeException e) {
+      // 확인하지 못하면 갱신하지 않고 현재 토큰을 만료 시까지 사용
+      log.warn("로그인 토큰 갱신 전 회원 상태 확인 실패: {}", e.getMessage());
+      return token;
+    }
+
+    if (status != MemberStatus.ACTIVE) {
+      sessionTokens.revokeMember(token.getMemberId());
+      sessionTokens.clearCookie(response);
+      return null;
+    }
+    String renewed = sessionTokens.renew(token, status);
+    if (renewed != null) {
+      sessionTokens.addCookie(response, renewed);
+    }
+    return token;
+  }
+
+  private boolean isProtected(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    for (String prefix : protectedPaths) {
+      if (path.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,68 @@
+package com.procore.interceptor;
+
+import com.procore.filter.SessionTokenFilter;
+import com.procore.service.MemberService;
+import com.procore.util.MemberSessionTokens.SessionToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 관리자 권한 확인 (/admin/**, /monitor/**, /metrics)
+ *
+ * SessionTokenFilter 가 확인한 로그인 토큰(요청 속성 LOGIN_MEMBER)의 회원이
+ * admin 테이블에 같은 이메일의 활성 관리자 계정을 가지고 있어야 통과합니다.
+ * 로그인하지 않았으면 401, 관리자가 아니면 403 으로 응답합니다.
+ * 권한 회수가 바로 반영되도록 요청마다 주 DB 에서 확인합니다 (관리 기능은 요청 수가 적음).
+ *
+ * trustedAddresses 에 있는 주소(예: 같은 서버의 수집기)에서 온 요청은 로그인 없이 통과합니다 (/monitor, /metrics 용).
+ * 주소는 request.getRemoteAddr() 와 정확히 같아야 하며, 프록시 뒤라면 프록시 주소가 됩니다.
+ */
+public class AdminAuthInterceptor implements HandlerInterceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(AdminAuthInterceptor.class);
+
+  @Autowired
+  private MemberService memberService;
+
+  private Set<String> trustedAddresses = Collections.emptySet();
+
+  /** 로그인 없이 허용할 주소 (쉼표 구분) */
+  public void setTrustedAddresses(String trustedAddresses) {
+    this.trustedAddresses = new HashSet<>(Arrays.asList(StringUtils.tokenizeToStringArray(trustedAddresses, ",")));
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+          throws IOException {
+    // 비동기 처리 후 다시 디스패치될 때는 처음 요청에서 이미 확인함
+    if (request.getDispatcherType() == DispatcherType.ASYNC || trustedAddresses.contains(request.getRemoteAddr())) {
+      return true;
+    }
+
+    Object token = request.getAttribute(SessionTokenFilter.LOGIN_MEMBER);
+    if (!(token instanceof SessionToken)) {
+      response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+      return false;
+    }
+
+    long memberId = ((SessionToken) token).getMemberId();
+    if (!memberService.isAdmin(memberId)) {
+      log.warn("관리자 권한 없는 접근: 회원 {}, {} {}", memberId, request.getMethod(), request.getRequestURI());
+      response.sendError(HttpServletResponse.SC_FORBIDDEN);
+      return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,55 @@
+package com.procore.interceptor;
+
+import com.procore.util.LatencyMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨트롤러 메서드별 처리 시간 기록 ("http.컨트롤러.메서드")
+ *
+ * preHandle 에서 시작 시각을 요청 속성에 두고 afterCompletion 에서 기록합니다.
+ * 비동기 처리는 다시 디스패치될 때 preHandle 이 또 호출되므로 처음 시각을 유지하고, 완료 시 한 번만 기록합니다.
+ */
+public class LatencyInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String START_ATTRIBUTE = LatencyInterceptor.class.getName() + ".start";
+
+  @Autowired
+  private LatencyMetrics latencyMetrics;
+
+  /** HandlerMethod 별 측정 이름 (요청마다 문자열을 만들지 않도록 보관) */
+  private final ConcurrentHashMap<HandlerMethod, String> names = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (latencyMetrics.isEnabled() && handler instanceof HandlerMethod
+            && request.getAttribute(START_ATTRIBUTE) == null) {
+      request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    Object start = request.getAttribute(START_ATTRIBUTE);
+    if (!(start instanceof Long) || !(handler instanceof HandlerMethod)) {
+      return;
+    }
+    request.removeAttribute(START_ATTRIBUTE);
+    latencyMetrics.record(nameOf((HandlerMethod) handler), System.nanoTime() - (Long) start);
+  }
+
+  private String nameOf(HandlerMethod handler) {
+    String name = names.get(handler);
+    if (name == null) {
+      name = names.computeIfAbsent(handler, key ->
+              "http." + key.getBeanType().getSimpleName() + "." + key.getMethod().getName());
+    }
+    return name;
+  }
+}
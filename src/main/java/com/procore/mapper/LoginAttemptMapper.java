@@ -0,0 +1,10 @@
+package com.procore.mapper;
+
+import com.procore.vo.LoginAttemptVO;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface LoginAttemptMapper {
+
+  int insertLoginAttempt(LoginAttemptVO loginAttemptVO);
+}
@@ -1,7 +1,15 @@
 package com.procore.mapper;
 
+import com.procore.vo.MemberSearchCondition;
 import com.procore.vo.MemberVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface MemberMapper {
@@ -13,5 +21,20 @@ public interface MemberMapper {
   Long countByEmail(String email);
   int countByNickname(String nickname);
   int countByPhone(String phone);
-  int updateNickname(Long memberId, String nickname);
+  int updateNickname(@Param("memberId") Long memberId, @Param("nickname") String nickname);
+  int updatePassword(@Param("memberId") Long memberId, @Param("password") String password);
+  MemberVO selectMemberKeysById(Long memberId);
+  long countActiveMembers();
+  int countActiveAdminByMemberId(Long memberId);
+  void selectAvailabilityKeys(ResultHandler<MemberVO> handler);
+  int insertMembers(List<MemberVO> members);
+  List<MemberVO> selectExistingKeys(@Param("emails") Collection<String> emails,
+                                    @Param("nicknames") Collection<String> nicknames,
+                                    @Param("phones") Collection<String> phones);
+  List<MemberVO> searchMembers(MemberSearchCondition condition);
+  Map<String, Object> countTakenKeys(@Param("email") String email,
+                                     @Param("nickname") String nickname,
+                                     @Param("phone") String phone);
+  Cursor<MemberVO> selectMembersForExport(@Param("condition") MemberSearchCondition condition,
+                                          @Param("columns") List<String> columns);
 }
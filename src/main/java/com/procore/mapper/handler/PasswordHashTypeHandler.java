@@ -0,0 +1,49 @@
+package com.procore.mapper.handler;
+
+import com.procore.util.CredentialCodec;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 비밀번호 해시 바이너리 컬럼 매핑 (member.password VARBINARY)
+ *
+ * 자바 쪽에서는 기존과 같은 텍스트 형식 해시를 사용하고, DB 에는 CredentialCodec 바이너리 형식으로 저장합니다.
+ * 조회 시에는 컬럼 타입이 VARBINARY/BINARY 이면 자동 매핑에서 이 핸들러가 선택되고,
+ * 저장 시에는 매퍼의 #{password, jdbcType=${passwordJdbcType}} 가 VARBINARY 일 때 선택됩니다.
+ */
+@MappedTypes(String.class)
+@MappedJdbcTypes({JdbcType.VARBINARY, JdbcType.BINARY})
+public class PasswordHashTypeHandler extends BaseTypeHandler<String> {
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType)
+          throws SQLException {
+    ps.setBytes(i, CredentialCodec.toBinary(parameter));
+  }
+
+  @Override
+  public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return toText(rs.getBytes(columnName));
+  }
+
+  @Override
+  public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toText(rs.getBytes(columnIndex));
+  }
+
+  @Override
+  public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toText(cs.getBytes(columnIndex));
+  }
+
+  private String toText(byte[] binary) {
+    return binary == null ? null : CredentialCodec.fromBinary(binary);
+  }
+}
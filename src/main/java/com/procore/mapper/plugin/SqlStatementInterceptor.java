@@ -0,0 +1,356 @@
+package com.procore.mapper.plugin;
+
+import com.procore.util.LatencyHistogram;
+import com.procore.util.ReadWriteRoutingDataSource;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 문장별 처리 시간/행 수 기록 및 느린 쿼리 로그 (MyBatis 플러그인)
+ *
+ * Executor 의 query/update 를 감싸 매핑 문장 ID 별로 처리 시간 히스토그램, 반환/변경 행 수, 오류 수를 셉니다.
+ * 커넥션 대기 시간은 ReadWriteRoutingDataSource 가 잰 풀 대여 시간을 StatementHandler.prepare 직후 가져와 기록합니다
+ * (LazyConnectionDataSourceProxy 는 prepare 안에서 실제 커넥션을 빌림, 이미 빌린 트랜잭션 안의 문장은 0).
+ *
+ * slow-query-millis 를 넘은 문장은 SQL 과 바인딩 파라미터를 WARN 으로 남기며,
+ * 비밀번호는 가리고 이메일/전화번호는 일부만 보여줍니다.
+ * BATCH 실행기의 update 는 행 수를 알 수 없어 시간만 기록합니다 (실제 실행은 flushStatements 시점).
+ * queryCursor 는 결과를 읽기 전에 반환되므로 첫 결과를 받기까지의 시간만 기록합니다 (행 수는 알 수 없음).
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = StatementHandler.class, method = "prepare",
+                args = {Connection.class, Integer.class})
+})
+public class SqlStatementInterceptor implements Interceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(SqlStatementInterceptor.class);
+
+  private static final int MAX_LOGGED_VALUE_LENGTH = 64;
+
+  /** 현재 스레드에서 실행 중인 문장 (커넥션 대기 측정용) */
+  private static final ThreadLocal<Executing> EXECUTING = ThreadLocal.withInitial(Executing::new);
+
+  private final ConcurrentHashMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+  private boolean enabled = true;
+  private long slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(200);
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void setSlowQueryMillis(long slowQueryMillis) {
+    this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    if (!enabled) {
+      return invocation.proceed();
+    }
+    if (invocation.getTarget() instanceof StatementHandler) {
+      return prepare(invocation);
+    }
+
+    Object[] args = invocation.getArgs();
+    MappedStatement statement = (MappedStatement) args[0];
+    StatementStats stats = statsFor(statement);
+
+    CountingResultHandler counting = null;
+    if (args.length >= 4 && args[3] != null) {
+      counting = new CountingResultHandler((ResultHandler<?>) args[3]);
+      args[3] = counting;
+    }
+
+    Executing executing = EXECUTING.get();
+    boolean outermost = executing.stats == null;
+    long started = System.nanoTime();
+    if (outermost) {
+      executing.stats = stats;
+      executing.prepared = false;
+      // 이 문장 밖에서 빌린 커넥션의 대기 시간은 버림
+      ReadWriteRoutingDataSource.takeConnectionWaitNanos();
+    }
+
+    boolean failed = true;
+    long rows = -1;
+    try {
+      Object result = invocation.proceed();
+      rows = counting != null ? counting.count : rowsOf(result);
+      failed = false;
+      return result;
+    } finally {
+      long elapsed = System.nanoTime() - started;
+      if (outermost) {
+        executing.stats = null;
+      }
+      stats.record(elapsed, rows, failed);
+      if (elapsed >= slowQueryNanos) {
+        stats.slow.increment();
+        logSlow(statement, args, elapsed, rows);
+      }
+    }
+  }
+
+  /**
+   * Statement 준비 (지연 커넥션이면 이 안에서 풀 대여가 일어남) 후 바깥쪽 문장의 첫 준비에서 대기 시간 기록
+   */
+  private Object prepare(Invocation invocation) throws Throwable {
+    try {
+      return invocation.proceed();
+    } finally {
+      Executing executing = EXECUTING.get();
+      if (executing.stats != null && !executing.prepared) {
+        long waitNanos = ReadWriteRoutingDataSource.takeConnectionWaitNanos();
+        executing.stats.recordConnectionWait(Math.max(waitNanos, 0));
+        executing.prepared = true;
+      }
+    }
+  }
+
+  /**
+   * 문장별 요약 (정렬 기준: total, max, count, mean, rows, wait)
+   * @param sort 정렬 기준
+   * @param limit 최대 개수 (0 이하면 전체)
+   */
+  public List<Map<String, Object>> getSummary(String sort, int limit) {
+    List<Map<String, Object>> summary = new ArrayList<>();
+    for (StatementStats stats : statements.values()) {
+      summary.add(stats.toMap());
+    }
+
+    String key;
+    switch (sort == null ? "total" : sort.toLowerCase(Locale.ROOT)) {
+      case "max": key = "maxMillis"; break;
+      case "count": key = "count"; break;
+      case "mean": key = "meanMillis"; break;
+      case "rows": key = "rows"; break;
+      case "wait": key = "connectionWaitMeanMillis"; break;
+      default: key = "totalMillis"; break;
+    }
+    summary.sort(Comparator.comparingDouble((Map<String, Object> row) -> ((Number) row.get(key)).doubleValue()).reversed());
+
+    return limit > 0 && summary.size() > limit ? new ArrayList<>(summary.subList(0, limit)) : summary;
+  }
+
+  /**
+   * 기록된 문장 요약을 비웁니다.
+   */
+  public void reset() {
+    statements.clear();
+  }
+
+  private StatementStats statsFor(MappedStatement statement) {
+    StatementStats stats = statements.get(statement.getId());
+    if (stats == null) {
+      stats = statements.computeIfAbsent(statement.getId(), StatementStats::new);
+    }
+    return stats;
+  }
+
+  private static long rowsOf(Object result) {
+    if (result instanceof Collection) {
+      return ((Collection<?>) result).size();
+    }
+    if (result instanceof Integer) {
+      int affected = (Integer) result;
+      // BATCH 실행기는 실행 전이라 음수 표식을 반환
+      return affected >= 0 ? affected : -1;
+    }
+    return -1;
+  }
+
+  private void logSlow(MappedStatement statement, Object[] args, long elapsedNanos, long rows) {
+    if (!log.isWarnEnabled()) {
+      return;
+    }
+    try {
+      BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(args[1]);
+      log.warn("느린 SQL {} {}ms (행 {}): {} | 파라미터 {}", statement.getId(),
+              TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows,
+              boundSql.getSql().replaceAll("\\s+", " ").trim(),
+              maskedParameters(statement.getConfiguration(), boundSql, args[1]));
+    } catch (RuntimeException e) {
+      log.warn("느린 SQL {} {}ms (행 {}, 파라미터 확인 실패: {})", statement.getId(),
+              TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows, e.getMessage());
+    }
+  }
+
+  /**
+   * 바인딩 파라미터를 "이름=값" 목록으로 만듭니다 (DefaultParameterHandler 와 같은 순서/방식으로 값 조회).
+   */
+  static Map<String, String> maskedParameters(Configuration configuration, BoundSql boundSql, Object parameterObject) {
+    Map<String, String> values = new LinkedHashMap<>();
+    MetaObject meta = null;
+    for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+      if (mapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = mapping.getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameterObject == null) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+        value = parameterObject;
+      } else {
+        if (meta == null) {
+          meta = configuration.newMetaObject(parameterObject);
+        }
+        value = meta.getValue(property);
+      }
+      values.put(property, mask(property, value));
+    }
+    return values;
+  }
+
+  /**
+   * 파라미터 이름으로 민감 정보를 판단하여 가립니다.
+   */
+  static String mask(String property, Object value) {
+    if (value == null) {
+      return "null";
+    }
+    String name = property.toLowerCase(Locale.ROOT);
+    String text = String.valueOf(value);
+
+    if (name.contains("password") || name.contains("token") || name.contains("secret")) {
+      return "****";
+    }
+    if (name.contains("email")) {
+      int at = text.indexOf('@');
+      return at > 0 ? text.substring(0, Math.min(2, at)) + "***" + text.substring(at) : "***";
+    }
+    if (name.contains("phone")) {
+      return text.length() > 4 ? "***" + text.substring(text.length() - 4) : "***";
+    }
+    if (name.contains("name")) {
+      return text.isEmpty() ? text : text.substring(0, 1) + "***";
+    }
+    return text.length() > MAX_LOGGED_VALUE_LENGTH ? text.substring(0, MAX_LOGGED_VALUE_LENGTH) + "..." : text;
+  }
+
+  /**
+   * 스레드에서 실행 중인 바깥쪽 문장 (커넥션 대기를 이미 기록했는지)
+   */
+  private static final class Executing {
+    StatementStats stats;
+    boolean prepared;
+  }
+
+  /**
+   * 매핑 문장 하나의 누적 기록
+   */
+  private static final class StatementStats {
+    final String id;
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LongAdder rows = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder slow = new LongAdder();
+    final LongAdder connectionWaits = new LongAdder();
+    final LongAdder connectionWaitNanos = new LongAdder();
+    final AtomicLong maxConnectionWaitNanos = new AtomicLong();
+
+    StatementStats(String id) {
+      this.id = id;
+    }
+
+    void record(long elapsedNanos, long rowCount, boolean failed) {
+      latency.recordNanos(elapsedNanos);
+      if (rowCount > 0) {
+        rows.add(rowCount);
+      }
+      if (failed) {
+        errors.increment();
+      }
+    }
+
+    void recordConnectionWait(long waitNanos) {
+      connectionWaits.increment();
+      connectionWaitNanos.add(waitNanos);
+      long max = maxConnectionWaitNanos.get();
+      while (waitNanos > max && !maxConnectionWaitNanos.compareAndSet(max, waitNanos)) {
+        max = maxConnectionWaitNanos.get();
+      }
+    }
+
+    Map<String, Object> toMap() {
+      LatencyHistogram.Snapshot snapshot = latency.snapshot();
+      long count = snapshot.getCount();
+      long waits = connectionWaits.sum();
+
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("statement", id);
+      map.put("count", count);
+      map.put("errors", errors.sum());
+      map.put("slow", slow.sum());
+      map.put("totalMillis", snapshot.getSumMicros() / 1000.0);
+      map.put("meanMillis", snapshot.getMeanMicros() / 1000.0);
+      map.put("p50Millis", snapshot.percentileMicros(50) / 1000.0);
+      map.put("p99Millis", snapshot.percentileMicros(99) / 1000.0);
+      map.put("maxMillis", snapshot.getMaxMicros() / 1000.0);
+      map.put("rows", rows.sum());
+      map.put("rowsPerCall", count > 0 ? (double) rows.sum() / count : 0.0);
+      map.put("connectionWaitMeanMillis", waits > 0 ? connectionWaitNanos.sum() / waits / 1_000_000.0 : 0.0);
+      map.put("connectionWaitMaxMillis", maxConnectionWaitNanos.get() / 1_000_000.0);
+      return map;
+    }
+  }
+
+  /**
+   * ResultHandler 로 받는 조회(스트리밍)의 행 수를 세기 위한 래퍼
+   */
+  private static final class CountingResultHandler implements ResultHandler<Object> {
+    private final ResultHandler<Object> delegate;
+    long count;
+
+    @SuppressWarnings("unchecked")
+    CountingResultHandler(ResultHandler<?> delegate) {
+      this.delegate = (ResultHandler<Object>) delegate;
+    }
+
+    @Override
+    public void handleResult(ResultContext<?> context) {
+      count++;
+      delegate.handleResult(context);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.procore.service;
+
+import com.procore.vo.MemberSearchCondition;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public interface MemberExportService {
+
+  /**
+   * 내보내기 형식
+   */
+  enum Format {
+    /** 첫 줄 헤더 + 쉼표 구분 (RFC 4180 따옴표 처리) */
+    CSV,
+    /** 한 줄에 JSON 객체 하나 */
+    NDJSON
+  }
+
+  /**
+   * 내보낼 수 있는 필드 이름 (비밀번호 제외)
+   */
+  List<String> getExportableFields();
+
+  /**
+   * 기본으로 내보내는 필드 이름
+   */
+  List<String> getDefaultFields();
+
+  /**
+   * 조건에 맞는 회원을 회원 번호 순으로 읽으면서 바로 out 에 씁니다.
+   * 결과를 메모리에 모으지 않으므로 회원 수와 관계없이 사용하는 메모리가 일정합니다.
+   * @param condition 검색 조건 (status, 이메일/닉네임 접두어, 가입 일시 범위만 사용)
+   * @param fields 내보낼 필드 이름 (null 또는 비어 있으면 기본 필드)
+   * @param format 형식
+   * @param out 출력 대상 (호출자가 닫음)
+   * @return 내보낸 행 수
+   * @throws IllegalArgumentException 알 수 없는 필드 (출력 전에 검사)
+   * @throws IOException 출력 실패 (클라이언트 연결 종료 등)
+   */
+  long exportMembers(MemberSearchCondition condition, List<String> fields, Format format, Writer out) throws IOException;
+}
@@ -0,0 +1,62 @@
+package com.procore.service;
+
+import com.procore.vo.MemberVO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+public interface MemberImportService {
+
+  /**
+   * 회원을 일괄 등록합니다. 입력은 청크 단위로 읽어 처리하며,
+   * 검증 실패나 중복 행은 건너뛰고 나머지는 계속 등록합니다.
+   * @param members 등록할 회원 (password 는 원본 비밀번호)
+   * @return 처리 결과 (등록 건수와 실패한 행 목록)
+   */
+  ImportResult importMembers(Iterator<MemberVO> members);
+
+  /**
+   * 일괄 등록 결과
+   */
+  class ImportResult {
+    private int total;
+    private int imported;
+    private final List<RowFailure> failures = new ArrayList<>();
+    private long elapsedMillis;
+
+    public void addTotal(int count) { total += count; }
+    public void addImported(int count) { imported += count; }
+    public void addFailure(RowFailure failure) { failures.add(failure); }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public int getTotal() { return total; }
+    public int getImported() { return imported; }
+    public int getFailed() { return failures.size(); }
+    public List<RowFailure> getFailures() { return Collections.unmodifiableList(failures); }
+    public long getElapsedMillis() { return elapsedMillis; }
+  }
+
+  /**
+   * 등록하지 못한 행 (입력 순서 기준 행 번호, 원인 필드, 사유)
+   */
+  class RowFailure {
+    private final int row;
+    private final String email;
+    private final String field;
+    private final String reason;
+
+    public RowFailure(int row, String email, String field, String reason) {
+      this.row = row;
+      this.email = email;
+      this.field = field;
+      this.reason = reason;
+    }
+
+    public int getRow() { return row; }
+    public String getEmail() { return email; }
+    public String getField() { return field; }
+    public String getReason() { return reason; }
+  }
+}
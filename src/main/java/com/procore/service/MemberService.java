@@ -1,16 +1,150 @@
 package com.procore.service;
 
+import com.procore.util.PasswordSecurityUtil.PasswordStrength;
+import com.procore.util.PasswordSecurityUtil.PasswordValidationResult;
+import com.procore.vo.MemberSearchCondition;
+import com.procore.vo.MemberStatus;
 import com.procore.vo.MemberVO;
 
+import java.util.List;
+
 public interface MemberService {
 
-  boolean registerMember(MemberVO memberVO);
+  RegistrationResult registerMember(MemberVO memberVO, String ipAddress);
 
-  MemberVO login(String email, String password);
+  /**
+   * @return 인증된 회원, 이메일/비밀번호가 맞지 않으면 null
+   * @throws com.procore.util.LoginRateLimiter.RateLimitedException 최근 실패가 많은 IP/이메일
+   * @throws com.procore.util.PasswordHashingExecutor.HashingRejectedException 해시 풀 과부하로 검증하지 못함
+   */
+  MemberVO login(String email, String password, String ipAddress);
 
   int updateMember(MemberVO memberVO);
 
+  int deleteMember(Long memberId);
+
+  boolean changeNickname(Long memberId, String nickname);
+
   boolean checkDuplicateEmail(String email);
 
   boolean checkDuplicateNickname(String nickname);
-}
\ No newline at end of file
+
+  /**
+   * 가입 사전 확인 (이메일/닉네임/전화번호 사용 여부는 한 번의 조회로, 비밀번호 검증은 그와 동시에)
+   * null 인 항목은 확인하지 않으며, 형식 검증은 호출자가 먼저 합니다.
+   * @return 항목별 결과 (확인하지 않은 항목은 null)
+   */
+  RegistrationPrecheck precheckRegistration(String email, String nickname, String phone, String password);
+
+  /**
+   * 회원의 현재 상태 (로그인 토큰 갱신 전 확인용, 주 DB 조회)
+   * @return 상태, 회원이 없으면 null
+   */
+  MemberStatus findMemberStatus(Long memberId);
+
+  /**
+   * 관리자 권한 확인 (회원과 같은 이메일의 활성 관리자 계정이 있는지, 주 DB 조회)
+   */
+  boolean isAdmin(Long memberId);
+
+  /**
+   * 관리자 회원 검색 (가입 일시 최신순, 키셋 페이지네이션)
+   * @param condition 검색 조건 (limit, after* 값은 무시하고 cursor/size 로 정함)
+   * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+   * @param size 페이지 크기
+   * @throws IllegalArgumentException cursor 형식이 잘못된 경우
+   */
+  MemberPage searchMembers(MemberSearchCondition condition, String cursor, int size);
+
+  /**
+   * 회원 검색 한 페이지 (비밀번호 제외)
+   */
+  class MemberPage {
+    private final List<MemberVO> members;
+    private final String nextCursor;
+
+    public MemberPage(List<MemberVO> members, String nextCursor) {
+      this.members = members;
+      this.nextCursor = nextCursor;
+    }
+
+    public List<MemberVO> getMembers() { return members; }
+
+    /** 다음 페이지 커서, 마지막 페이지면 null */
+    public String getNextCursor() { return nextCursor; }
+  }
+
+  /**
+   * 가입 사전 확인 결과 (확인하지 않은 항목은 null)
+   */
+  class RegistrationPrecheck {
+    private final Boolean emailAvailable;
+    private final Boolean nicknameAvailable;
+    private final Boolean phoneAvailable;
+    private final PasswordValidationResult passwordValidation;
+    private final PasswordStrength passwordStrength;
+
+    public RegistrationPrecheck(Boolean emailAvailable, Boolean nicknameAvailable, Boolean phoneAvailable,
+                                PasswordValidationResult passwordValidation, PasswordStrength passwordStrength) {
+      this.emailAvailable = emailAvailable;
+      this.nicknameAvailable = nicknameAvailable;
+      this.phoneAvailable = phoneAvailable;
+      this.passwordValidation = passwordValidation;
+      this.passwordStrength = passwordStrength;
+    }
+
+    public Boolean getEmailAvailable() { return emailAvailable; }
+    public Boolean getNicknameAvailable() { return nicknameAvailable; }
+    public Boolean getPhoneAvailable() { return phoneAvailable; }
+    public PasswordValidationResult getPasswordValidation() { return passwordValidation; }
+
+    /** 비밀번호가 유효할 때만 평가 */
+    public PasswordStrength getPasswordStrength() { return passwordStrength; }
+  }
+
+  /**
+   * 회원가입 결과 (실패 시 원인과 중복된 필드)
+   */
+  class RegistrationResult {
+    private final RegistrationStatus status;
+    private final String message;
+
+    public RegistrationResult(RegistrationStatus status, String message) {
+      this.status = status;
+      this.message = message;
+    }
+
+    public static RegistrationResult of(RegistrationStatus status) {
+      return new RegistrationResult(status, status.getMessage());
+    }
+
+    public boolean isSuccess() { return status == RegistrationStatus.SUCCESS; }
+    public RegistrationStatus getStatus() { return status; }
+    public String getMessage() { return message; }
+
+    /** 중복된 필드 이름 (email, nickname, phone), 중복이 아니면 null */
+    public String getConflictField() { return status.getField(); }
+  }
+
+  enum RegistrationStatus {
+    SUCCESS(null, "회원가입이 완료되었습니다."),
+    INVALID_PASSWORD(null, "비밀번호가 보안 기준을 만족하지 않습니다."),
+    DUPLICATE_EMAIL("email", "이미 사용 중인 이메일입니다."),
+    DUPLICATE_NICKNAME("nickname", "이미 사용 중인 닉네임입니다."),
+    DUPLICATE_PHONE("phone", "이미 사용 중인 전화번호입니다."),
+    BUSY(null, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    RATE_LIMITED(null, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    FAILED(null, "회원가입에 실패했습니다. 입력 정보를 다시 확인해주세요.");
+
+    private final String field;
+    private final String message;
+
+    RegistrationStatus(String field, String message) {
+      this.field = field;
+      this.message = message;
+    }
+
+    public String getField() { return field; }
+    public String getMessage() { return message; }
+  }
+}
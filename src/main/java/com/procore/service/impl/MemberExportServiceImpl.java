@@ -0,0 +1,275 @@
+package com.procore.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.procore.mapper.MemberMapper;
+import com.procore.service.MemberExportService;
+import com.procore.vo.MemberSearchCondition;
+import com.procore.vo.MemberVO;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 회원 내보내기 (MyBatis Cursor + MySQL 스트리밍 조회)
+ *
+ * fetchSize=Integer.MIN_VALUE 로 MySQL 드라이버가 행을 하나씩 받아오게 하고, 읽은 행은 바로 출력한 뒤 버립니다.
+ * 커서는 트랜잭션(= 커넥션)이 열려 있는 동안만 읽을 수 있으므로 출력까지 읽기 전용 트랜잭션 안에서 끝냅니다.
+ * 스트리밍 중에는 같은 커넥션으로 다른 SQL 을 실행할 수 없고, 느린 클라이언트는 그만큼 커넥션을 오래 잡습니다.
+ *
+ * 필드는 허용 목록에 있는 것만 SELECT 하므로 요청하지 않은 컬럼은 DB 에서 읽지도 않습니다.
+ */
+@Service
+public class MemberExportServiceImpl implements MemberExportService {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberExportServiceImpl.class);
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory()
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+  private static final List<String> DEFAULT_FIELDS = Collections.unmodifiableList(Arrays.asList(
+          "memberId", "email", "nickname", "name", "phone", "status", "createdAt"));
+
+  @Autowired
+  private MemberMapper memberMapper;
+
+  /** 이 행 수마다 출력을 비워 클라이언트로 보냅니다 */
+  @Value("${member.export.flush-rows:1000}")
+  private int flushRows;
+
+  @Override
+  public List<String> getExportableFields() {
+    return ExportField.NAMES;
+  }
+
+  @Override
+  public List<String> getDefaultFields() {
+    return DEFAULT_FIELDS;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long exportMembers(MemberSearchCondition condition, List<String> fields, Format format, Writer out)
+          throws IOException {
+    List<ExportField> exportFields = resolveFields(fields);
+    List<String> columns = new ArrayList<>(exportFields.size());
+    for (ExportField field : exportFields) {
+      columns.add(field.column);
+    }
+
+    condition.setEmailPrefix(MemberSearchCondition.likePrefix(condition.getEmailPrefix()));
+    condition.setNicknamePrefix(MemberSearchCondition.likePrefix(condition.getNicknamePrefix()));
+
+    long started = System.currentTimeMillis();
+    long rows = 0;
+    RowWriter writer = format == Format.NDJSON ? new NdjsonRowWriter(out) : new CsvRowWriter(out);
+
+    try (Cursor<MemberVO> cursor = memberMapper.selectMembersForExport(condition, columns)) {
+      writer.start(exportFields);
+      for (MemberVO member : cursor) {
+        writer.write(exportFields, member);
+        if (++rows % flushRows == 0) {
+          writer.flush();
+        }
+      }
+      writer.finish();
+    }
+
+    log.info("회원 내보내기 완료: format={}, fields={}, rows={}, {}ms",
+            format, columns.size(), rows, System.currentTimeMillis() - started);
+    return rows;
+  }
+
+  // === Private Helper Methods ===
+
+  private static List<ExportField> resolveFields(List<String> fields) {
+    if (fields == null || fields.isEmpty()) {
+      fields = DEFAULT_FIELDS;
+    }
+    List<ExportField> resolved = new ArrayList<>(fields.size());
+    for (String name : fields) {
+      ExportField field = ExportField.BY_NAME.get(name.trim());
+      if (field == null) {
+        throw new IllegalArgumentException("내보낼 수 없는 필드: " + name);
+      }
+      if (!resolved.contains(field)) {
+        resolved.add(field);
+      }
+    }
+    return resolved;
+  }
+
+  /**
+   * 내보낼 수 있는 필드 (이름, 컬럼, 값)
+   */
+  private enum ExportField {
+    MEMBER_ID("memberId", "member_id", MemberVO::getMemberId),
+    EMAIL("email", "email", MemberVO::getEmail),
+    NICKNAME("nickname", "nickname", MemberVO::getNickname),
+    NICKNAME_CHANGED_AT("nicknameChangedAt", "nickname_changed_at", MemberVO::getNicknameChangedAt),
+    NAME("name", "name", MemberVO::getName),
+    PHONE("phone", "phone", MemberVO::getPhone),
+    ADDRESS("address", "address", MemberVO::getAddress),
+    STATUS("status", "status", MemberVO::getStatus),
+    CREATED_AT("createdAt", "created_at", MemberVO::getCreatedAt),
+    UPDATED_AT("updatedAt", "updated_at", MemberVO::getUpdatedAt);
+
+    static final Map<String, ExportField> BY_NAME;
+    static final List<String> NAMES;
+
+    static {
+      Map<String, ExportField> byName = new LinkedHashMap<>();
+      for (ExportField field : values()) {
+        byName.put(field.fieldName, field);
+      }
+      BY_NAME = Collections.unmodifiableMap(byName);
+      NAMES = Collections.unmodifiableList(new ArrayList<>(byName.keySet()));
+    }
+
+    final String fieldName;
+    final String column;
+    final Function<MemberVO, Object> getter;
+
+    ExportField(String fieldName, String column, Function<MemberVO, Object> getter) {
+      this.fieldName = fieldName;
+      this.column = column;
+      this.getter = getter;
+    }
+
+    /** 값의 문자열 표현 (일시는 ISO, 상태는 이름, 없으면 null) */
+    String text(MemberVO member) {
+      Object value = getter.apply(member);
+      return value != null ? value.toString() : null;
+    }
+  }
+
+  /**
+   * 형식별 행 출력
+   */
+  private interface RowWriter {
+    void start(List<ExportField> fields) throws IOException;
+    void write(List<ExportField> fields, MemberVO member) throws IOException;
+    void flush() throws IOException;
+    void finish() throws IOException;
+  }
+
+  /**
+   * CSV (쉼표, 따옴표, 줄바꿈이 있는 값만 따옴표로 감쌈, 없는 값은 빈 칸)
+   */
+  private static final class CsvRowWriter implements RowWriter {
+    private final Writer out;
+
+    CsvRowWriter(Writer out) {
+      this.out = out;
+    }
+
+    @Override
+    public void start(List<ExportField> fields) throws IOException {
+      for (int i = 0; i < fields.size(); i++) {
+        if (i > 0) {
+          out.write(',');
+        }
+        out.write(fields.get(i).fieldName);
+      }
+      out.write("\r\n");
+    }
+
+    @Override
+    public void write(List<ExportField> fields, MemberVO member) throws IOException {
+      for (int i = 0; i < fields.size(); i++) {
+        if (i > 0) {
+          out.write(',');
+        }
+        String value = fields.get(i).text(member);
+        if (value != null) {
+          writeValue(value);
+        }
+      }
+      out.write("\r\n");
+    }
+
+    private void writeValue(String value) throws IOException {
+      boolean quote = false;
+      for (int i = 0; i < value.length() && !quote; i++) {
+        char c = value.charAt(i);
+        quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+      }
+      if (!quote) {
+        out.write(value);
+        return;
+      }
+      out.write('"');
+      out.write(value.replace("\"", "\"\""));
+      out.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+      out.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+      out.flush();
+    }
+  }
+
+  /**
+   * NDJSON (행마다 {"필드":값,...} 한 줄, 없는 값은 null)
+   */
+  private static final class NdjsonRowWriter implements RowWriter {
+    private final JsonGenerator generator;
+
+    NdjsonRowWriter(Writer out) throws IOException {
+      this.generator = JSON_FACTORY.createGenerator(out);
+      this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void start(List<ExportField> fields) {
+    }
+
+    @Override
+    public void write(List<ExportField> fields, MemberVO member) throws IOException {
+      generator.writeStartObject();
+      for (ExportField field : fields) {
+        if (field == ExportField.MEMBER_ID) {
+          Long memberId = member.getMemberId();
+          if (memberId != null) {
+            generator.writeNumberField(field.fieldName, memberId);
+          } else {
+            generator.writeNullField(field.fieldName);
+          }
+        } else {
+          generator.writeStringField(field.fieldName, field.text(member));
+        }
+      }
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+      generator.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+      generator.close();
+    }
+  }
+}
@@ -0,0 +1,384 @@
+package com.procore.service.impl;
+
+import com.procore.mapper.MemberMapper;
+import com.procore.service.MemberImportService;
+import com.procore.service.MemberService.RegistrationStatus;
+import com.procore.util.AvailabilityCheckCoalescer;
+import com.procore.util.MemberAvailabilityIndex;
+import com.procore.util.MemberLoginCache;
+import com.procore.util.PasswordHashingExecutor;
+import com.procore.util.PasswordHashingExecutor.HashingRejectedException;
+import com.procore.util.PasswordSecurityUtil;
+import com.procore.util.PasswordSecurityUtil.PasswordValidationResult;
+import com.procore.vo.MemberStatus;
+import com.procore.vo.MemberVO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+/**
+ * 회원 일괄 등록 (조직 단위 계정 이전용)
+ *
+ * 입력을 청크 단위로 읽어 다음 순서로 처리합니다.
+ * 1. 행별 형식/비밀번호 검증
+ * 2. 청크 안 중복과 DB 중복을 한 번의 조회로 확인
+ * 3. 비밀번호를 로그인/가입과 같은 해시 풀(PasswordHashingExecutor)에서 최대 hash-parallelism 건씩 겹쳐 해시
+ * 4. 다중 행 INSERT 한 번으로 저장, 실패하면 행 단위로 다시 저장하여 충돌한 행만 제외
+ *
+ * 실패한 행은 결과에 기록하고 나머지는 계속 등록합니다.
+ * 해시 풀이 가득 차면 앞선 해시가 끝날 때까지 기다렸다가 넣으므로 로그인/가입의 자리를 다 차지하지 않으며,
+ * 제한 시간 안에 해시하지 못한 행은 실패로 기록합니다.
+ * 트랜잭션 없이 청크별 INSERT 가 각각 커밋되므로 중간에 중단되어도 이미 등록된 청크는 유지됩니다.
+ */
+@Service
+public class MemberImportServiceImpl implements MemberImportService {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberImportServiceImpl.class);
+
+  private static final String BUSY_REASON = "요청이 많아 비밀번호를 처리하지 못했습니다. 이 행만 다시 등록해주세요.";
+
+  /** 해시 풀이 가득 찼고 기다릴 해시도 없을 때 다시 넣기 전 대기 시간 */
+  private static final long HASH_RETRY_MILLIS = 50;
+
+  /** 해시 풀이 계속 가득 차 있으면 이 시간 후 행을 실패로 기록 */
+  private static final long HASH_RETRY_LIMIT_MILLIS = 3000;
+
+  @Autowired
+  private MemberMapper memberMapper;
+
+  @Autowired
+  private PasswordSecurityUtil passwordSecurityUtil;
+
+  @Autowired
+  private PasswordHashingExecutor passwordHashingExecutor;
+
+  @Autowired
+  private MemberAvailabilityIndex memberAvailabilityIndex;
+
+  @Autowired
+  private AvailabilityCheckCoalescer availabilityCheckCoalescer;
+
+  @Autowired
+  private MemberLoginCache memberLoginCache;
+
+  @Value("${member.import.chunk-size:500}")
+  private int chunkSize;
+
+  /** 해시 풀에 동시에 넣을 최대 건수, 0 이면 CPU 코어 수의 절반 (나머지는 로그인/가입 몫) */
+  @Value("${member.import.hash-parallelism:0}")
+  private int hashParallelism;
+
+  private int hashWindow() {
+    return hashParallelism > 0 ? hashParallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+  }
+
+  @Override
+  public ImportResult importMembers(Iterator<MemberVO> members) {
+    log.debug("회원 일괄 등록 시작 (청크 {}건, 해시 동시 {}건)", chunkSize, hashWindow());
+    long started = System.currentTimeMillis();
+    ImportResult result = new ImportResult();
+
+    List<ImportRow> chunk = new ArrayList<>(chunkSize);
+    int row = 0;
+    while (members.hasNext()) {
+      chunk.add(new ImportRow(++row, members.next()));
+      if (chunk.size() >= chunkSize) {
+        importChunk(chunk, result);
+        chunk = new ArrayList<>(chunkSize);
+      }
+    }
+    if (!chunk.isEmpty()) {
+      importChunk(chunk, result);
+    }
+
+    result.setElapsedMillis(System.currentTimeMillis() - started);
+    log.info("회원 일괄 등록 완료: 전체 {}건, 등록 {}건, 실패 {}건 ({}ms)",
+            result.getTotal(), result.getImported(), result.getFailed(), result.getElapsedMillis());
+    return result;
+  }
+
+  private void importChunk(List<ImportRow> chunk, ImportResult result) {
+    result.addTotal(chunk.size());
+
+    // 1. 형식/비밀번호 검증 및 청크 안 중복 제거
+    List<ImportRow> rows = new ArrayList<>(chunk.size());
+    Set<String> emails = new HashSet<>();
+    Set<String> nicknames = new HashSet<>();
+    Set<String> phones = new HashSet<>();
+    for (ImportRow row : chunk) {
+      RowFailure failure = validate(row);
+      if (failure == null) {
+        failure = claimKeys(row, emails, nicknames, phones);
+      }
+      if (failure != null) {
+        result.addFailure(failure);
+      } else {
+        rows.add(row);
+      }
+    }
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    // 2. DB 중복 확인 (한 번의 조회)
+    rows = excludeExisting(rows, emails, nicknames, phones, result);
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    // 3. 비밀번호 해시 (해시 풀에서 겹쳐 실행)
+    rows = hashPasswords(rows, result);
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    // 4. 저장
+    List<MemberVO> members = new ArrayList<>(rows.size());
+    for (ImportRow row : rows) {
+      members.add(row.member);
+    }
+    try {
+      memberMapper.insertMembers(members);
+      result.addImported(rows.size());
+      for (MemberVO member : members) {
+        memberAvailabilityIndex.add(member);
+        availabilityCheckCoalescer.invalidate(member);
+        memberLoginCache.invalidate(member.getEmail());
+      }
+    } catch (DataAccessException e) {
+      // 조회 이후 다른 가입과 충돌했거나 일부 행이 제약을 위반한 경우 행 단위로 다시 저장
+      log.info("일괄 INSERT 실패, 행 단위로 재시도: {}", e.getMostSpecificCause().getMessage());
+      insertOneByOne(rows, result);
+    }
+
+    log.debug("회원 일괄 등록 진행: {}건 처리, {}건 등록", result.getTotal(), result.getImported());
+  }
+
+  /**
+   * 행의 비밀번호를 해시 풀에서 해시합니다. 최대 hashWindow() 건을 넣어 두고 앞선 것부터 결과를 받습니다.
+   * @return 해시된 행, 해시 풀 과부하로 해시하지 못한 행은 실패로 기록하고 제외
+   */
+  private List<ImportRow> hashPasswords(List<ImportRow> rows, ImportResult result) {
+    int window = hashWindow();
+    List<ImportRow> hashed = new ArrayList<>(rows.size());
+    Deque<ImportRow> inFlightRows = new ArrayDeque<>(window);
+    Deque<Future<String>> inFlight = new ArrayDeque<>(window);
+
+    for (ImportRow row : rows) {
+      if (inFlight.size() >= window) {
+        awaitHash(inFlightRows.poll(), inFlight.poll(), hashed, result);
+      }
+      Future<String> future = submitHash(row, inFlightRows, inFlight, hashed, result);
+      if (future != null) {
+        inFlightRows.add(row);
+        inFlight.add(future);
+      }
+    }
+    while (!inFlight.isEmpty()) {
+      awaitHash(inFlightRows.poll(), inFlight.poll(), hashed, result);
+    }
+    return hashed;
+  }
+
+  /**
+   * 해시 풀에 넣습니다. 가득 차 있으면 앞선 해시를 받거나 잠시 기다린 뒤 다시 넣습니다.
+   * @return 넣은 작업, 제한 시간 동안 넣지 못하면 행을 실패로 기록하고 null
+   */
+  private Future<String> submitHash(ImportRow row, Deque<ImportRow> inFlightRows, Deque<Future<String>> inFlight,
+                                    List<ImportRow> hashed, ImportResult result) {
+    long deadline = System.currentTimeMillis() + HASH_RETRY_LIMIT_MILLIS;
+    while (true) {
+      try {
+        return passwordHashingExecutor.submitHashPassword(row.member.getPassword());
+      } catch (HashingRejectedException e) {
+        if (!inFlight.isEmpty()) {
+          awaitHash(inFlightRows.poll(), inFlight.poll(), hashed, result);
+          continue;
+        }
+        if (System.currentTimeMillis() >= deadline) {
+          result.addFailure(new RowFailure(row.row, row.member.getEmail(), "password", BUSY_REASON));
+          return null;
+        }
+        try {
+          Thread.sleep(HASH_RETRY_MILLIS);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          result.addFailure(new RowFailure(row.row, row.member.getEmail(), "password", BUSY_REASON));
+          return null;
+        }
+      }
+    }
+  }
+
+  private void awaitHash(ImportRow row, Future<String> future, List<ImportRow> hashed, ImportResult result) {
+    try {
+      row.member.setPassword(passwordHashingExecutor.await(future));
+      hashed.add(row);
+    } catch (HashingRejectedException e) {
+      result.addFailure(new RowFailure(row.row, row.member.getEmail(), "password", BUSY_REASON));
+    }
+  }
+
+  private void insertOneByOne(List<ImportRow> rows, ImportResult result) {
+    for (ImportRow row : rows) {
+      try {
+        memberMapper.insertMember(row.member);
+        result.addImported(1);
+        memberAvailabilityIndex.add(row.member);
+        availabilityCheckCoalescer.invalidate(row.member);
+        memberLoginCache.invalidate(row.member.getEmail());
+      } catch (DuplicateKeyException e) {
+        RegistrationStatus status = MemberServiceImpl.duplicateStatusOf(e);
+        result.addFailure(new RowFailure(row.row, row.member.getEmail(), status.getField(), status.getMessage()));
+      } catch (DataAccessException e) {
+        result.addFailure(new RowFailure(row.row, row.member.getEmail(), null,
+                "저장 중 오류가 발생했습니다: " + e.getMostSpecificCause().getMessage()));
+      }
+    }
+  }
+
+  /**
+   * 이미 사용 중인 값과 충돌하는 행을 제외합니다.
+   * DB 비교 규칙(utf8mb4_unicode_ci)에 맞춰 소문자로 비교하며, 놓친 충돌은 저장 단계에서 걸러집니다.
+   */
+  private List<ImportRow> excludeExisting(List<ImportRow> rows, Set<String> emails, Set<String> nicknames,
+                                          Set<String> phones, ImportResult result) {
+    List<MemberVO> existing = memberMapper.selectExistingKeys(emails, nicknames, phones);
+    if (existing.isEmpty()) {
+      return rows;
+    }
+
+    Set<String> existingEmails = new HashSet<>();
+    Set<String> existingNicknames = new HashSet<>();
+    Set<String> existingPhones = new HashSet<>();
+    for (MemberVO member : existing) {
+      addKey(existingEmails, member.getEmail());
+      addKey(existingNicknames, member.getNickname());
+      addKey(existingPhones, member.getPhone());
+    }
+
+    List<ImportRow> remaining = new ArrayList<>(rows.size());
+    for (ImportRow row : rows) {
+      MemberVO member = row.member;
+      RegistrationStatus duplicate = null;
+      if (existingEmails.contains(key(member.getEmail()))) {
+        duplicate = RegistrationStatus.DUPLICATE_EMAIL;
+      } else if (existingNicknames.contains(key(member.getNickname()))) {
+        duplicate = RegistrationStatus.DUPLICATE_NICKNAME;
+      } else if (member.getPhone() != null && existingPhones.contains(key(member.getPhone()))) {
+        duplicate = RegistrationStatus.DUPLICATE_PHONE;
+      }
+
+      if (duplicate != null) {
+        result.addFailure(new RowFailure(row.row, member.getEmail(), duplicate.getField(), duplicate.getMessage()));
+      } else {
+        remaining.add(row);
+      }
+    }
+    return remaining;
+  }
+
+  /**
+   * 행의 이메일/닉네임/전화번호를 청크 안에서 선점합니다.
+   * @return 앞선 행과 중복이면 실패 정보, 아니면 null
+   */
+  private RowFailure claimKeys(ImportRow row, Set<String> emails, Set<String> nicknames, Set<String> phones) {
+    MemberVO member = row.member;
+    String field = null;
+    if (emails.contains(key(member.getEmail()))) {
+      field = "email";
+    } else if (nicknames.contains(key(member.getNickname()))) {
+      field = "nickname";
+    } else if (member.getPhone() != null && phones.contains(key(member.getPhone()))) {
+      field = "phone";
+    }
+    if (field != null) {
+      return new RowFailure(row.row, member.getEmail(), field, "파일 안에서 앞선 행과 중복됩니다.");
+    }
+
+    emails.add(key(member.getEmail()));
+    nicknames.add(key(member.getNickname()));
+    addKey(phones, member.getPhone());
+    return null;
+  }
+
+  /**
+   * 회원가입과 같은 기준으로 행을 검증하고 값을 정리합니다 (앞뒤 공백 제거, 상태 ACTIVE).
+   * @return 검증 실패 정보, 통과하면 null
+   */
+  private RowFailure validate(ImportRow row) {
+    MemberVO member = row.member;
+    member.setEmail(trimToNull(member.getEmail()));
+    member.setNickname(trimToNull(member.getNickname()));
+    member.setPhone(trimToNull(member.getPhone()));
+    member.setStatus(MemberStatus.ACTIVE);
+
+    String email = member.getEmail();
+    if (email == null || !email.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$")) {
+      return new RowFailure(row.row, email, "email", "올바른 이메일 형식이 아닙니다.");
+    }
+
+    String nickname = member.getNickname();
+    if (nickname == null || nickname.length() < 2 || nickname.length() > 10) {
+      return new RowFailure(row.row, email, "nickname", "닉네임은 2-10자 사이여야 합니다.");
+    }
+    if (!nickname.matches("^[a-zA-Z0-9가-힣_]+$")) {
+      return new RowFailure(row.row, email, "nickname", "닉네임은 영문, 숫자, 한글, 언더스코어만 사용 가능합니다.");
+    }
+
+    if (member.getPhone() != null && !member.getPhone().matches("^\\d{3}-\\d{4}-\\d{4}$")) {
+      return new RowFailure(row.row, email, "phone", "올바른 전화번호 형식이 아닙니다. (예: 010-1234-5678)");
+    }
+
+    PasswordValidationResult validation = passwordSecurityUtil.validatePassword(member.getPassword());
+    if (!validation.isValid()) {
+      return new RowFailure(row.row, email, "password", validation.getMessage());
+    }
+    return null;
+  }
+
+  private static String trimToNull(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.trim();
+    return trimmed.isEmpty() ? null : trimmed;
+  }
+
+  private static String key(String value) {
+    return value == null ? null : value.toLowerCase(Locale.ROOT);
+  }
+
+  private static void addKey(Set<String> keys, String value) {
+    if (value != null) {
+      keys.add(key(value));
+    }
+  }
+
+  /**
+   * 입력 순서 기준 행 번호와 회원 정보
+   */
+  private static final class ImportRow {
+    final int row;
+    final MemberVO member;
+
+    ImportRow(int row, MemberVO member) {
+      this.row = row;
+      this.member = member;
+    }
+  }
+}
@@ -2,133 +2,257 @@ package com.procore.service.impl;
 
 import com.procore.mapper.MemberMapper;
 import com.procore.service.MemberService;
+import com.procore.util.AvailabilityCheckCoalescer;
+import com.procore.util.LoginAttemptRecorder;
+import com.procore.util.LoginRateLimiter;
+import com.procore.util.LoginRateLimiter.RateLimitedException;
+import com.procore.util.MemberAvailabilityIndex;
+import com.procore.util.MemberLoginCache;
+import com.procore.util.MemberSessionTokens;
+import com.procore.util.PasswordAnalysis;
+import com.procore.util.PasswordHashingExecutor;
+import com.procore.util.PasswordHashingExecutor.HashingRejectedException;
 import com.procore.util.PasswordSecurityUtil;
 import com.procore.util.PasswordSecurityUtil.PasswordValidationResult;
+import com.procore.util.ReadWriteRoutingDataSource;
+import com.procore.util.RequestExecutor;
+import com.procore.vo.MemberSearchCondition;
 import com.procore.vo.MemberStatus;
 import com.procore.vo.MemberVO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 @Transactional
 public class MemberServiceImpl implements MemberService {
 
+  private static final Logger log = LoggerFactory.getLogger(MemberServiceImpl.class);
+
+  private static final Pattern DUPLICATE_KEY_PATTERN = Pattern.compile("for key '([^']+)'");
+
+  /** true 이면 중복 사전 확인 없이 바로 INSERT 하고 고유 제약 위반으로 중복을 판단 */
+  @Value("${member.registration.insert-first:true}")
+  private boolean insertFirst;
+
   @Autowired
   private MemberMapper memberMapper;
 
   @Autowired
   private PasswordSecurityUtil passwordSecurityUtil;
 
+  @Autowired
+  private PasswordHashingExecutor passwordHashingExecutor;
+
+  @Autowired
+  private MemberAvailabilityIndex memberAvailabilityIndex;
+
+  @Autowired
+  private AvailabilityCheckCoalescer availabilityCheckCoalescer;
+
+  @Autowired
+  private MemberLoginCache memberLoginCache;
+
+  @Autowired
+  private MemberSessionTokens memberSessionTokens;
+
+  @Autowired
+  private LoginAttemptRecorder loginAttemptRecorder;
+
+  @Autowired
+  private LoginRateLimiter loginRateLimiter;
+
+  @Autowired
+  private ReadWriteRoutingDataSource routingDataSource;
+
+  @Autowired
+  @Qualifier("cpuRequestExecutor")
+  private RequestExecutor cpuRequestExecutor;
+
+  /** 읽기 전용 트랜잭션(복제본) 안에서 쓰기용 새 트랜잭션 (REQUIRES_NEW, 주 DB) */
+  @Autowired
+  private TransactionTemplate writeTransactionTemplate;
+
+  @Autowired
+  private TransactionTemplate readTransactionTemplate;
+
   @Override
-  public boolean registerMember(MemberVO memberVO) {
-    System.out.println("=== 강화된 보안 회원가입 처리 시작 ===");
-    System.out.println("요청 회원 정보: " + memberVO.getEmail() + ", " + memberVO.getNickname());
+  public RegistrationResult registerMember(MemberVO memberVO, String ipAddress) {
+    log.debug("강화된 보안 회원가입 처리 시작");
+    log.debug("요청 회원 정보: {}, {}", memberVO.getEmail(), memberVO.getNickname());
 
     try {
-      // 1. 비밀번호 보안 검증
+      // 0. IP 별 요청 제한 (DB 조회, 해시 전에 거부)
+      loginRateLimiter.acquireRegistration(ipAddress);
+
+      // 1. 비밀번호 보안 검증 (분석 결과는 강도 로깅에 재사용)
+      PasswordAnalysis passwordAnalysis = passwordSecurityUtil.analyze(memberVO.getPassword());
       PasswordValidationResult passwordValidation =
-              passwordSecurityUtil.validatePassword(memberVO.getPassword());
+              passwordSecurityUtil.validatePassword(memberVO.getPassword(), passwordAnalysis);
 
       if (!passwordValidation.isValid()) {
-        System.out.println("회원가입 실패: 비밀번호 보안 기준 미달 - " + passwordValidation.getMessage());
-        return false;
+        log.info("회원가입 실패: 비밀번호 보안 기준 미달 - {}", passwordValidation.getMessage());
+        return new RegistrationResult(RegistrationStatus.INVALID_PASSWORD, passwordValidation.getMessage());
       }
 
       // 2. Status 기본값 설정
       if (memberVO.getStatus() == null) {
         memberVO.setStatus(MemberStatus.ACTIVE);
-        System.out.println("Status 기본값 설정: ACTIVE");
-      }
-
-      // 3. 이메일 중복 체크
-      if (isEmailDuplicate(memberVO.getEmail())) {
-        System.out.println("회원가입 실패: 이메일 중복 - " + memberVO.getEmail());
-        return false;
-      }
-
-      // 4. 닉네임 중복 체크
-      if (isNicknameDuplicate(memberVO.getNickname())) {
-        System.out.println("회원가입 실패: 닉네임 중복 - " + memberVO.getNickname());
-        return false;
+        log.debug("Status 기본값 설정: ACTIVE");
       }
 
-      // 5. 전화번호 중복 체크 (전화번호가 있는 경우만)
-      if (memberVO.getPhone() != null && !memberVO.getPhone().trim().isEmpty()) {
-        if (isPhoneDuplicate(memberVO.getPhone())) {
-          System.out.println("회원가입 실패: 전화번호 중복 - " + memberVO.getPhone());
-          return false;
+      // 3. 중복 사전 확인 (insert-first 모드에서는 생략하고 DB 고유 제약으로 판단)
+      if (!insertFirst) {
+        RegistrationStatus duplicate = findDuplicate(memberVO);
+        if (duplicate != null) {
+          log.info("회원가입 실패: {}", duplicate.getMessage());
+          return RegistrationResult.of(duplicate);
         }
       }
 
-      // 6. 비밀번호 해시화
-      String originalPassword = memberVO.getPassword();
-      String hashedPassword = passwordSecurityUtil.hashPassword(originalPassword);
+      // 4. 비밀번호 해시화 (해시 전용 풀에서 실행)
+      String hashedPassword = passwordHashingExecutor.hashPassword(memberVO.getPassword());
       memberVO.setPassword(hashedPassword);
-      System.out.println("비밀번호 해시화 완료");
+      log.debug("비밀번호 해시화 완료");
 
-      // 7. 회원 등록 실행
-      int result = memberMapper.insertMember(memberVO);
+      // 요청 제한 시간이 지나 인터럽트된 경우 (사용자는 이미 지연 안내를 받음) 쓰기 전에 중단
+      if (Thread.currentThread().isInterrupted()) {
+        log.info("회원가입 중단: 요청 제한 시간 초과 - {}", memberVO.getEmail());
+        return RegistrationResult.of(RegistrationStatus.BUSY);
+      }
 
-      if (result > 0) {
-        System.out.println("강화된 보안 회원가입 성공: " + memberVO.getEmail());
+      // 5. 회원 등록 실행 (동시 가입으로 인한 중복은 고유 제약 위반으로 감지)
+      int result;
+      try {
+        result = memberMapper.insertMember(memberVO);
+      } catch (DuplicateKeyException e) {
+        RegistrationStatus duplicate = duplicateStatusOf(e);
+        log.info("회원가입 실패: {} ({})", duplicate.getMessage(), e.getMostSpecificCause().getMessage());
+        return RegistrationResult.of(duplicate);
+      }
 
-        // 비밀번호 강도 로깅 (개발용)
-        PasswordSecurityUtil.PasswordStrength strength =
-                passwordSecurityUtil.evaluatePasswordStrength(originalPassword);
-        System.out.println("등록된 비밀번호 강도: " + strength.getMessage() + " (" + strength.getScore() + "/5)");
+      if (result > 0) {
+        memberAvailabilityIndex.add(memberVO);
+        availabilityCheckCoalescer.invalidate(memberVO);
+        memberLoginCache.invalidate(memberVO.getEmail());
+        log.info("강화된 보안 회원가입 성공: {}", memberVO.getEmail());
+
+        // 비밀번호 강도 로깅 (개발용, DEBUG 일 때만 평가)
+        if (log.isDebugEnabled()) {
+          PasswordSecurityUtil.PasswordStrength strength =
+                  passwordSecurityUtil.evaluatePasswordStrength(passwordAnalysis);
+          log.debug("등록된 비밀번호 강도: {} ({}/5)", strength.getMessage(), strength.getScore());
+        }
 
-        return true;
+        return RegistrationResult.of(RegistrationStatus.SUCCESS);
       } else {
-        System.out.println("회원가입 실패: DB 삽입 결과 0");
-        return false;
+        log.info("회원가입 실패: DB 삽입 결과 0");
+        return RegistrationResult.of(RegistrationStatus.FAILED);
       }
 
+    } catch (RateLimitedException e) {
+      log.info("회원가입 거부: 요청 제한 - {}", ipAddress);
+      return new RegistrationResult(RegistrationStatus.RATE_LIMITED, e.getMessage());
+    } catch (HashingRejectedException e) {
+      log.warn("회원가입 실패: 비밀번호 해시 과부하 - {}", e.getMessage());
+      return RegistrationResult.of(RegistrationStatus.BUSY);
     } catch (Exception e) {
-      System.err.println("강화된 보안 회원가입 중 예외 발생: " + e.getMessage());
-      e.printStackTrace();
-      return false;
+      log.error("강화된 보안 회원가입 중 예외 발생", e);
+      return RegistrationResult.of(RegistrationStatus.FAILED);
     }
   }
 
+  /**
+   * 로그인은 트랜잭션 없이 실행합니다 (회원 조회만 짧은 읽기 전용 트랜잭션으로 하고 커넥션을 반환한 뒤 해시 검증).
+   * 해시 풀 대기 동안 DB 커넥션을 붙잡지 않습니다.
+   */
   @Override
-  public MemberVO login(String email, String password) {
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public MemberVO login(String email, String password, String ipAddress) {
+    // 최근 실패가 많은 IP/이메일은 DB 조회, 해시 전에 거부 (RateLimitedException)
+    loginRateLimiter.checkLogin(ipAddress, email);
+
+    MemberVO member;
+    try {
+      member = authenticate(email, password);
+    } catch (HashingRejectedException e) {
+      // 과부하로 검증하지 못한 경우는 실패 횟수에 넣지 않고 호출자에게 알림
+      log.warn("로그인 실패: 비밀번호 해시 과부하 - {}", e.getMessage());
+      throw e;
+    }
+
+    // 로그인 시도 기록 (버퍼에 넣기만 하고 저장은 백그라운드에서 처리)
+    if (email != null && !email.trim().isEmpty()) {
+      loginRateLimiter.recordLogin(ipAddress, email, member != null);
+      loginAttemptRecorder.record(ipAddress, email.trim(), "MEMBER", member != null);
+    }
+    return member;
+  }
+
+  /**
+   * 이메일/비밀번호로 회원을 인증합니다.
+   * @return 인증된 회원, 실패하면 null
+   */
+  private MemberVO authenticate(String email, String password) {
     if (email == null || password == null || email.trim().isEmpty() || password.trim().isEmpty()) {
-      System.out.println("로그인 실패: 이메일 또는 비밀번호가 비어있음");
+      log.info("로그인 실패: 이메일 또는 비밀번호가 비어있음");
       return null;
     }
 
     try {
-      // 이메일로 회원 조회
-      MemberVO member = memberMapper.selectMemberByEmail(email.trim());
+      // 이메일로 회원 조회 (로그인 캐시 우선)
+      MemberVO member = findLoginMember(email.trim());
 
       if (member == null) {
-        System.out.println("로그인 실패: 존재하지 않는 이메일 - " + email);
+        log.info("로그인 실패: 존재하지 않는 이메일 - {}", email);
         return null;
       }
 
       // 계정 상태 체크
       if (member.getStatus() != MemberStatus.ACTIVE) {
-        System.out.println("로그인 실패: 비활성 계정 - " + email + " (상태: " + member.getStatus() + ")");
+        log.info("로그인 실패: 비활성 계정 - {} (상태: {})", email, member.getStatus());
         return null;
       }
 
-      // 강화된 비밀번호 검증
-      boolean passwordValid = passwordSecurityUtil.verifyPassword(password, member.getPassword());
+      // 강화된 비밀번호 검증 (해시 전용 풀에서 실행)
+      boolean passwordValid = passwordHashingExecutor.verifyPassword(password, member.getPassword());
 
       if (passwordValid) {
-        System.out.println("강화된 보안 로그인 성공: " + email);
+        log.info("강화된 보안 로그인 성공: {}", email);
+
+        // 기존 형식이거나 비용이 낮은 해시는 현재 설정으로 재해시하여 저장
+        rehashIfNeeded(member, password);
 
         // 로그인 성공 시 비밀번호 강도 재평가 (선택적)
         // 주기적으로 사용자에게 더 강한 비밀번호 사용을 권장할 수 있음
         return member;
       } else {
-        System.out.println("로그인 실패: 비밀번호 불일치 - " + email);
+        log.info("로그인 실패: 비밀번호 불일치 - {}", email);
         return null;
       }
+    } catch (HashingRejectedException e) {
+      throw e;
     } catch (Exception e) {
-      System.err.println("강화된 보안 로그인 중 예외 발생: " + e.getMessage());
-      e.printStackTrace();
+      log.error("강화된 보안 로그인 중 예외 발생", e);
       return null;
     }
   }
@@ -140,19 +264,97 @@ public class MemberServiceImpl implements MemberService {
     }
 
     try {
-      return memberMapper.updateMember(memberVO);
+      // 중복확인 인덱스 갱신을 위해 변경 전 값 조회
+      MemberVO before = memberMapper.selectMemberKeysById(memberVO.getMemberId());
+
+      int result = memberMapper.updateMember(memberVO);
+      if (result > 0 && before != null) {
+        memberAvailabilityIndex.replace(before, mergeKeys(before, memberVO));
+        availabilityCheckCoalescer.invalidate(before);
+        availabilityCheckCoalescer.invalidate(memberVO);
+        memberLoginCache.invalidate(before.getEmail());
+        // 비활성/정지되면 이미 발급된 로그인 토큰도 거부
+        if (memberVO.getStatus() != null && memberVO.getStatus() != MemberStatus.ACTIVE) {
+          memberSessionTokens.revokeMember(memberVO.getMemberId());
+        }
+      }
+      return result;
+    } catch (Exception e) {
+      log.error("회원정보 수정 중 예외 발생", e);
+      return 0;
+    }
+  }
+
+  @Override
+  public int deleteMember(Long memberId) {
+    if (memberId == null) {
+      return 0;
+    }
+
+    try {
+      MemberVO before = memberMapper.selectMemberKeysById(memberId);
+
+      int result = memberMapper.deleteMemberById(memberId);
+      if (result > 0) {
+        // 탈퇴한 회원의 이메일/닉네임/전화번호는 커밋 후 다시 사용 가능
+        memberAvailabilityIndex.remove(before);
+        availabilityCheckCoalescer.invalidate(before);
+        if (before != null) {
+          memberLoginCache.invalidate(before.getEmail());
+        }
+        memberSessionTokens.revokeMember(memberId);
+        log.info("회원 탈퇴 처리 완료: {}", memberId);
+      }
+      return result;
     } catch (Exception e) {
-      System.err.println("회원정보 수정 중 예외 발생: " + e.getMessage());
-      e.printStackTrace();
+      log.error("회원 탈퇴 중 예외 발생", e);
       return 0;
     }
   }
 
+  @Override
+  public boolean changeNickname(Long memberId, String nickname) {
+    if (memberId == null || nickname == null || nickname.trim().isEmpty()) {
+      return false;
+    }
+
+    try {
+      MemberVO before = memberMapper.selectMemberKeysById(memberId);
+      if (before == null) {
+        log.info("닉네임 변경 실패: 회원을 찾을 수 없음 - {}", memberId);
+        return false;
+      }
+
+      // 변경 후 7일이 지나지 않았으면 0 건
+      int result = memberMapper.updateNickname(memberId, nickname.trim());
+      if (result > 0) {
+        MemberVO update = new MemberVO();
+        update.setNickname(nickname.trim());
+        update.setStatus(before.getStatus());
+        memberAvailabilityIndex.replace(before, mergeKeys(before, update));
+        availabilityCheckCoalescer.invalidate("nickname", before.getNickname());
+        availabilityCheckCoalescer.invalidate("nickname", update.getNickname());
+        memberLoginCache.invalidate(before.getEmail());
+        log.info("닉네임 변경 완료: {} -> {}", memberId, nickname.trim());
+        return true;
+      }
+
+      log.info("닉네임 변경 실패: 최근 7일 이내 변경 이력 - {}", memberId);
+      return false;
+    } catch (DuplicateKeyException e) {
+      log.info("닉네임 변경 실패: 이미 사용 중인 닉네임 - {}", nickname);
+      return false;
+    } catch (Exception e) {
+      log.error("닉네임 변경 중 예외 발생", e);
+      return false;
+    }
+  }
+
   /**
    * 비밀번호 변경 (보안 강화)
    */
   public boolean changePassword(Long memberId, String currentPassword, String newPassword) {
-    System.out.println("=== 비밀번호 변경 시작 ===");
+    log.debug("비밀번호 변경 시작");
 
     try {
       // 1. 회원 조회
@@ -161,46 +363,46 @@ public class MemberServiceImpl implements MemberService {
       );
 
       if (member == null) {
-        System.out.println("비밀번호 변경 실패: 회원을 찾을 수 없음");
+        log.info("비밀번호 변경 실패: 회원을 찾을 수 없음");
         return false;
       }
 
       // 2. 현재 비밀번호 확인
-      if (!passwordSecurityUtil.verifyPassword(currentPassword, member.getPassword())) {
-        System.out.println("비밀번호 변경 실패: 현재 비밀번호 불일치");
+      if (!passwordHashingExecutor.verifyPassword(currentPassword, member.getPassword())) {
+        log.info("비밀번호 변경 실패: 현재 비밀번호 불일치");
         return false;
       }
 
       // 3. 새 비밀번호 보안 검증
       PasswordValidationResult validation = passwordSecurityUtil.validatePassword(newPassword);
       if (!validation.isValid()) {
-        System.out.println("비밀번호 변경 실패: " + validation.getMessage());
+        log.info("비밀번호 변경 실패: {}", validation.getMessage());
         return false;
       }
 
       // 4. 새 비밀번호가 현재 비밀번호와 다른지 확인
-      if (passwordSecurityUtil.verifyPassword(newPassword, member.getPassword())) {
-        System.out.println("비밀번호 변경 실패: 현재 비밀번호와 동일함");
+      if (passwordHashingExecutor.verifyPassword(newPassword, member.getPassword())) {
+        log.info("비밀번호 변경 실패: 현재 비밀번호와 동일함");
         return false;
       }
 
       // 5. 새 비밀번호 해시화 및 저장
-      String hashedNewPassword = passwordSecurityUtil.hashPassword(newPassword);
+      String hashedNewPassword = passwordHashingExecutor.hashPassword(newPassword);
       member.setPassword(hashedNewPassword);
 
-      int result = memberMapper.updateMember(member);
+      int result = memberMapper.updatePassword(member.getMemberId(), hashedNewPassword);
 
       if (result > 0) {
-        System.out.println("비밀번호 변경 성공");
+        memberLoginCache.invalidate(member.getEmail());
+        log.info("비밀번호 변경 성공");
         return true;
       } else {
-        System.out.println("비밀번호 변경 실패: DB 업데이트 실패");
+        log.info("비밀번호 변경 실패: DB 업데이트 실패");
         return false;
       }
 
     } catch (Exception e) {
-      System.err.println("비밀번호 변경 중 예외 발생: " + e.getMessage());
-      e.printStackTrace();
+      log.error("비밀번호 변경 중 예외 발생", e);
       return false;
     }
   }
@@ -213,51 +415,293 @@ public class MemberServiceImpl implements MemberService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public boolean checkDuplicateEmail(String email) {
-    System.out.println("=== 이메일 중복 체크 시작 ===");
-    System.out.println("체크할 이메일: " + email);
+    log.debug("이메일 중복 체크 시작");
+    log.debug("체크할 이메일: {}", email);
 
     if (email == null || email.trim().isEmpty()) {
-      System.out.println("결과: 이메일이 비어있음 (false 리턴)");
+      log.debug("결과: 이메일이 비어있음 (false 리턴)");
       return false;
     }
 
     try {
-      boolean isAvailable = !isEmailDuplicate(email.trim());
-      System.out.println("결과: " + (isAvailable ? "사용 가능" : "중복됨") + " (" + isAvailable + " 리턴)");
+      // 같은 이메일의 동시 확인은 DB 조회 한 번으로 묶음
+      String trimmedEmail = email.trim();
+      boolean isAvailable = !availabilityCheckCoalescer.isTaken("email", trimmedEmail,
+              () -> isEmailDuplicate(trimmedEmail));
+      log.debug("결과: {} ({} 리턴)", isAvailable ? "사용 가능" : "중복됨", isAvailable);
       return isAvailable;
     } catch (Exception e) {
-      System.err.println("이메일 중복 체크 중 에러 발생: " + e.getMessage());
-      e.printStackTrace();
+      // 조회 실패는 묶기 결과로 남지 않고, 이 요청만 "사용 불가"로 응답
+      log.error("이메일 중복 체크 중 에러 발생", e);
       return false;
     }
   }
 
   @Override
+  @Transactional(readOnly = true)
   public boolean checkDuplicateNickname(String nickname) {
-    System.out.println("=== 닉네임 중복 체크 시작 ===");
-    System.out.println("체크할 닉네임: " + nickname);
+    log.debug("닉네임 중복 체크 시작");
+    log.debug("체크할 닉네임: {}", nickname);
 
     if (nickname == null || nickname.trim().isEmpty()) {
-      System.out.println("결과: 닉네임이 비어있음 (false 리턴)");
+      log.debug("결과: 닉네임이 비어있음 (false 리턴)");
       return false;
     }
 
     try {
-      boolean isAvailable = !isNicknameDuplicate(nickname.trim());
-      System.out.println("결과: " + (isAvailable ? "사용 가능" : "중복됨") + " (" + isAvailable + " 리턴)");
+      // 같은 닉네임의 동시 확인은 DB 조회 한 번으로 묶음
+      String trimmedNickname = nickname.trim();
+      boolean isAvailable = !availabilityCheckCoalescer.isTaken("nickname", trimmedNickname,
+              () -> isNicknameDuplicate(trimmedNickname));
+      log.debug("결과: {} ({} 리턴)", isAvailable ? "사용 가능" : "중복됨", isAvailable);
       return isAvailable;
     } catch (Exception e) {
-      System.err.println("닉네임 중복 체크 중 에러 발생: " + e.getMessage());
-      e.printStackTrace();
+      // 조회 실패는 묶기 결과로 남지 않고, 이 요청만 "사용 불가"로 응답
+      log.error("닉네임 중복 체크 중 에러 발생", e);
       return false;
     }
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public RegistrationPrecheck precheckRegistration(String email, String nickname, String phone, String password) {
+    email = trimToNull(email);
+    nickname = trimToNull(nickname);
+    phone = trimToNull(phone);
+
+    // 인덱스에 없다고 나온 값은 DB 에 묻지 않음
+    String emailToQuery = email != null && memberAvailabilityIndex.mightContainEmail(email) ? email : null;
+    String nicknameToQuery = nickname != null && memberAvailabilityIndex.mightContainNickname(nickname) ? nickname : null;
+    String phoneToQuery = phone != null && memberAvailabilityIndex.mightContainPhone(phone) ? phone : null;
+    boolean queryNeeded = emailToQuery != null || nicknameToQuery != null || phoneToQuery != null;
+
+    // 비밀번호 분석은 CPU 만 쓰는 짧은 작업이라, DB 조회가 있을 때만 CPU 요청 풀에서 조회와 동시에 실행
+    // (해시 풀은 로그인/가입 해시용으로 남겨 둠, CPU 풀이 가득 차면 이 스레드에서 실행)
+    CompletableFuture<PasswordAnalysis> passwordAnalysis = null;
+    if (password != null && !password.isEmpty()) {
+      if (queryNeeded) {
+        try {
+          passwordAnalysis = CompletableFuture.supplyAsync(() -> passwordSecurityUtil.analyze(password),
+                  cpuRequestExecutor);
+        } catch (RejectedExecutionException e) {
+          log.debug("CPU 요청 풀이 가득 차 비밀번호 분석을 현재 스레드에서 실행");
+        }
+      }
+      if (passwordAnalysis == null) {
+        passwordAnalysis = CompletableFuture.completedFuture(passwordSecurityUtil.analyze(password));
+      }
+    }
+
+    long emailCount = 0;
+    long nicknameCount = 0;
+    long phoneCount = 0;
+    if (queryNeeded) {
+      try {
+        Map<String, Object> counts = memberMapper.countTakenKeys(emailToQuery, nicknameToQuery, phoneToQuery);
+        emailCount = countOf(counts, "email_count");
+        nicknameCount = countOf(counts, "nickname_count");
+        phoneCount = countOf(counts, "phone_count");
+      } catch (Exception e) {
+        // 개별 중복 체크와 같이 조회 실패 시 사용 중으로 간주
+        log.warn("가입 사전 확인 DB 조회 실패: {}", e.getMessage());
+        emailCount = nicknameCount = phoneCount = 1;
+      }
+    }
+
+    PasswordValidationResult passwordValidation = null;
+    PasswordSecurityUtil.PasswordStrength passwordStrength = null;
+    if (passwordAnalysis != null) {
+      PasswordAnalysis analysis = passwordAnalysis.join();
+      passwordValidation = passwordSecurityUtil.validatePassword(password, analysis);
+      if (passwordValidation.isValid()) {
+        passwordStrength = passwordSecurityUtil.evaluatePasswordStrength(analysis);
+      }
+    } else if (password != null) {
+      passwordValidation = passwordSecurityUtil.validatePassword(password);
+    }
+
+    return new RegistrationPrecheck(
+            email != null ? !(emailToQuery != null && emailCount > 0) : null,
+            nickname != null ? !(nicknameToQuery != null && nicknameCount > 0) : null,
+            phone != null ? !(phoneToQuery != null && phoneCount > 0) : null,
+            passwordValidation, passwordStrength);
+  }
+
+  @Override
+  public MemberStatus findMemberStatus(Long memberId) {
+    // 정지/탈퇴가 바로 반영되도록 복제본이 아닌 주 DB 에서 확인
+    MemberVO member = memberId != null ? memberMapper.selectMemberKeysById(memberId) : null;
+    return member != null ? member.getStatus() : null;
+  }
+
+  @Override
+  public boolean isAdmin(Long memberId) {
+    // 권한 회수가 바로 반영되도록 복제본이 아닌 주 DB 에서 확인
+    return memberId != null && memberMapper.countActiveAdminByMemberId(memberId) > 0;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public MemberPage searchMembers(MemberSearchCondition condition, String cursor, int size) {
+    condition.setEmailPrefix(MemberSearchCondition.likePrefix(condition.getEmailPrefix()));
+    condition.setNicknamePrefix(MemberSearchCondition.likePrefix(condition.getNicknamePrefix()));
+    condition.setAfterCreatedAt(null);
+    condition.setAfterMemberId(null);
+    if (cursor != null && !cursor.isEmpty()) {
+      decodeCursor(cursor, condition);
+    }
+
+    // 한 건 더 조회하여 다음 페이지 유무 확인
+    condition.setLimit(size + 1);
+    List<MemberVO> members = memberMapper.searchMembers(condition);
+
+    String nextCursor = null;
+    if (members.size() > size) {
+      members = new ArrayList<>(members.subList(0, size));
+      nextCursor = encodeCursor(members.get(size - 1));
+    }
+    return new MemberPage(members, nextCursor);
+  }
+
   // === Private Helper Methods ===
 
+  private static String trimToNull(String value) {
+    return value == null || value.trim().isEmpty() ? null : value.trim();
+  }
+
+  private static long countOf(Map<String, Object> counts, String column) {
+    Object value = counts != null ? counts.get(column) : null;
+    return value instanceof Number ? ((Number) value).longValue() : 0;
+  }
+
+  /**
+   * 다음 페이지 커서 = Base64URL("가입일시|회원번호")
+   */
+  private static String encodeCursor(MemberVO last) {
+    String raw = last.getCreatedAt() + "|" + last.getMemberId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void decodeCursor(String cursor, MemberSearchCondition condition) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf('|');
+      condition.setAfterCreatedAt(LocalDateTime.parse(raw.substring(0, separator)));
+      condition.setAfterMemberId(Long.valueOf(raw.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("잘못된 페이지 커서입니다.", e);
+    }
+  }
+
+  /**
+   * 로그인용 회원 조회 (캐시에 있으면 DB 를 조회하지 않음, 없는 이메일도 캐시)
+   * 캐시 적중 시에는 인증 정보(회원 번호, 이메일, 해시, 상태)만 채운 MemberVO 를 반환합니다.
+   * 복제본에 없으면 복제 지연일 수 있으므로 (방금 가입한 회원) 주 DB 에서 한 번 더 확인한 뒤 캐시합니다.
+   * DB 조회는 별도의 읽기 전용 트랜잭션에서 하고, 반환 시점에는 커넥션을 돌려준 상태입니다.
+   */
+  private MemberVO findLoginMember(String email) {
+    MemberLoginCache.CachedMember cached = memberLoginCache.get(email);
+    if (cached != null) {
+      return cached.toMember();
+    }
+
+    long stamp = memberLoginCache.stamp();
+    MemberVO member = readTransactionTemplate.execute(status -> {
+      MemberVO found = memberMapper.selectMemberByEmail(email);
+      if (found == null && routingDataSource.isReplicaRoute()) {
+        found = writeTransactionTemplate.execute(writeStatus -> memberMapper.selectMemberByEmail(email));
+      }
+      return found;
+    });
+    memberLoginCache.put(email, member, stamp);
+    return member;
+  }
+
+  /**
+   * 이메일, 닉네임, 전화번호 순으로 중복을 확인합니다 (사전 확인 모드).
+   * 조회가 실패하면 예외가 그대로 올라가 가입은 FAILED 로 끝납니다.
+   * @return 중복된 필드의 상태, 중복이 없으면 null
+   */
+  private RegistrationStatus findDuplicate(MemberVO memberVO) {
+    if (isEmailDuplicate(memberVO.getEmail())) {
+      return RegistrationStatus.DUPLICATE_EMAIL;
+    }
+    if (isNicknameDuplicate(memberVO.getNickname())) {
+      return RegistrationStatus.DUPLICATE_NICKNAME;
+    }
+    if (memberVO.getPhone() != null && !memberVO.getPhone().trim().isEmpty() && isPhoneDuplicate(memberVO.getPhone())) {
+      return RegistrationStatus.DUPLICATE_PHONE;
+    }
+    return null;
+  }
+
+  /**
+   * MySQL 중복 키 오류 메시지의 인덱스 이름으로 중복된 필드를 찾습니다.
+   * 예: Duplicate entry 'a@b.com' for key 'member.email' (MySQL 8), ... for key 'email' (5.7)
+   */
+  static RegistrationStatus duplicateStatusOf(DuplicateKeyException e) {
+    String message = e.getMostSpecificCause().getMessage();
+    Matcher matcher = message == null ? null : DUPLICATE_KEY_PATTERN.matcher(message);
+    if (matcher == null || !matcher.find()) {
+      return RegistrationStatus.FAILED;
+    }
+
+    String key = matcher.group(1);
+    key = key.substring(key.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    if (key.contains("email")) {
+      return RegistrationStatus.DUPLICATE_EMAIL;
+    }
+    if (key.contains("nickname")) {
+      return RegistrationStatus.DUPLICATE_NICKNAME;
+    }
+    if (key.contains("phone")) {
+      return RegistrationStatus.DUPLICATE_PHONE;
+    }
+    return RegistrationStatus.FAILED;
+  }
+
+  /**
+   * updateMember 의 동적 SQL 과 같은 규칙으로 변경 후 식별 값을 만듭니다 (null 필드는 유지).
+   */
+  private MemberVO mergeKeys(MemberVO before, MemberVO update) {
+    MemberVO after = new MemberVO();
+    after.setMemberId(before.getMemberId());
+    after.setEmail(before.getEmail());
+    after.setNickname(update.getNickname() != null ? update.getNickname() : before.getNickname());
+    after.setPhone(update.getPhone() != null ? update.getPhone() : before.getPhone());
+    after.setStatus(update.getStatus() != null ? update.getStatus() : before.getStatus());
+    return after;
+  }
+
+  /**
+   * 로그인 성공 후 저장된 해시가 오래된 형식이면 재해시하여 저장합니다.
+   * 재해시에 실패해도 로그인은 성공으로 처리합니다.
+   */
+  private void rehashIfNeeded(MemberVO member, String password) {
+    if (!passwordSecurityUtil.needsRehash(member.getPassword())) {
+      return;
+    }
+
+    try {
+      String rehashed = passwordHashingExecutor.hashPassword(password);
+      // 로그인은 트랜잭션 밖에서 실행되므로 새 쓰기 트랜잭션에서 저장
+      Integer updated = writeTransactionTemplate.execute(status ->
+              memberMapper.updatePassword(member.getMemberId(), rehashed));
+      if (updated != null && updated > 0) {
+        member.setPassword(rehashed);
+        memberLoginCache.invalidate(member.getEmail());
+        log.info("비밀번호 재해시 완료: {}", member.getEmail());
+      }
+    } catch (Exception e) {
+      log.warn("비밀번호 재해시 실패 (로그인은 유지): {}", e.getMessage());
+    }
+  }
+
   /**
    * 이메일 중복 여부 확인
+   * DB 조회 실패는 예외 그대로 전달합니다 (중복확인 묶기에 결과가 남지 않도록, 처리는 호출하는 쪽에서)
    * @param email 확인할 이메일
    * @return 중복이면 true, 사용 가능하면 false
    */
@@ -266,17 +710,18 @@ public class MemberServiceImpl implements MemberService {
       return false;
     }
 
-    try {
-      Long count = memberMapper.countByEmail(email.trim());
-      return count != null && count > 0;
-    } catch (Exception e) {
-      System.err.println("이메일 중복 체크 DB 조회 실패: " + e.getMessage());
-      return true;
+    // 인덱스에 없으면 DB 에도 없음
+    if (!memberAvailabilityIndex.mightContainEmail(email.trim())) {
+      return false;
     }
+
+    Long count = memberMapper.countByEmail(email.trim());
+    return count != null && count > 0;
   }
 
   /**
    * 닉네임 중복 여부 확인
+   * DB 조회 실패는 예외 그대로 전달합니다 (중복확인 묶기에 결과가 남지 않도록, 처리는 호출하는 쪽에서)
    * @param nickname 확인할 닉네임
    * @return 중복이면 true, 사용 가능하면 false
    */
@@ -285,17 +730,18 @@ public class MemberServiceImpl implements MemberService {
       return false;
     }
 
-    try {
-      int count = memberMapper.countByNickname(nickname.trim());
-      return count > 0;
-    } catch (Exception e) {
-      System.err.println("닉네임 중복 체크 DB 조회 실패: " + e.getMessage());
-      return true;
+    // 인덱스에 없으면 DB 에도 없음
+    if (!memberAvailabilityIndex.mightContainNickname(nickname.trim())) {
+      return false;
     }
+
+    int count = memberMapper.countByNickname(nickname.trim());
+    return count > 0;
   }
 
   /**
    * 전화번호 중복 여부 확인
+   * DB 조회 실패는 예외 그대로 전달합니다 (처리는 호출하는 쪽에서)
    * @param phone 확인할 전화번호
    * @return 중복이면 true, 사용 가능하면 false
    */
@@ -304,12 +750,12 @@ public class MemberServiceImpl implements MemberService {
       return false;
     }
 
-    try {
-      int count = memberMapper.countByPhone(phone.trim());
-      return count > 0;
-    } catch (Exception e) {
-      System.err.println("전화번호 중복 체크 DB 조회 실패: " + e.getMessage());
-      return true;
+    // 인덱스에 없으면 DB 에도 없음
+    if (!memberAvailabilityIndex.mightContainPhone(phone.trim())) {
+      return false;
     }
+
+    int count = memberMapper.countByPhone(phone.trim());
+    return count > 0;
   }
 }
\ No newline at end of file
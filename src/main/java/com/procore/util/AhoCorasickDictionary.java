@@ -0,0 +1,293 @@
+package com.procore.util;
+
+import org.springframework.core.io.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Aho-Corasick 오토마톤 기반 비밀번호 사전
+ *
+ * 사전 크기와 관계없이 비밀번호를 한 번 순회하면 포함된 모든 사전 단어를 찾습니다.
+ * 노드는 BFS 순서로 번호가 매겨지므로 각 노드의 자식은 연속된 번호 구간을 차지하고,
+ * 노드당 자식 시작 위치, 문자, 실패 링크, 일치 길이만 배열로 저장합니다 (노드당 약 12바이트).
+ *
+ * 사전 파일 형식: UTF-8, 한 줄에 한 단어, 빈 줄과 '#' 으로 시작하는 줄은 무시
+ */
+public final class AhoCorasickDictionary implements PasswordDictionary {
+
+  private static final Logger log = LoggerFactory.getLogger(AhoCorasickDictionary.class);
+
+  /** 일치 길이를 short 로 저장하므로 이보다 긴 단어는 무시 */
+  private static final int MAX_WORD_LENGTH = Short.MAX_VALUE;
+
+  /** 루트에서 ASCII 문자로 바로 이동하기 위한 테이블 */
+  private final int[] rootNext = new int[128];
+
+  /** 노드 u 의 자식 구간 [childStart[u], childStart[u + 1]) */
+  private final int[] childStart;
+
+  /** 노드로 들어오는 간선의 문자 (소문자) */
+  private final char[] label;
+
+  /** 실패 링크 */
+  private final int[] fail;
+
+  /** 노드에서 끝나는 가장 긴 단어 길이 (실패 링크 포함) */
+  private final short[] match;
+
+  private final int size;
+
+  private AhoCorasickDictionary(int[] childStart, char[] label, int[] fail, short[] match, int size) {
+    this.childStart = childStart;
+    this.label = label;
+    this.fail = fail;
+    this.match = match;
+    this.size = size;
+
+    for (char c = 0; c < rootNext.length; c++) {
+      int child = findChild(ROOT, c);
+      rootNext[c] = child >= 0 ? child : ROOT;
+    }
+  }
+
+  /**
+   * Spring Resource 에서 사전을 읽어옵니다.
+   * @param resource 사전 파일
+   * @return 사전 오토마톤
+   */
+  public static AhoCorasickDictionary load(Resource resource) throws IOException {
+    try (InputStream in = resource.getInputStream()) {
+      AhoCorasickDictionary dictionary = load(in);
+      log.info("비밀번호 사전 로드 완료: {} ({}개, 노드 {}개)",
+              resource.getDescription(), dictionary.size(), dictionary.label.length);
+      return dictionary;
+    }
+  }
+
+  /**
+   * 스트림에서 사전을 읽어옵니다. 단어를 문자열로 보관하지 않고 바로 트라이에 삽입합니다.
+   * @param in UTF-8 사전 스트림
+   * @return 사전 오토마톤
+   */
+  public static AhoCorasickDictionary load(InputStream in) throws IOException {
+    Builder builder = new Builder();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      line = line.trim();
+      if (!line.isEmpty() && line.charAt(0) != '#') {
+        builder.add(line);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * 단어 목록으로 사전을 만듭니다.
+   * @param words 사전 단어들
+   * @return 사전 오토마톤
+   */
+  public static AhoCorasickDictionary of(Iterable<String> words) {
+    Builder builder = new Builder();
+    for (String word : words) {
+      builder.add(word);
+    }
+    return builder.build();
+  }
+
+  @Override
+  public int next(int state, char c) {
+    char folded = Character.toLowerCase(c);
+    while (state != ROOT) {
+      int child = findChild(state, folded);
+      if (child >= 0) {
+        return child;
+      }
+      state = fail[state];
+    }
+    if (folded < rootNext.length) {
+      return rootNext[folded];
+    }
+    int child = findChild(ROOT, folded);
+    return child >= 0 ? child : ROOT;
+  }
+
+  @Override
+  public int matchLength(int state) {
+    return match[state];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 자식 구간에서 문자를 이진 탐색합니다.
+   * @return 자식 노드 번호, 없으면 -1
+   */
+  private int findChild(int node, char c) {
+    int low = childStart[node];
+    int high = childStart[node + 1] - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      char midLabel = label[mid];
+      if (midLabel < c) {
+        low = mid + 1;
+      } else if (midLabel > c) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 트라이를 만든 뒤 BFS 순서로 재배치하고 실패 링크를 계산합니다.
+   * 빌드 중에는 첫 자식/다음 형제 연결 리스트를 사용합니다.
+   */
+  private static final class Builder {
+
+    private char[] label = new char[1024];
+    private int[] firstChild = new int[1024];
+    private int[] nextSibling = new int[1024];
+    private short[] terminal = new short[1024];
+    private int nodeCount = 1;
+    private int wordCount;
+
+    Builder() {
+      firstChild[ROOT] = -1;
+      nextSibling[ROOT] = -1;
+    }
+
+    void add(String word) {
+      if (word == null || word.isEmpty() || word.length() > MAX_WORD_LENGTH) {
+        return;
+      }
+      int node = ROOT;
+      for (int i = 0; i < word.length(); i++) {
+        char c = Character.toLowerCase(word.charAt(i));
+        int child = firstChild[node];
+        while (child >= 0 && label[child] != c) {
+          child = nextSibling[child];
+        }
+        if (child < 0) {
+          child = newNode(c);
+          nextSibling[child] = firstChild[node];
+          firstChild[node] = child;
+        }
+        node = child;
+      }
+      if (terminal[node] == 0) {
+        terminal[node] = (short) word.length();
+        wordCount++;
+      }
+    }
+
+    private int newNode(char c) {
+      if (nodeCount == label.length) {
+        int capacity = label.length * 2;
+        label = Arrays.copyOf(label, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        terminal = Arrays.copyOf(terminal, capacity);
+      }
+      int node = nodeCount++;
+      label[node] = c;
+      firstChild[node] = -1;
+      nextSibling[node] = -1;
+      terminal[node] = 0;
+      return node;
+    }
+
+    AhoCorasickDictionary build() {
+      int n = nodeCount;
+
+      // 1. BFS 순서 재배치: order[새 번호] = 기존 번호
+      int[] order = new int[n];
+      int[] childStart = new int[n + 1];
+      char[] newLabel = new char[n];
+      short[] match = new short[n];
+      int[] children = new int[64];
+
+      order[ROOT] = ROOT;
+      int assigned = 1;
+      for (int u = 0; u < n; u++) {
+        int old = order[u];
+        childStart[u] = assigned;
+
+        int count = 0;
+        for (int child = firstChild[old]; child >= 0; child = nextSibling[child]) {
+          if (count == children.length) {
+            children = Arrays.copyOf(children, count * 2);
+          }
+          children[count++] = child;
+        }
+        sortByLabel(children, count);
+
+        for (int i = 0; i < count; i++) {
+          int v = assigned++;
+          order[v] = children[i];
+          newLabel[v] = label[children[i]];
+          match[v] = terminal[children[i]];
+        }
+      }
+      childStart[n] = assigned;
+
+      // 빌드용 배열 해제
+      label = null;
+      firstChild = null;
+      nextSibling = null;
+      terminal = null;
+
+      // 2. 실패 링크 (BFS 순서이므로 부모의 실패 링크가 항상 먼저 계산됨)
+      int[] fail = new int[n];
+      AhoCorasickDictionary partial =
+              new AhoCorasickDictionary(childStart, newLabel, fail, match, wordCount);
+      for (int u = 0; u < n; u++) {
+        for (int v = childStart[u]; v < childStart[u + 1]; v++) {
+          if (u == ROOT) {
+            fail[v] = ROOT;
+          } else {
+            int f = fail[u];
+            int target = partial.findChild(f, newLabel[v]);
+            while (target < 0 && f != ROOT) {
+              f = fail[f];
+              target = partial.findChild(f, newLabel[v]);
+            }
+            fail[v] = target >= 0 ? target : ROOT;
+          }
+          if (match[fail[v]] > match[v]) {
+            match[v] = match[fail[v]];
+          }
+        }
+      }
+
+      return new AhoCorasickDictionary(childStart, newLabel, fail, match, wordCount);
+    }
+
+    /**
+     * 형제 노드를 문자 순으로 정렬 (삽입 정렬, 형제 수는 보통 작음)
+     */
+    private void sortByLabel(int[] nodes, int count) {
+      for (int i = 1; i < count; i++) {
+        int node = nodes[i];
+        char c = label[node];
+        int j = i - 1;
+        while (j >= 0 && label[nodes[j]] > c) {
+          nodes[j + 1] = nodes[j];
+          j--;
+        }
+        nodes[j + 1] = node;
+      }
+    }
+  }
+}
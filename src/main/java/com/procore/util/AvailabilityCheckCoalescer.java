@@ -0,0 +1,184 @@
+package com.procore.util;
+
+import com.procore.vo.MemberVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 값에 대한 동시 중복확인 묶기 (single-flight + 짧은 결과 유지)
+ *
+ * 인기 닉네임이나 같은 회사 도메인 이메일처럼 같은 값을 여러 요청이 동시에 확인하면,
+ * 첫 요청(leader)만 DB 를 조회하고 나머지는 그 결과를 기다려 함께 받습니다.
+ * 조회가 끝난 결과는 ttl-millis 동안 유지하여 바로 뒤따르는 요청도 DB 로 가지 않게 하므로,
+ * 동시 요청이 아무리 많아도 DB 조회는 값마다 TTL 당 한 번입니다.
+ *
+ * 키는 필드 이름과 MemberAvailabilityIndex 의 정규화 값(DB 비교 규칙 기준)으로 만듭니다.
+ * 가입/닉네임 변경 시 invalidate 로 해당 값을 지워 "사용 가능" 결과가 TTL 동안 남지 않게 합니다.
+ * 조회가 실패하면 결과를 남기지 않고, 기다리던 요청에는 같은 예외를 전달합니다.
+ */
+@Component
+public class AvailabilityCheckCoalescer {
+
+  private static final Logger log = LoggerFactory.getLogger(AvailabilityCheckCoalescer.class);
+
+  /** 끝난 결과가 이 수를 넘으면 만료된 것을 정리 */
+  private static final int PURGE_THRESHOLD = 10_000;
+
+  private final boolean enabled;
+  private final long ttlNanos;
+  private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+  // 통계
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder queries = new LongAdder();
+  private final LongAdder joined = new LongAdder();
+  private final LongAdder recentHits = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  public AvailabilityCheckCoalescer(@Value("${member.availability-check.coalesce-enabled:true}") boolean enabled,
+                                    @Value("${member.availability-check.result-ttl-millis:500}") long ttlMillis) {
+    this.enabled = enabled;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttlMillis));
+
+    log.info("중복확인 묶기 {}: 결과 유지 {}ms", enabled ? "사용" : "사용 안 함", ttlMillis);
+  }
+
+  /**
+   * 사용 중 여부를 확인합니다. 같은 값의 조회가 진행 중이거나 방금 끝났으면 그 결과를 씁니다.
+   * @param field 필드 이름 (email, nickname, phone)
+   * @param value 확인할 값
+   * @param query 실제 조회 (사용 중이면 true)
+   */
+  public boolean isTaken(String field, String value, Supplier<Boolean> query) {
+    String normalized = MemberAvailabilityIndex.normalize(value);
+    if (!enabled || normalized == null) {
+      return query.get();
+    }
+    requests.increment();
+    String key = field + ':' + normalized;
+
+    while (true) {
+      Flight flight = flights.get(key);
+      if (flight != null) {
+        if (!flight.isDone()) {
+          joined.increment();
+          return await(flight);
+        }
+        if (!flight.isExpired(System.nanoTime())) {
+          recentHits.increment();
+          return await(flight);
+        }
+        flights.remove(key, flight);
+      }
+
+      Flight mine = new Flight();
+      if (flights.putIfAbsent(key, mine) != null) {
+        continue;
+      }
+      return lead(key, mine, query);
+    }
+  }
+
+  /**
+   * 회원 정보가 바뀌어 결과가 달라질 수 있는 값을 지웁니다.
+   */
+  public void invalidate(MemberVO member) {
+    if (member == null) {
+      return;
+    }
+    invalidate("email", member.getEmail());
+    invalidate("nickname", member.getNickname());
+    invalidate("phone", member.getPhone());
+  }
+
+  public void invalidate(String field, String value) {
+    String normalized = MemberAvailabilityIndex.normalize(value);
+    if (normalized != null) {
+      flights.remove(field + ':' + normalized);
+    }
+  }
+
+  /**
+   * 요청 수, 실제 조회 수, 진행 중 조회에 합류/최근 결과 사용 수
+   */
+  public Map<String, Object> getStats() {
+    long total = requests.sum();
+    long queried = queries.sum();
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("resultTtlMillis", TimeUnit.NANOSECONDS.toMillis(ttlNanos));
+    stats.put("requests", total);
+    stats.put("queries", queried);
+    stats.put("joined", joined.sum());
+    stats.put("recentHits", recentHits.sum());
+    stats.put("failures", failures.sum());
+    stats.put("coalescedRatio", total > 0 ? (double) (total - queried) / total : 0.0);
+    stats.put("entries", flights.size());
+    return stats;
+  }
+
+  private boolean lead(String key, Flight mine, Supplier<Boolean> query) {
+    queries.increment();
+    Boolean taken;
+    try {
+      taken = query.get();
+    } catch (RuntimeException | Error e) {
+      failures.increment();
+      flights.remove(key, mine);
+      mine.completeExceptionally(e);
+      throw e;
+    }
+
+    mine.expiresAt = System.nanoTime() + ttlNanos;
+    mine.complete(taken);
+    if (ttlNanos == 0) {
+      flights.remove(key, mine);
+    } else if (flights.size() > PURGE_THRESHOLD) {
+      purgeExpired();
+    }
+    return taken;
+  }
+
+  private static boolean await(Flight flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  private void purgeExpired() {
+    long now = System.nanoTime();
+    flights.values().removeIf(flight -> flight.isDone() && flight.isExpired(now));
+  }
+
+  /**
+   * 진행 중이거나 끝난 조회 하나 (끝난 뒤 expiresAt 까지 결과 재사용)
+   */
+  private static final class Flight extends CompletableFuture<Boolean> {
+    volatile long expiresAt;
+
+    boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.procore.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 유출 비밀번호 Bloom 필터 (메모리 매핑, 읽기 전용)
+ *
+ * BreachedPasswordFilterBuilder 로 미리 만든 필터 파일을 MappedByteBuffer 로 열어
+ * 힙을 사용하지 않고 수천만 건 규모의 유출 비밀번호 목록에 대한 포함 여부를 확인합니다.
+ * 키는 비밀번호 UTF-8 바이트의 SHA-1 이며, 거짓 양성은 있지만 거짓 음성은 없습니다.
+ *
+ * 파일 형식 (빅 엔디언):
+ * magic(int) | version(int) | hashCount(int) | reserved(int) | bitCount(long) | entryCount(long) | 비트 배열
+ *
+ * 조회는 스레드별 MessageDigest 와 버퍼를 재사용하므로 객체를 만들지 않으며,
+ * 매핑된 버퍼는 절대 위치로만 읽으므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class BreachedPasswordFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(BreachedPasswordFilter.class);
+
+  static final int MAGIC = 0x50434246; // "PCBF"
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 32;
+  static final int DIGEST_LENGTH = 20;
+
+  /** 스레드별 SHA-1 계산 버퍼 */
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  private final MappedByteBuffer bits;
+  private final int hashCount;
+  private final long bitCount;
+  private final long entryCount;
+
+  private BreachedPasswordFilter(MappedByteBuffer bits, int hashCount, long bitCount, long entryCount) {
+    this.bits = bits;
+    this.hashCount = hashCount;
+    this.bitCount = bitCount;
+    this.entryCount = entryCount;
+  }
+
+  /**
+   * 필터 파일을 메모리 매핑으로 엽니다.
+   * 경로가 비어 있으면 null 을 반환하며, Spring 설정에서는 유출 비밀번호 검사를 사용하지 않게 됩니다.
+   * @param path 필터 파일 경로
+   * @return 필터, 경로가 비어 있으면 null
+   */
+  public static BreachedPasswordFilter open(String path) throws IOException {
+    if (path == null || path.trim().isEmpty()) {
+      return null;
+    }
+
+    File file = new File(path.trim());
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+         FileChannel channel = raf.getChannel()) {
+      long size = channel.size();
+      if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+        throw new IOException("유효하지 않은 유출 비밀번호 필터 크기: " + size);
+      }
+
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+        throw new IOException("유출 비밀번호 필터 파일 형식이 아닙니다: " + file);
+      }
+
+      int hashCount = buffer.getInt(8);
+      long bitCount = buffer.getLong(16);
+      long entryCount = buffer.getLong(24);
+      if (hashCount <= 0 || bitCount <= 0 || HEADER_SIZE + (bitCount + 7) / 8 > size) {
+        throw new IOException("유출 비밀번호 필터 헤더가 손상되었습니다: " + file);
+      }
+
+      log.info("유출 비밀번호 필터 로드 완료: {} ({}건, {}MB, 해시 {}개)",
+              file, entryCount, size / 1024 / 1024, hashCount);
+      return new BreachedPasswordFilter(buffer, hashCount, bitCount, entryCount);
+    }
+  }
+
+  /**
+   * 유출 목록에 포함되어 있을 수 있는지 확인합니다.
+   * @param password 확인할 비밀번호
+   * @return 포함 가능성이 있으면 true (거짓 양성 가능), 확실히 없으면 false
+   */
+  public boolean mightContain(String password) {
+    if (password == null) {
+      return false;
+    }
+    byte[] digest = SCRATCH.get().sha1(password);
+    long h1 = readLong(digest, 0);
+    long h2 = readLong(digest, 8);
+
+    for (int i = 0; i < hashCount; i++) {
+      long bit = bitIndex(h1, h2, i, bitCount);
+      int b = bits.get(HEADER_SIZE + (int) (bit >>> 3));
+      if ((b & (1 << (bit & 7))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long getEntryCount() { return entryCount; }
+  public long getBitCount() { return bitCount; }
+  public int getHashCount() { return hashCount; }
+
+  /**
+   * 더블 해싱으로 i 번째 비트 위치를 구합니다 (Kirsch-Mitzenmacher).
+   */
+  static long bitIndex(long h1, long h2, int i, long bitCount) {
+    return ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+  }
+
+  static long readLong(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[offset + i] & 0xFF);
+    }
+    return value;
+  }
+
+  /**
+   * 항목 수와 목표 거짓 양성률로 비트 수를 계산합니다.
+   */
+  static long optimalBitCount(long entries, double falsePositiveRate) {
+    double bits = -entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+    return Math.max(64, (long) Math.ceil(bits));
+  }
+
+  /**
+   * 비트 수와 항목 수로 해시 함수 개수를 계산합니다.
+   */
+  static int optimalHashCount(long entries, long bitCount) {
+    return Math.max(1, (int) Math.round((double) bitCount / Math.max(1, entries) * Math.log(2)));
+  }
+
+  /**
+   * 스레드별 SHA-1 계산 상태 (UTF-8 인코딩 버퍼, 결과 버퍼 재사용)
+   */
+  static final class Scratch {
+
+    private final MessageDigest sha1;
+    private byte[] utf8 = new byte[512];
+    private final byte[] digest = new byte[DIGEST_LENGTH];
+
+    Scratch() {
+      try {
+        sha1 = MessageDigest.getInstance("SHA-1");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-1 을 사용할 수 없습니다.", e);
+      }
+    }
+
+    /**
+     * 비밀번호 UTF-8 바이트의 SHA-1 을 계산합니다. 반환 배열은 다음 호출 때 덮어씁니다.
+     */
+    byte[] sha1(String password) {
+      int length = encodeUtf8(password);
+      sha1.update(utf8, 0, length);
+      try {
+        sha1.digest(digest, 0, DIGEST_LENGTH);
+      } catch (DigestException e) {
+        throw new IllegalStateException("SHA-1 계산 중 오류가 발생했습니다.", e);
+      }
+      return digest;
+    }
+
+    private int encodeUtf8(String s) {
+      int required = s.length() * 3;
+      if (utf8.length < required) {
+        utf8 = new byte[required];
+      }
+      return CredentialCodec.encodeUtf8(s, utf8);
+    }
+  }
+
+  /**
+   * 빌더가 헤더를 쓸 때 사용합니다.
+   */
+  static void writeHeader(ByteBuffer buffer, int hashCount, long bitCount, long entryCount) {
+    buffer.putInt(0, MAGIC);
+    buffer.putInt(4, VERSION);
+    buffer.putInt(8, hashCount);
+    buffer.putInt(12, 0);
+    buffer.putLong(16, bitCount);
+    buffer.putLong(24, entryCount);
+  }
+}
@@ -0,0 +1,111 @@
+package com.procore.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 카운팅 Bloom 필터 (4비트 카운터, 스레드 안전)
+ *
+ * 각 위치에 비트 대신 4비트 카운터를 두어 삭제를 지원합니다.
+ * 카운터는 long 하나에 16개씩 묶어 AtomicLongArray 에 두고 CAS 로 갱신하므로 잠금이 없습니다.
+ * 카운터가 15에 도달하면 고정되어 이후 증감하지 않으며, 이 경우 거짓 양성만 남고 거짓 음성은 생기지 않습니다.
+ *
+ * 키는 호출자가 계산한 64비트 해시 두 개로 전달하며 위치는 더블 해싱으로 구합니다.
+ */
+public final class CountingBloomFilter {
+
+  private static final int COUNTERS_PER_WORD = 16;
+  private static final long COUNTER_MASK = 0xFL;
+  private static final long COUNTER_MAX = 0xFL;
+
+  private final AtomicLongArray counters;
+  private final long counterCount;
+  private final int hashCount;
+
+  private CountingBloomFilter(long counterCount, int hashCount) {
+    long words = (counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD;
+    if (words > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("카운터 수가 너무 큽니다: " + counterCount);
+    }
+    this.counters = new AtomicLongArray((int) words);
+    this.counterCount = words * COUNTERS_PER_WORD;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * 예상 항목 수와 목표 거짓 양성률로 필터를 만듭니다.
+   * @param expectedEntries 예상 항목 수
+   * @param falsePositiveRate 목표 거짓 양성률 (0과 1 사이)
+   */
+  public static CountingBloomFilter create(long expectedEntries, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("거짓 양성률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+    }
+    long entries = Math.max(1, expectedEntries);
+    long counterCount = BreachedPasswordFilter.optimalBitCount(entries, falsePositiveRate);
+    return new CountingBloomFilter(counterCount, BreachedPasswordFilter.optimalHashCount(entries, counterCount));
+  }
+
+  /**
+   * 항목을 추가합니다.
+   */
+  public void add(long h1, long h2) {
+    for (int i = 0; i < hashCount; i++) {
+      update(BreachedPasswordFilter.bitIndex(h1, h2, i, counterCount), 1);
+    }
+  }
+
+  /**
+   * 항목을 제거합니다. 추가된 적 없는 항목을 제거하면 거짓 음성이 생길 수 있으므로
+   * 반드시 이전에 add 한 항목만 제거해야 합니다.
+   */
+  public void remove(long h1, long h2) {
+    for (int i = 0; i < hashCount; i++) {
+      update(BreachedPasswordFilter.bitIndex(h1, h2, i, counterCount), -1);
+    }
+  }
+
+  /**
+   * 포함되어 있을 수 있는지 확인합니다.
+   * @return 포함 가능성이 있으면 true (거짓 양성 가능), 확실히 없으면 false
+   */
+  public boolean mightContain(long h1, long h2) {
+    for (int i = 0; i < hashCount; i++) {
+      if (counter(BreachedPasswordFilter.bitIndex(h1, h2, i, counterCount)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long getCounterCount() { return counterCount; }
+  public int getHashCount() { return hashCount; }
+
+  /** 메모리 사용량 (바이트) */
+  public long getSizeInBytes() { return (long) counters.length() * Long.BYTES; }
+
+  private long counter(long index) {
+    long word = counters.get((int) (index / COUNTERS_PER_WORD));
+    return (word >>> shift(index)) & COUNTER_MASK;
+  }
+
+  private void update(long index, int delta) {
+    int wordIndex = (int) (index / COUNTERS_PER_WORD);
+    int shift = shift(index);
+    while (true) {
+      long word = counters.get(wordIndex);
+      long value = (word >>> shift) & COUNTER_MASK;
+      // 포화된 카운터는 고정, 0 인 카운터는 더 줄이지 않음
+      if (value == COUNTER_MAX || (delta < 0 && value == 0)) {
+        return;
+      }
+      long updated = (word & ~(COUNTER_MASK << shift)) | ((value + delta) << shift);
+      if (counters.compareAndSet(wordIndex, word, updated)) {
+        return;
+      }
+    }
+  }
+
+  private static int shift(long index) {
+    return (int) (index % COUNTERS_PER_WORD) * 4;
+  }
+}
@@ -0,0 +1,474 @@
+package com.procore.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * 비밀번호 해시 인코딩/디코딩 (스레드별 버퍼 재사용)
+ *
+ * 스레드마다 Mac, MessageDigest, SecureRandom 과 작업 버퍼를 하나씩 두고 재사용하며,
+ * UTF-8 변환, PBKDF2 반복, Base64 인코딩/디코딩을 모두 미리 할당한 배열 위에서 수행합니다.
+ * 해시 1회당 새로 만드는 객체는 HMAC 키와 결과 문자열뿐입니다.
+ * 계산이 끝나면 UTF-8 버퍼의 비밀번호 바이트를 0 으로 지우고 Mac 을 더미 키로 다시 초기화하여,
+ * 스레드별 상태에 비밀번호가 남지 않게 합니다 (SecretKeySpec 복사본은 지울 수 없어 GC 에 맡김).
+ *
+ * 텍스트 형식: $pbkdf2-sha256$v=1$i=반복횟수$salt$hash (Base64, 패딩 없음)
+ * 기존 형식: Base64(32바이트 salt + SHA-256(salt + 비밀번호))
+ *
+ * 바이너리 형식 (VARBINARY 컬럼용):
+ * PBKDF2 = 0x01 | 반복횟수(int, 빅 엔디언) | salt 16바이트 | hash 32바이트 (53바이트)
+ * 기존   = 0x00 | salt 32바이트 | hash 32바이트 (65바이트)
+ */
+public final class CredentialCodec {
+
+  static final String PBKDF2_PREFIX = "$pbkdf2-sha256$";
+  static final int FORMAT_VERSION = 1;
+  static final int SALT_LENGTH = 16;
+  static final int HASH_LENGTH = 32;
+  static final int LEGACY_SALT_LENGTH = 32;
+
+  private static final String VERSION_AND_COST = "v=" + FORMAT_VERSION + "$i=";
+  private static final byte BINARY_LEGACY = 0;
+  private static final byte BINARY_PBKDF2 = 1;
+  private static final int BINARY_PBKDF2_LENGTH = 1 + 4 + SALT_LENGTH + HASH_LENGTH;
+  private static final int BINARY_LEGACY_LENGTH = 1 + LEGACY_SALT_LENGTH + HASH_LENGTH;
+
+  private static final char[] BASE64 =
+          "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+  private static final byte[] BASE64_INDEX = new byte[128];
+
+  static {
+    Arrays.fill(BASE64_INDEX, (byte) -1);
+    for (int i = 0; i < BASE64.length; i++) {
+      BASE64_INDEX[BASE64[i]] = (byte) i;
+    }
+  }
+
+  private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+  /** 빈 비밀번호용 키 겸 사용 후 Mac 초기화용 더미 키 (HMAC 은 키를 0으로 채우므로 빈 키와 같은 결과) */
+  private static final SecretKeySpec EMPTY_KEY = new SecretKeySpec(new byte[1], "HmacSHA256");
+
+  private CredentialCodec() {
+  }
+
+  /**
+   * 새 salt 로 비밀번호를 해시화하여 텍스트 형식으로 반환합니다.
+   * @param password 원본 비밀번호
+   * @param iterations PBKDF2 반복 횟수
+   * @return $pbkdf2-sha256$... 형식 문자열
+   */
+  public static String hash(CharSequence password, int iterations) {
+    State state = STATE.get();
+    state.random.nextBytes(state.salt);
+    pbkdf2(state, password, state.salt, SALT_LENGTH, iterations, state.derived, HASH_LENGTH);
+
+    char[] out = state.text;
+    int n = append(out, 0, PBKDF2_PREFIX);
+    n = append(out, n, VERSION_AND_COST);
+    n = appendInt(out, n, iterations);
+    out[n++] = '$';
+    n = encodeBase64(state.salt, SALT_LENGTH, out, n);
+    out[n++] = '$';
+    n = encodeBase64(state.derived, HASH_LENGTH, out, n);
+    return new String(out, 0, n);
+  }
+
+  /**
+   * 저장된 해시(PBKDF2 또는 기존 형식)와 비밀번호가 일치하는지 확인합니다.
+   * @param password 입력된 비밀번호
+   * @param stored 저장된 해시
+   * @return 일치 여부 (형식이 잘못된 경우 false)
+   */
+  public static boolean verify(CharSequence password, String stored) {
+    if (password == null || stored == null) {
+      return false;
+    }
+    State state = STATE.get();
+
+    if (!stored.startsWith(PBKDF2_PREFIX)) {
+      return verifyLegacy(state, password, stored);
+    }
+
+    int iterations = iterationsOf(stored);
+    if (iterations <= 0) {
+      return false;
+    }
+    int saltStart = stored.indexOf('$', PBKDF2_PREFIX.length() + VERSION_AND_COST.length()) + 1;
+    int hashStart = stored.indexOf('$', saltStart) + 1;
+    if (saltStart <= 0 || hashStart <= 0) {
+      return false;
+    }
+
+    int saltLength = decodeBase64(stored, saltStart, hashStart - 1, state.decodedSalt);
+    int hashLength = decodeBase64(stored, hashStart, stored.length(), state.decodedHash);
+    if (saltLength <= 0 || hashLength <= 0 || hashLength > state.derived.length) {
+      return false;
+    }
+
+    pbkdf2(state, password, state.decodedSalt, saltLength, iterations, state.derived, hashLength);
+    return constantTimeEquals(state.decodedHash, state.derived, hashLength);
+  }
+
+  /**
+   * PBKDF2 형식 해시의 반복 횟수를 읽습니다.
+   * @param stored 저장된 해시
+   * @return 반복 횟수, 기존 형식이거나 형식이 잘못된 경우 -1
+   */
+  public static int iterationsOf(String stored) {
+    if (stored == null || !stored.startsWith(PBKDF2_PREFIX)
+            || !stored.startsWith(VERSION_AND_COST, PBKDF2_PREFIX.length())) {
+      return -1;
+    }
+    long value = 0;
+    int i = PBKDF2_PREFIX.length() + VERSION_AND_COST.length();
+    int start = i;
+    while (i < stored.length() && stored.charAt(i) >= '0' && stored.charAt(i) <= '9') {
+      value = value * 10 + (stored.charAt(i) - '0');
+      if (value > Integer.MAX_VALUE) {
+        return -1;
+      }
+      i++;
+    }
+    if (i == start || i >= stored.length() || stored.charAt(i) != '$') {
+      return -1;
+    }
+    return (int) value;
+  }
+
+  /**
+   * 고정 salt 로 PBKDF2 를 1회 계산합니다 (반복 횟수 측정용).
+   */
+  static void benchmark(CharSequence password, int iterations) {
+    State state = STATE.get();
+    pbkdf2(state, password, state.salt, SALT_LENGTH, iterations, state.derived, HASH_LENGTH);
+  }
+
+  /**
+   * 텍스트 형식 해시를 바이너리 형식으로 변환합니다.
+   * @param stored 텍스트 형식 해시
+   * @return 바이너리 형식
+   * @throws IllegalArgumentException 변환할 수 없는 형식
+   */
+  public static byte[] toBinary(String stored) {
+    State state = STATE.get();
+
+    if (stored.startsWith(PBKDF2_PREFIX)) {
+      int iterations = iterationsOf(stored);
+      int saltStart = stored.indexOf('$', PBKDF2_PREFIX.length() + VERSION_AND_COST.length()) + 1;
+      int hashStart = stored.indexOf('$', saltStart) + 1;
+      if (iterations <= 0 || saltStart <= 0 || hashStart <= 0
+              || decodeBase64(stored, saltStart, hashStart - 1, state.decodedSalt) != SALT_LENGTH
+              || decodeBase64(stored, hashStart, stored.length(), state.decodedHash) != HASH_LENGTH) {
+        throw new IllegalArgumentException("바이너리로 변환할 수 없는 비밀번호 해시 형식입니다.");
+      }
+
+      byte[] binary = new byte[BINARY_PBKDF2_LENGTH];
+      binary[0] = BINARY_PBKDF2;
+      binary[1] = (byte) (iterations >>> 24);
+      binary[2] = (byte) (iterations >>> 16);
+      binary[3] = (byte) (iterations >>> 8);
+      binary[4] = (byte) iterations;
+      System.arraycopy(state.decodedSalt, 0, binary, 5, SALT_LENGTH);
+      System.arraycopy(state.decodedHash, 0, binary, 5 + SALT_LENGTH, HASH_LENGTH);
+      return binary;
+    }
+
+    if (decodeBase64(stored, 0, stored.length(), state.legacy) != LEGACY_SALT_LENGTH + HASH_LENGTH) {
+      throw new IllegalArgumentException("바이너리로 변환할 수 없는 비밀번호 해시 형식입니다.");
+    }
+    byte[] binary = new byte[BINARY_LEGACY_LENGTH];
+    binary[0] = BINARY_LEGACY;
+    System.arraycopy(state.legacy, 0, binary, 1, LEGACY_SALT_LENGTH + HASH_LENGTH);
+    return binary;
+  }
+
+  /**
+   * 바이너리 형식 해시를 텍스트 형식으로 변환합니다.
+   * @param binary 바이너리 형식
+   * @return 텍스트 형식 해시
+   * @throws IllegalArgumentException 알 수 없는 형식
+   */
+  public static String fromBinary(byte[] binary) {
+    char[] out = STATE.get().text;
+
+    if (binary.length == BINARY_PBKDF2_LENGTH && binary[0] == BINARY_PBKDF2) {
+      int iterations = ((binary[1] & 0xFF) << 24) | ((binary[2] & 0xFF) << 16)
+              | ((binary[3] & 0xFF) << 8) | (binary[4] & 0xFF);
+      int n = append(out, 0, PBKDF2_PREFIX);
+      n = append(out, n, VERSION_AND_COST);
+      n = appendInt(out, n, iterations);
+      out[n++] = '$';
+      n = encodeBase64(binary, 5, SALT_LENGTH, out, n);
+      out[n++] = '$';
+      n = encodeBase64(binary, 5 + SALT_LENGTH, HASH_LENGTH, out, n);
+      return new String(out, 0, n);
+    }
+
+    if (binary.length == BINARY_LEGACY_LENGTH && binary[0] == BINARY_LEGACY) {
+      int n = encodeBase64(binary, 1, LEGACY_SALT_LENGTH + HASH_LENGTH, out, 0);
+      while (n % 4 != 0) {
+        out[n++] = '=';
+      }
+      return new String(out, 0, n);
+    }
+
+    throw new IllegalArgumentException("알 수 없는 바이너리 비밀번호 해시 형식입니다.");
+  }
+
+  /**
+   * 문자열을 UTF-8 로 버퍼에 씁니다. String.getBytes(UTF_8) 과 같은 결과 (짝 없는 서로게이트는 '?').
+   * @param s 변환할 문자열
+   * @param out 결과 버퍼 (s.length() * 3 바이트 이상)
+   * @return 쓴 바이트 수
+   */
+  static int encodeUtf8(CharSequence s, byte[] out) {
+    int n = 0;
+    int length = s.length();
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        out[n++] = (byte) c;
+      } else if (c < 0x800) {
+        out[n++] = (byte) (0xC0 | (c >> 6));
+        out[n++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i + 1 < length
+              && Character.isLowSurrogate(s.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, s.charAt(++i));
+        out[n++] = (byte) (0xF0 | (cp >> 18));
+        out[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+        out[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+        out[n++] = (byte) (0x80 | (cp & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        out[n++] = (byte) '?';
+      } else {
+        out[n++] = (byte) (0xE0 | (c >> 12));
+        out[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        out[n++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+    return n;
+  }
+
+  // === PBKDF2 / 기존 형식 ===
+
+  /**
+   * PBKDF2-HMAC-SHA256 (RFC 8018). 반복 구간은 Mac 과 고정 버퍼만 사용합니다.
+   */
+  private static void pbkdf2(State state, CharSequence password, byte[] salt, int saltLength,
+                             int iterations, byte[] out, int length) {
+    int passwordLength = state.encode(password);
+    Mac mac = state.hmac;
+    try {
+      mac.init(passwordLength == 0
+              ? EMPTY_KEY
+              : new SecretKeySpec(state.utf8, 0, passwordLength, "HmacSHA256"));
+
+      byte[] u = state.block;
+      byte[] t = state.accumulator;
+      for (int block = 1, offset = 0; offset < length; block++, offset += HASH_LENGTH) {
+        mac.update(salt, 0, saltLength);
+        mac.update((byte) (block >>> 24));
+        mac.update((byte) (block >>> 16));
+        mac.update((byte) (block >>> 8));
+        mac.update((byte) block);
+        mac.doFinal(u, 0);
+        System.arraycopy(u, 0, t, 0, HASH_LENGTH);
+
+        for (int i = 1; i < iterations; i++) {
+          mac.update(u, 0, HASH_LENGTH);
+          mac.doFinal(u, 0);
+          for (int j = 0; j < HASH_LENGTH; j++) {
+            t[j] ^= u[j];
+          }
+        }
+        System.arraycopy(t, 0, out, offset, Math.min(HASH_LENGTH, length - offset));
+      }
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("PBKDF2 계산 중 오류가 발생했습니다.", e);
+    } finally {
+      state.clearPassword(passwordLength);
+    }
+  }
+
+  private static boolean verifyLegacy(State state, CharSequence password, String stored) {
+    int length = decodeBase64(stored, 0, stored.length(), state.legacy);
+    if (length <= LEGACY_SALT_LENGTH) {
+      return false;
+    }
+
+    int passwordLength = state.encode(password);
+    MessageDigest sha256 = state.sha256;
+    try {
+      sha256.update(state.legacy, 0, LEGACY_SALT_LENGTH);
+      sha256.update(state.utf8, 0, passwordLength);
+      sha256.digest(state.derived, 0, HASH_LENGTH);
+    } catch (DigestException e) {
+      throw new IllegalStateException("SHA-256 계산 중 오류가 발생했습니다.", e);
+    } finally {
+      state.clearPassword(passwordLength);
+    }
+
+    int hashLength = length - LEGACY_SALT_LENGTH;
+    if (hashLength != HASH_LENGTH) {
+      return false;
+    }
+    System.arraycopy(state.legacy, LEGACY_SALT_LENGTH, state.decodedHash, 0, HASH_LENGTH);
+    return constantTimeEquals(state.decodedHash, state.derived, HASH_LENGTH);
+  }
+
+  private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+    int diff = 0;
+    for (int i = 0; i < length; i++) {
+      diff |= a[i] ^ b[i];
+    }
+    return diff == 0;
+  }
+
+  // === 인코딩 헬퍼 ===
+
+  private static int append(char[] out, int n, String s) {
+    s.getChars(0, s.length(), out, n);
+    return n + s.length();
+  }
+
+  private static int appendInt(char[] out, int n, int value) {
+    int digits = 1;
+    for (int v = value; v >= 10; v /= 10) {
+      digits++;
+    }
+    for (int i = n + digits - 1; i >= n; i--) {
+      out[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    return n + digits;
+  }
+
+  private static int encodeBase64(byte[] in, int length, char[] out, int n) {
+    return encodeBase64(in, 0, length, out, n);
+  }
+
+  /**
+   * 표준 Base64 (패딩 없음)
+   */
+  private static int encodeBase64(byte[] in, int offset, int length, char[] out, int n) {
+    int end = offset + length;
+    int i = offset;
+    for (; i + 2 < end; i += 3) {
+      int bits = ((in[i] & 0xFF) << 16) | ((in[i + 1] & 0xFF) << 8) | (in[i + 2] & 0xFF);
+      out[n++] = BASE64[bits >>> 18];
+      out[n++] = BASE64[(bits >>> 12) & 0x3F];
+      out[n++] = BASE64[(bits >>> 6) & 0x3F];
+      out[n++] = BASE64[bits & 0x3F];
+    }
+    int remaining = end - i;
+    if (remaining == 1) {
+      int bits = (in[i] & 0xFF) << 16;
+      out[n++] = BASE64[bits >>> 18];
+      out[n++] = BASE64[(bits >>> 12) & 0x3F];
+    } else if (remaining == 2) {
+      int bits = ((in[i] & 0xFF) << 16) | ((in[i + 1] & 0xFF) << 8);
+      out[n++] = BASE64[bits >>> 18];
+      out[n++] = BASE64[(bits >>> 12) & 0x3F];
+      out[n++] = BASE64[(bits >>> 6) & 0x3F];
+    }
+    return n;
+  }
+
+  /**
+   * 표준 Base64 디코딩 (패딩 유무 모두 허용)
+   * @return 디코딩한 바이트 수, 형식이 잘못되었거나 버퍼보다 길면 -1
+   */
+  private static int decodeBase64(String s, int start, int end, byte[] out) {
+    while (end > start && s.charAt(end - 1) == '=') {
+      end--;
+    }
+    int length = end - start;
+    if (length % 4 == 1 || length * 3 / 4 > out.length) {
+      return -1;
+    }
+
+    int n = 0;
+    int bits = 0;
+    int count = 0;
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      int value = c < 128 ? BASE64_INDEX[c] : -1;
+      if (value < 0) {
+        return -1;
+      }
+      bits = (bits << 6) | value;
+      if (++count == 4) {
+        out[n++] = (byte) (bits >>> 16);
+        out[n++] = (byte) (bits >>> 8);
+        out[n++] = (byte) bits;
+        bits = 0;
+        count = 0;
+      }
+    }
+    if (count == 2) {
+      out[n++] = (byte) (bits >>> 4);
+    } else if (count == 3) {
+      out[n++] = (byte) (bits >>> 10);
+      out[n++] = (byte) (bits >>> 2);
+    }
+    return n;
+  }
+
+  /**
+   * 스레드별 암호화 객체와 작업 버퍼
+   */
+  private static final class State {
+
+    final Mac hmac;
+    final MessageDigest sha256;
+    final SecureRandom random = new SecureRandom();
+
+    byte[] utf8 = new byte[512];
+    final byte[] salt = new byte[SALT_LENGTH];
+    final byte[] block = new byte[HASH_LENGTH];
+    final byte[] accumulator = new byte[HASH_LENGTH];
+    final byte[] derived = new byte[64];
+    final byte[] decodedSalt = new byte[64];
+    final byte[] decodedHash = new byte[64];
+    final byte[] legacy = new byte[96];
+    final char[] text = new char[128];
+
+    State() {
+      try {
+        hmac = Mac.getInstance("HmacSHA256");
+        sha256 = MessageDigest.getInstance("SHA-256");
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("HmacSHA256/SHA-256 을 사용할 수 없습니다.", e);
+      }
+    }
+
+    /**
+     * 비밀번호를 UTF-8 버퍼에 씁니다 (필요할 때만 버퍼 확장).
+     */
+    int encode(CharSequence password) {
+      int required = password.length() * 3;
+      if (utf8.length < required) {
+        utf8 = new byte[required];
+      }
+      return encodeUtf8(password, utf8);
+    }
+
+    /**
+     * 사용한 비밀번호 바이트를 지우고 Mac 이 비밀번호 키를 더 이상 들고 있지 않게 합니다.
+     */
+    void clearPassword(int passwordLength) {
+      Arrays.fill(utf8, 0, passwordLength, (byte) 0);
+      try {
+        hmac.init(EMPTY_KEY);
+      } catch (GeneralSecurityException e) {
+        hmac.reset();
+      }
+    }
+  }
+}
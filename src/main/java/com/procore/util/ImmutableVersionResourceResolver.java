@@ -0,0 +1,133 @@
+package com.procore.util;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+import org.springframework.web.servlet.resource.VersionStrategy;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+/**
+ * 내용 해시 버전 URL 리졸버 (main-3f2a...e1.css 처럼 파일 내용의 MD5 를 파일 이름에 붙임)
+ *
+ * JSP 의 <c:url> 은 ResourceUrlEncodingFilter 를 거쳐 버전 URL 로 바뀌고, 버전 URL 로 온 요청에는
+ * "Cache-Control: max-age=1년, public, immutable" 을 붙여 브라우저가 다시 확인하지 않게 합니다.
+ * 내용이 바뀌면 URL 도 바뀌므로 오래 캐시해도 안전합니다. 버전 없는 URL 은 핸들러 설정(no-cache)을 따릅니다.
+ *
+ * Spring 5.3 의 CacheControl 에는 immutable 이 없어 버전 URL 로 찾은 리소스의 응답 헤더로 직접 붙입니다.
+ */
+public class ImmutableVersionResourceResolver extends VersionResourceResolver {
+
+  private static final long ONE_YEAR_SECONDS = 365L * 24 * 60 * 60;
+
+  private String cacheControl = immutableCacheControl(ONE_YEAR_SECONDS);
+
+  public ImmutableVersionResourceResolver() {
+    addContentVersionStrategy("/**");
+  }
+
+  /** 버전 URL 응답의 max-age (기본 1년) */
+  public void setCacheSeconds(long cacheSeconds) {
+    this.cacheControl = immutableCacheControl(cacheSeconds);
+  }
+
+  @Override
+  protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                             List<? extends Resource> locations, ResourceResolverChain chain) {
+    Resource resource = super.resolveResourceInternal(request, requestPath, locations, chain);
+    if (resource == null) {
+      return null;
+    }
+    VersionStrategy strategy = getStrategyForPath(requestPath);
+    if (strategy == null || strategy.extractVersion(requestPath) == null) {
+      return resource;
+    }
+    return new ImmutableResource(resource, cacheControl);
+  }
+
+  private static String immutableCacheControl(long seconds) {
+    return "max-age=" + seconds + ", public, immutable";
+  }
+
+  /**
+   * 버전 URL 로 찾은 리소스 (원본에 위임하고 Cache-Control 헤더만 추가)
+   *
+   * CachingResourceTransformer 는 리소스 설명(description)으로 캐시하므로, 설명과 createRelative 로 찾은
+   * .gz/.br 리소스의 설명을 버전 없는 URL 의 것과 다르게 하여 두 응답의 헤더가 섞이지 않게 합니다.
+   */
+  private static final class ImmutableResource implements HttpResource {
+    private final Resource original;
+    private final String cacheControl;
+
+    private ImmutableResource(Resource original, String cacheControl) {
+      this.original = original;
+      this.cacheControl = cacheControl;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+      HttpHeaders headers = new HttpHeaders();
+      if (original instanceof HttpResource) {
+        headers.putAll(((HttpResource) original).getResponseHeaders());
+      }
+      headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+      return headers;
+    }
+
+    @Override
+    public boolean exists() { return original.exists(); }
+
+    @Override
+    public boolean isReadable() { return original.isReadable(); }
+
+    @Override
+    public boolean isOpen() { return original.isOpen(); }
+
+    @Override
+    public boolean isFile() { return original.isFile(); }
+
+    @Override
+    public URL getURL() throws IOException { return original.getURL(); }
+
+    @Override
+    public URI getURI() throws IOException { return original.getURI(); }
+
+    @Override
+    public File getFile() throws IOException { return original.getFile(); }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException { return original.readableChannel(); }
+
+    @Override
+    public long contentLength() throws IOException { return original.contentLength(); }
+
+    @Override
+    public long lastModified() throws IOException { return original.lastModified(); }
+
+    @Override
+    public Resource createRelative(String relativePath) throws IOException {
+      return new ImmutableResource(original.createRelative(relativePath), cacheControl);
+    }
+
+    @Override
+    public String getFilename() { return original.getFilename(); }
+
+    @Override
+    public String getDescription() { return original.getDescription() + " (versioned)"; }
+
+    @Override
+    public String toString() { return getDescription(); }
+
+    @Override
+    public InputStream getInputStream() throws IOException { return original.getInputStream(); }
+  }
+}
@@ -0,0 +1,295 @@
+package com.procore.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 입력 중인 비밀번호의 증분 분석기 (글자 추가/삭제마다 상태만 갱신)
+ *
+ * PasswordAnalysis.of 와 같은 규칙을 쓰지만, 글자마다 그 위치까지의 상태(연속/반복 길이, 시퀀스 위치,
+ * 사전 오토마톤 상태, 누적 패턴 플래그)를 쌓아 두어 끝에 글자를 추가하거나 지울 때 전체를 다시 읽지 않습니다.
+ * 문자 종류 수와 고유 문자 수는 카운터로 유지합니다.
+ *
+ * 삭제는 상태 하나를 버리는 것이라 상수 시간이고, 추가는 상수 시간
+ * (앞부분 반복 판정에 쓰는 KMP 실패 함수만 분할 상환 상수 시간)입니다.
+ * 중간을 고치면 그 위치까지 truncate 한 뒤 나머지를 append 하므로 비용은 바뀐 뒷부분 길이에 비례합니다.
+ *
+ * 스레드 안전하지 않습니다 (입력 세션 하나당 하나씩 사용).
+ */
+public final class IncrementalPasswordAnalyzer {
+
+  private static final int SEQUENCE = 1;
+  private static final int REPEAT = 1 << 1;
+  private static final int BIRTH_DATE = 1 << 2;
+  private static final int YEAR = 1 << 3;
+  private static final int DIGIT_RUN = 1 << 4;
+
+  private final PasswordDictionary dictionary;
+  private final int maxLength;
+
+  private final StringBuilder text;
+  private final Frame[] frames;
+
+  // 문자 종류별 개수
+  private int lowerCount;
+  private int upperCount;
+  private int digitCount;
+  private int specialCount;
+
+  // 고유 문자 수: ASCII 는 배열, 그 외 문자는 맵으로 개수를 셈
+  private final int[] asciiCounts = new int[128];
+  private Map<Character, Integer> otherCounts;
+  private int uniqueCount;
+
+  /**
+   * @param dictionary 일반 비밀번호 사전 (null 이면 사전 검사 생략)
+   * @param maxLength 최대 길이 (넘으면 append 가 IllegalArgumentException)
+   */
+  public IncrementalPasswordAnalyzer(PasswordDictionary dictionary, int maxLength) {
+    this.dictionary = dictionary;
+    this.maxLength = maxLength;
+    this.text = new StringBuilder(Math.min(maxLength, 32));
+    this.frames = new Frame[maxLength];
+  }
+
+  public int length() {
+    return text.length();
+  }
+
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  /**
+   * 끝에 글자들을 추가합니다.
+   * @throws IllegalArgumentException 최대 길이 초과 (추가 전에 검사하며 상태는 바뀌지 않음)
+   */
+  public void append(CharSequence chars) {
+    if (text.length() + chars.length() > maxLength) {
+      throw new IllegalArgumentException("비밀번호는 최대 " + maxLength + "자까지 분석할 수 있습니다.");
+    }
+    for (int i = 0; i < chars.length(); i++) {
+      push(chars.charAt(i));
+    }
+  }
+
+  /**
+   * 끝에 글자 하나를 추가합니다.
+   * @throws IllegalArgumentException 최대 길이 초과
+   */
+  public void append(char c) {
+    if (text.length() >= maxLength) {
+      throw new IllegalArgumentException("비밀번호는 최대 " + maxLength + "자까지 분석할 수 있습니다.");
+    }
+    push(c);
+  }
+
+  /**
+   * 마지막 글자를 지웁니다 (비어 있으면 아무것도 하지 않음).
+   */
+  public void removeLast() {
+    int last = text.length() - 1;
+    if (last < 0) {
+      return;
+    }
+    char c = text.charAt(last);
+    countChar(c, -1);
+    text.setCharAt(last, '\0');
+    text.setLength(last);
+  }
+
+  /**
+   * 앞 newLength 글자만 남깁니다.
+   * @throws IllegalArgumentException newLength 가 음수이거나 현재 길이보다 큰 경우
+   */
+  public void truncate(int newLength) {
+    if (newLength < 0 || newLength > text.length()) {
+      throw new IllegalArgumentException("잘못된 길이: " + newLength + " (현재 " + text.length() + ")");
+    }
+    while (text.length() > newLength) {
+      removeLast();
+    }
+  }
+
+  /**
+   * 모두 지웁니다 (입력 버퍼도 0 으로 덮어씀).
+   */
+  public void clear() {
+    truncate(0);
+  }
+
+  /**
+   * 현재 상태의 분석 결과 (PasswordAnalysis.of 와 같은 값)
+   */
+  public PasswordAnalysis snapshot() {
+    int length = text.length();
+    if (length == 0) {
+      return new PasswordAnalysis(0, false, false, false, false, false,
+              false, false, false, false, 0, 0);
+    }
+    Frame last = frames[length - 1];
+    int flags = last.flags;
+    boolean repeat = (flags & REPEAT) != 0 || last.maxRepeatReach > length;
+    return new PasswordAnalysis(length, lowerCount > 0, upperCount > 0, digitCount > 0, specialCount > 0,
+            (flags & SEQUENCE) != 0, repeat, (flags & BIRTH_DATE) != 0, (flags & YEAR) != 0,
+            (flags & DIGIT_RUN) != 0, uniqueCount, last.dictionaryMatch);
+  }
+
+  private void push(char c) {
+    int i = text.length();
+    Frame prev = i > 0 ? frames[i - 1] : null;
+    Frame frame = frames[i];
+    if (frame == null) {
+      frame = new Frame();
+      frames[i] = frame;
+    }
+    text.append(c);
+    countChar(c, 1);
+
+    int flags = prev != null ? prev.flags : 0;
+    boolean isDigit = c >= '0' && c <= '9';
+
+    // 같은 문자 반복 (aaa)
+    frame.sameRun = (prev != null && c == text.charAt(i - 1)) ? prev.sameRun + 1 : 1;
+    if (frame.sameRun >= PasswordAnalysis.REPEAT_LENGTH) {
+      flags |= REPEAT;
+    }
+
+    // 연속 숫자 / 연도 / 생년월일
+    if (isDigit) {
+      frame.digitRun = (prev != null ? prev.digitRun : 0) + 1;
+      if (frame.digitRun >= PasswordAnalysis.DIGIT_RUN_LENGTH) {
+        flags |= DIGIT_RUN;
+      }
+      if (frame.digitRun >= 4 && PasswordAnalysis.isYearPrefix(text.charAt(i - 3), text.charAt(i - 2))) {
+        flags |= YEAR;
+      }
+      if (frame.digitRun >= 8 && PasswordAnalysis.isMonthDay(text, i - 3)) {
+        flags |= BIRTH_DATE;
+      }
+    } else {
+      frame.digitRun = 0;
+    }
+
+    // 연속 문자 (알파벳 0, 숫자 1, 키보드 2 / 정방향, 역방향)
+    char folded = Character.toLowerCase(c);
+    frame.pos0 = (folded >= 'a' && folded <= 'z') ? folded - 'a' : -1;
+    frame.pos1 = isDigit ? c - '0' : -1;
+    frame.pos2 = folded < 128 ? PasswordAnalysis.KEYBOARD_POSITION[folded] : -1;
+
+    int prev0 = prev != null ? prev.pos0 : -1;
+    int prev1 = prev != null ? prev.pos1 : -1;
+    int prev2 = prev != null ? prev.pos2 : -1;
+    frame.ascRun0 = PasswordAnalysis.nextRun(prev0, frame.pos0, 1, prev != null ? prev.ascRun0 : 0);
+    frame.descRun0 = PasswordAnalysis.nextRun(prev0, frame.pos0, -1, prev != null ? prev.descRun0 : 0);
+    frame.ascRun1 = PasswordAnalysis.nextRun(prev1, frame.pos1, 1, prev != null ? prev.ascRun1 : 0);
+    frame.descRun1 = PasswordAnalysis.nextRun(prev1, frame.pos1, -1, prev != null ? prev.descRun1 : 0);
+    frame.ascRun2 = PasswordAnalysis.nextRun(prev2, frame.pos2, 1, prev != null ? prev.ascRun2 : 0);
+    frame.descRun2 = PasswordAnalysis.nextRun(prev2, frame.pos2, -1, prev != null ? prev.descRun2 : 0);
+    if (frame.ascRun0 >= PasswordAnalysis.SEQUENCE_LENGTH || frame.descRun0 >= PasswordAnalysis.SEQUENCE_LENGTH
+            || frame.ascRun1 >= PasswordAnalysis.SEQUENCE_LENGTH || frame.descRun1 >= PasswordAnalysis.SEQUENCE_LENGTH
+            || frame.ascRun2 >= PasswordAnalysis.SEQUENCE_LENGTH || frame.descRun2 >= PasswordAnalysis.SEQUENCE_LENGTH) {
+      flags |= SEQUENCE;
+    }
+
+    // 사전 단어 일치 (Aho-Corasick 상태 전이)
+    if (dictionary != null) {
+      frame.dictionaryState = dictionary.next(prev != null ? prev.dictionaryState : PasswordDictionary.ROOT, c);
+      frame.dictionaryMatch = Math.max(prev != null ? prev.dictionaryMatch : 0,
+              dictionary.matchLength(frame.dictionaryState));
+    }
+
+    // 앞부분 패턴 반복 (abab, abcabc12)
+    // 길이 m 인 앞부분이 길이 L 조각의 k(>=2)회 반복이면, 전체 길이 n 이 m <= n < m + L 인 동안 반복 패턴입니다.
+    // 실패 함수로 앞부분의 최소 반복 단위를 구하고, 가능한 가장 긴 L 로 n 의 상한(m + L)을 누적 최대값으로 둡니다.
+    int border = prev != null ? prev.border : 0;
+    if (i > 0) {
+      while (border > 0 && text.charAt(border) != c) {
+        border = frames[border - 1].border;
+      }
+      if (text.charAt(border) == c) {
+        border++;
+      }
+    }
+    frame.border = border;
+
+    int m = i + 1;
+    int period = m - border;
+    int root = m % period == 0 ? period : m;
+    int repeats = m / root;
+    int reach = 0;
+    if (repeats >= 2) {
+      int piece = m / smallestPrimeFactor(repeats);
+      if (piece >= 2) {
+        reach = m + piece;
+      }
+    }
+    frame.maxRepeatReach = Math.max(prev != null ? prev.maxRepeatReach : 0, reach);
+
+    frame.flags = flags;
+  }
+
+  private void countChar(char c, int delta) {
+    if (c >= 'a' && c <= 'z') {
+      lowerCount += delta;
+    } else if (c >= 'A' && c <= 'Z') {
+      upperCount += delta;
+    } else if (c >= '0' && c <= '9') {
+      digitCount += delta;
+    } else if (c < 128 && PasswordAnalysis.SPECIAL_TABLE[c]) {
+      specialCount += delta;
+    }
+
+    int before;
+    if (c < 128) {
+      before = asciiCounts[c];
+      asciiCounts[c] += delta;
+    } else {
+      if (otherCounts == null) {
+        otherCounts = new HashMap<>();
+      }
+      Integer count = otherCounts.get(c);
+      before = count != null ? count : 0;
+      if (before + delta == 0) {
+        otherCounts.remove(c);
+      } else {
+        otherCounts.put(c, before + delta);
+      }
+    }
+    if (before == 0 && delta > 0) {
+      uniqueCount++;
+    } else if (before + delta == 0) {
+      uniqueCount--;
+    }
+  }
+
+  private static int smallestPrimeFactor(int n) {
+    if (n % 2 == 0) {
+      return 2;
+    }
+    for (int f = 3; f * f <= n; f += 2) {
+      if (n % f == 0) {
+        return f;
+      }
+    }
+    return n;
+  }
+
+  /**
+   * 한 위치까지 읽은 상태
+   */
+  private static final class Frame {
+    int flags;
+    int sameRun;
+    int digitRun;
+    int pos0, pos1, pos2;
+    int ascRun0, ascRun1, ascRun2;
+    int descRun0, descRun1, descRun2;
+    int dictionaryState;
+    int dictionaryMatch;
+    /** KMP 실패 함수 값 (이 위치까지의 앞부분에서 가장 긴 접두사=접미사 길이) */
+    int border;
+    /** 이 위치까지 본 앞부분 반복이 유효한 전체 길이의 상한 (초과하지 않으면 반복 패턴) */
+    int maxRepeatReach;
+  }
+}
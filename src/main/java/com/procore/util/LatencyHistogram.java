@@ -0,0 +1,130 @@
+package com.procore.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 지연시간 히스토그램 (HdrHistogram 방식의 로그-선형 구간)
+ *
+ * 마이크로초 단위 값을 2의 거듭제곱 구간마다 32개로 나눈 칸에 셉니다 (상대 오차 약 3% 이내).
+ * 64µs 미만은 1µs 단위로 정확히 세고, max-trackable(1시간)을 넘는 값은 마지막 칸에 넣습니다.
+ *
+ * 기록은 AtomicLongArray 의 칸 하나와 LongAdder 두 개를 증가시키는 것이 전부라 요청 스레드에서 바로 호출해도 됩니다.
+ * 값은 시작 후 누적이며, 조회 시 칸을 복사하여 백분위를 계산합니다 (조회 중 기록은 일부만 반영될 수 있음).
+ */
+public final class LatencyHistogram {
+
+  /** 구간당 칸 수의 절반 (2^5) */
+  private static final int SUB_BUCKET_HALF_BITS = 5;
+  private static final int SUB_BUCKET_HALF = 1 << SUB_BUCKET_HALF_BITS;
+  private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF << 1;
+
+  /** 기록할 수 있는 최대값 (1시간, 마이크로초) */
+  private static final long MAX_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+  private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_MICROS) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder totalCount = new LongAdder();
+  private final LongAdder totalMicros = new LongAdder();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  /**
+   * 소요 시간을 기록합니다.
+   * @param nanos 나노초 (System.nanoTime() 차이)
+   */
+  public void recordNanos(long nanos) {
+    long micros = Math.max(0, nanos / 1000);
+    counts.incrementAndGet(indexOf(Math.min(micros, MAX_TRACKABLE_MICROS)));
+    totalCount.increment();
+    totalMicros.add(micros);
+
+    long max = maxMicros.get();
+    while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+      max = maxMicros.get();
+    }
+  }
+
+  /**
+   * 현재까지의 기록을 복사합니다.
+   */
+  public Snapshot snapshot() {
+    long[] copy = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      copy[i] = counts.get(i);
+      count += copy[i];
+    }
+    return new Snapshot(copy, count, totalMicros.sum(), maxMicros.get());
+  }
+
+  /**
+   * 값이 들어갈 칸 번호 (64 미만은 값 그대로, 이상은 상위 6비트로 구간 내 위치를 정함)
+   */
+  static int indexOf(long micros) {
+    if (micros < SUB_BUCKET_COUNT) {
+      return (int) micros;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_HALF_BITS;
+    return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int) ((micros >>> shift) - SUB_BUCKET_HALF);
+  }
+
+  /**
+   * 칸이 나타내는 값 범위의 가운데 값 (마이크로초)
+   */
+  static long valueOf(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+    long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+    long lowest = subBucket << shift;
+    return lowest + ((1L << shift) >> 1);
+  }
+
+  /**
+   * 조회 시점의 복사본
+   */
+  public static final class Snapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sumMicros;
+    private final long maxMicros;
+
+    private Snapshot(long[] counts, long count, long sumMicros, long maxMicros) {
+      this.counts = counts;
+      this.count = count;
+      this.sumMicros = sumMicros;
+      this.maxMicros = maxMicros;
+    }
+
+    public long getCount() { return count; }
+    public long getSumMicros() { return sumMicros; }
+    public long getMaxMicros() { return maxMicros; }
+
+    public double getMeanMicros() {
+      return count > 0 ? (double) sumMicros / count : 0.0;
+    }
+
+    /**
+     * 백분위 값 (마이크로초)
+     * @param percentile 0~100 (예: 99.9)
+     */
+    public long percentileMicros(double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(count * Math.min(100.0, percentile) / 100.0));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Math.min(valueOf(i), maxMicros);
+        }
+      }
+      return maxMicros;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.procore.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 지연시간 히스토그램 모음 (/metrics 로 노출)
+ *
+ * 이름은 "http.MemberController.login", "service.MemberService.login", "password-hash.verify" 처럼
+ * 점으로 구분하며, 처음 기록될 때 히스토그램이 만들어집니다.
+ * 호출자는 System.nanoTime() 으로 잰 시간을 record 에 넘기기만 하면 됩니다.
+ */
+@Component
+public class LatencyMetrics {
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+  private static final String[] QUANTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+  private static final String[] STAT_LABELS = {"p50Millis", "p90Millis", "p99Millis", "p999Millis"};
+
+  private final boolean enabled;
+  private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+  public LatencyMetrics(@Value("${metrics.latency.enabled:true}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 소요 시간을 기록합니다.
+   * @param name 측정 이름
+   * @param nanos System.nanoTime() 차이
+   */
+  public void record(String name, long nanos) {
+    if (!enabled) {
+      return;
+    }
+    LatencyHistogram histogram = histograms.get(name);
+    if (histogram == null) {
+      histogram = histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+    histogram.recordNanos(nanos);
+  }
+
+  /**
+   * 이름별 건수, 평균, 최대, 백분위 (밀리초)
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshots().entrySet()) {
+      LatencyHistogram.Snapshot snapshot = entry.getValue();
+
+      Map<String, Object> values = new LinkedHashMap<>();
+      values.put("count", snapshot.getCount());
+      values.put("meanMillis", snapshot.getMeanMicros() / 1000.0);
+      values.put("maxMillis", snapshot.getMaxMicros() / 1000.0);
+      for (int i = 0; i < PERCENTILES.length; i++) {
+        values.put(STAT_LABELS[i], snapshot.percentileMicros(PERCENTILES[i]) / 1000.0);
+      }
+      stats.put(entry.getKey(), values);
+    }
+    return stats;
+  }
+
+  /**
+   * Prometheus 텍스트 형식 (summary, 초 단위)
+   */
+  public String toText() {
+    StringBuilder text = new StringBuilder(4096);
+    text.append("# HELP procore_latency_seconds 처리 시간 (시작 후 누적)\n");
+    text.append("# TYPE procore_latency_seconds summary\n");
+    for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshots().entrySet()) {
+      String name = entry.getKey().replace("\\", "\\\\").replace("\"", "\\\"");
+      LatencyHistogram.Snapshot snapshot = entry.getValue();
+
+      for (int i = 0; i < PERCENTILES.length; i++) {
+        text.append("procore_latency_seconds{name=\"").append(name)
+                .append("\",quantile=\"").append(QUANTILE_LABELS[i]).append("\"} ")
+                .append(seconds(snapshot.percentileMicros(PERCENTILES[i]))).append('\n');
+      }
+      text.append("procore_latency_seconds_sum{name=\"").append(name).append("\"} ")
+              .append(seconds(snapshot.getSumMicros())).append('\n');
+      text.append("procore_latency_seconds_count{name=\"").append(name).append("\"} ")
+              .append(snapshot.getCount()).append('\n');
+      text.append("procore_latency_seconds_max{name=\"").append(name).append("\"} ")
+              .append(seconds(snapshot.getMaxMicros())).append('\n');
+    }
+    return text.toString();
+  }
+
+  private Map<String, LatencyHistogram.Snapshot> snapshots() {
+    Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+    histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+    return snapshots;
+  }
+
+  private static String seconds(long micros) {
+    return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+  }
+}
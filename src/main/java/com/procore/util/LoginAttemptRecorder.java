@@ -0,0 +1,210 @@
+package com.procore.util;
+
+import com.procore.mapper.LoginAttemptMapper;
+import com.procore.vo.LoginAttemptVO;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 비동기 기록기 (login_attempt 테이블)
+ *
+ * 로그인 처리 스레드는 크기가 고정된 원형 버퍼(ArrayBlockingQueue)에 시도를 넣기만 하고 바로 돌아갑니다.
+ * 전용 스레드가 버퍼를 비우며 batch-size 건이 모이거나 flush-interval-millis 가 지나면
+ * MyBatis BATCH 실행기로 한 번의 JDBC 배치로 저장합니다.
+ *
+ * 버퍼가 가득 차면 full-policy 에 따라 DROP 은 즉시 버리고, BLOCK 은 block-timeout-millis 까지 기다린 뒤 버립니다.
+ * 컨텍스트 종료 시 새 기록을 받지 않고 남은 버퍼를 모두 저장한 뒤 종료합니다.
+ */
+@Component
+public class LoginAttemptRecorder implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(LoginAttemptRecorder.class);
+
+  private static final int EMAIL_MAX_LENGTH = 100;
+  private static final int IP_MAX_LENGTH = 45;
+
+  /** 종료 시 대기 중인 기록 스레드를 깨우기 위한 표식 (저장하지 않음) */
+  private static final LoginAttemptVO SHUTDOWN = new LoginAttemptVO();
+
+  private final SqlSessionFactory sqlSessionFactory;
+  private final boolean enabled;
+  private final ArrayBlockingQueue<LoginAttemptVO> buffer;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final boolean blockWhenFull;
+  private final long blockTimeoutMillis;
+  private final Thread writer;
+
+  private volatile boolean running = true;
+
+  // 통계
+  private final LongAdder published = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder written = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+
+  @Autowired
+  public LoginAttemptRecorder(SqlSessionFactory sqlSessionFactory,
+                              @Value("${login-attempt.enabled:true}") boolean enabled,
+                              @Value("${login-attempt.buffer-size:4096}") int bufferSize,
+                              @Value("${login-attempt.batch-size:200}") int batchSize,
+                              @Value("${login-attempt.flush-interval-millis:1000}") long flushIntervalMillis,
+                              @Value("${login-attempt.full-policy:DROP}") String fullPolicy,
+                              @Value("${login-attempt.block-timeout-millis:50}") long blockTimeoutMillis) {
+    this.sqlSessionFactory = sqlSessionFactory;
+    this.enabled = enabled;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    this.blockWhenFull = "BLOCK".equalsIgnoreCase(fullPolicy.trim());
+    this.blockTimeoutMillis = blockTimeoutMillis;
+
+    this.writer = new Thread(this::runWriter, "login-attempt-writer");
+    this.writer.setDaemon(true);
+    if (enabled) {
+      this.writer.start();
+    }
+
+    log.info("로그인 시도 기록기 {}: 버퍼 {}건, 배치 {}건, 주기 {}ms, 가득 찼을 때 {}",
+            enabled ? "사용" : "사용 안 함", bufferSize, batchSize, flushIntervalMillis, blockWhenFull ? "BLOCK" : "DROP");
+  }
+
+  /**
+   * 로그인 시도를 기록합니다. 저장은 백그라운드에서 이루어지며 호출 스레드는 DB 를 기다리지 않습니다.
+   * @param ipAddress 요청 IP
+   * @param email 시도한 이메일
+   * @param attemptType MEMBER 또는 ADMIN
+   * @param success 성공 여부
+   * @return 버퍼에 넣었으면 true, 버퍼가 가득 차 버렸으면 false
+   */
+  public boolean record(String ipAddress, String email, String attemptType, boolean success) {
+    if (!enabled || !running || email == null) {
+      return false;
+    }
+
+    LoginAttemptVO attempt = new LoginAttemptVO(truncate(ipAddress == null ? "unknown" : ipAddress, IP_MAX_LENGTH),
+            truncate(email, EMAIL_MAX_LENGTH), attemptType, success);
+
+    boolean accepted;
+    if (blockWhenFull) {
+      try {
+        accepted = buffer.offer(attempt, blockTimeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        accepted = false;
+      }
+    } else {
+      accepted = buffer.offer(attempt);
+    }
+
+    if (accepted) {
+      published.increment();
+    } else {
+      dropped.increment();
+    }
+    return accepted;
+  }
+
+  /**
+   * 기록기 상태 (버퍼 사용량, 저장/버림/실패 건수)
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("buffered", buffer.size());
+    stats.put("bufferRemainingCapacity", buffer.remainingCapacity());
+    stats.put("published", published.sum());
+    stats.put("dropped", dropped.sum());
+    stats.put("written", written.sum());
+    stats.put("failed", failed.sum());
+    stats.put("batches", batches.sum());
+    return stats;
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    running = false;
+    buffer.offer(SHUTDOWN);
+    if (writer.isAlive()) {
+      writer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 10_000L);
+    }
+    log.info("로그인 시도 기록기 종료: 저장 {}건, 버림 {}건, 실패 {}건", written.sum(), dropped.sum(), failed.sum());
+  }
+
+  private void runWriter() {
+    List<LoginAttemptVO> batch = new ArrayList<>(batchSize);
+    long firstBufferedAt = 0;
+
+    while (running || !buffer.isEmpty()) {
+      long waitNanos = batch.isEmpty()
+              ? flushIntervalNanos
+              : flushIntervalNanos - (System.nanoTime() - firstBufferedAt);
+
+      LoginAttemptVO attempt = null;
+      if (waitNanos > 0) {
+        try {
+          attempt = buffer.poll(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+          // 종료 시에는 running 플래그로 빠져나가며 남은 버퍼를 저장
+          running = false;
+        }
+      }
+
+      if (attempt != null) {
+        if (batch.isEmpty()) {
+          firstBufferedAt = System.nanoTime();
+        }
+        batch.add(attempt);
+        buffer.drainTo(batch, batchSize - batch.size());
+        if (!running) {
+          batch.remove(SHUTDOWN);
+        }
+      }
+
+      boolean due = !batch.isEmpty() && System.nanoTime() - firstBufferedAt >= flushIntervalNanos;
+      if (batch.size() >= batchSize || due || (!running && !batch.isEmpty())) {
+        flush(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  /**
+   * 한 번의 JDBC 배치로 저장합니다. 실패하면 해당 배치는 버리고 다음 배치를 계속 처리합니다.
+   */
+  private void flush(List<LoginAttemptVO> batch) {
+    try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+      LoginAttemptMapper mapper = session.getMapper(LoginAttemptMapper.class);
+      for (LoginAttemptVO attempt : batch) {
+        mapper.insertLoginAttempt(attempt);
+      }
+      session.flushStatements();
+      session.commit();
+      written.add(batch.size());
+      batches.increment();
+    } catch (Exception e) {
+      failed.add(batch.size());
+      log.warn("로그인 시도 기록 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+    }
+  }
+
+  private static String truncate(String value, int maxLength) {
+    return value.length() > maxLength ? value.substring(0, maxLength) : value;
+  }
+}
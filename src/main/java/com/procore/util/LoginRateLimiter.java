@@ -0,0 +1,360 @@
+package com.procore.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인/회원가입 요청 제한 (메모리, 잠금 없는 슬라이딩 윈도우)
+ *
+ * IP, 이메일, IP+이메일 조합별로 최근 window-seconds 동안의 로그인 실패 수를 세고,
+ * 기준을 넘으면 DB 조회나 비밀번호 해시 전에 요청을 거부합니다. 회원가입은 IP 별 시도 수를 셉니다.
+ *
+ * 이메일 기준은 실패한 주소와 상관없이 그 계정의 로그인을 모두 막으므로, 누구나 남의 이메일로
+ * 틀린 비밀번호를 보내 계정 주인을 잠글 수 있습니다. 그래서 한 곳에서의 추측은 IP+이메일 기준(낮게)으로 막고,
+ * 이메일 기준은 여러 IP 로 분산된 추측만 막도록 높게 둡니다 (기본 100회, 낮추면 잠금 악용이 쉬워짐).
+ *
+ * 각 키는 AtomicLong 하나에 (윈도우 번호 32비트 | 이전 윈도우 수 16비트 | 현재 윈도우 수 16비트)를 담아 CAS 로 갱신하며,
+ * 이전 윈도우 수를 경과 비율만큼 줄여 더하는 방식으로 슬라이딩 윈도우를 근사합니다.
+ *
+ * 두 윈도우 이상 갱신이 없는 키는 max-keys 에 도달했을 때(또는 윈도우마다 한 번) 정리합니다.
+ * 정리 후에도 가득 차 있으면 가장 오래 갱신되지 않은 키부터 1/10 을 비우고 새 키를 셉니다
+ * (키를 대량으로 만들어 상한을 채워도 새 키가 제한 없이 통과하지 않도록).
+ * IP 는 요청의 remoteAddr 를 그대로 사용하므로 프록시 뒤에서는 프록시 설정이 필요합니다.
+ */
+@Component
+public class LoginRateLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+  private final boolean enabled;
+  private final SlidingWindowCounter loginByIp;
+  private final SlidingWindowCounter loginByEmail;
+  private final SlidingWindowCounter loginByIpAndEmail;
+  private final SlidingWindowCounter registerByIp;
+
+  public LoginRateLimiter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                          @Value("${rate-limit.window-seconds:300}") long windowSeconds,
+                          @Value("${rate-limit.max-keys:100000}") int maxKeys,
+                          @Value("${rate-limit.login.ip.max-failures:50}") int ipMaxFailures,
+                          @Value("${rate-limit.login.email.max-failures:100}") int emailMaxFailures,
+                          @Value("${rate-limit.login.ip-email.max-failures:5}") int ipEmailMaxFailures,
+                          @Value("${rate-limit.register.ip.max-attempts:10}") int registerMaxAttempts) {
+    long windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+    this.enabled = enabled;
+    this.loginByIp = new SlidingWindowCounter(windowMillis, ipMaxFailures, maxKeys);
+    this.loginByEmail = new SlidingWindowCounter(windowMillis, emailMaxFailures, maxKeys);
+    this.loginByIpAndEmail = new SlidingWindowCounter(windowMillis, ipEmailMaxFailures, maxKeys);
+    this.registerByIp = new SlidingWindowCounter(windowMillis, registerMaxAttempts, maxKeys);
+
+    log.info("요청 제한 {}: 윈도우 {}초, 로그인 실패 IP {}회/이메일 {}회/IP+이메일 {}회, 회원가입 IP {}회",
+            enabled ? "사용" : "사용 안 함", windowSeconds, ipMaxFailures, emailMaxFailures, ipEmailMaxFailures, registerMaxAttempts);
+  }
+
+  /**
+   * 로그인을 시도해도 되는지 확인합니다 (세지 않음).
+   * @throws RateLimitedException 최근 실패가 기준을 넘은 경우
+   */
+  public void checkLogin(String ipAddress, String email) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    String emailKey = normalize(email);
+
+    if (ipAddress != null && loginByIp.isOverLimit(ipAddress, now)) {
+      throw new RateLimitedException("ip", "해당 IP 에서 로그인 실패가 많아 잠시 후 다시 시도해주세요.");
+    }
+    if (emailKey != null && loginByEmail.isOverLimit(emailKey, now)) {
+      throw new RateLimitedException("email", "해당 계정의 로그인 실패가 많아 잠시 후 다시 시도해주세요.");
+    }
+    if (ipAddress != null && emailKey != null && loginByIpAndEmail.isOverLimit(ipAddress + '|' + emailKey, now)) {
+      throw new RateLimitedException("ip-email", "로그인 실패가 많아 잠시 후 다시 시도해주세요.");
+    }
+  }
+
+  /**
+   * 로그인 결과를 반영합니다. 실패는 세고, 성공하면 해당 IP+이메일 기록을 지웁니다.
+   */
+  public void recordLogin(String ipAddress, String email, boolean success) {
+    if (!enabled) {
+      return;
+    }
+    String emailKey = normalize(email);
+    String pairKey = ipAddress != null && emailKey != null ? ipAddress + '|' + emailKey : null;
+
+    if (success) {
+      if (pairKey != null) {
+        loginByIpAndEmail.reset(pairKey);
+      }
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    if (ipAddress != null) {
+      loginByIp.increment(ipAddress, now);
+    }
+    if (emailKey != null) {
+      loginByEmail.increment(emailKey, now);
+    }
+    if (pairKey != null) {
+      loginByIpAndEmail.increment(pairKey, now);
+    }
+  }
+
+  /**
+   * 회원가입 시도를 세고 기준을 넘으면 거부합니다 (확인과 증가를 한 번의 CAS 로, 동시 요청도 기준을 넘지 못함).
+   * @throws RateLimitedException IP 별 시도가 기준을 넘은 경우
+   */
+  public void acquireRegistration(String ipAddress) {
+    if (!enabled || ipAddress == null) {
+      return;
+    }
+    if (!registerByIp.tryIncrement(ipAddress, System.currentTimeMillis())) {
+      throw new RateLimitedException("ip", "회원가입 요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+  }
+
+  /**
+   * 요청 제한 상태 (추적 중인 키 수, 거부 건수)
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("loginByIp", loginByIp.getStats());
+    stats.put("loginByEmail", loginByEmail.getStats());
+    stats.put("loginByIpAndEmail", loginByIpAndEmail.getStats());
+    stats.put("registerByIp", registerByIp.getStats());
+    return stats;
+  }
+
+  private static String normalize(String email) {
+    if (email == null) {
+      return null;
+    }
+    String trimmed = email.trim();
+    return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 키별 슬라이딩 윈도우 카운터 (근사, 잠금 없음)
+   */
+  static final class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFFL;
+    private static final long MIN_FULL_SWEEP_INTERVAL_MILLIS = 1000L;
+    private static final int EVICTION_DIVISOR = 10;
+
+    private final long windowMillis;
+    private final int limit;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    // 통계
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder lruEvicted = new LongAdder();
+
+    SlidingWindowCounter(long windowMillis, int limit, int maxKeys) {
+      this.windowMillis = Math.max(1, windowMillis);
+      this.limit = limit;
+      this.maxKeys = maxKeys;
+    }
+
+    boolean isOverLimit(String key, long now) {
+      Counter counter = counters.get(key);
+      if (counter == null || estimate(counter.get(), now) < limit) {
+        return false;
+      }
+      rejected.increment();
+      return true;
+    }
+
+    void increment(String key, long now) {
+      Counter counter = counterFor(key, now);
+      long window = now / windowMillis;
+      while (true) {
+        long state = counter.get();
+        long updated = next(state, window);
+        if (counter.compareAndSet(state, updated)) {
+          counter.updatedAt = now;
+          return;
+        }
+      }
+    }
+
+    /**
+     * 증가 후 추정치가 기준 이하일 때만 증가시킵니다 (확인과 증가가 같은 CAS).
+     * @return 증가했으면 true, 기준을 넘어 거부했으면 false
+     */
+    boolean tryIncrement(String key, long now) {
+      Counter counter = counterFor(key, now);
+      long window = now / windowMillis;
+      while (true) {
+        long state = counter.get();
+        long updated = next(state, window);
+        if (estimate(updated, now) > limit) {
+          rejected.increment();
+          return false;
+        }
+        if (counter.compareAndSet(state, updated)) {
+          counter.updatedAt = now;
+          return true;
+        }
+      }
+    }
+
+    private Counter counterFor(String key, long now) {
+      Counter counter = counters.get(key);
+      if (counter != null) {
+        return counter;
+      }
+      sweepIfNeeded(now);
+      if (counters.size() >= maxKeys) {
+        evictLeastRecentlyUpdated();
+      }
+      return counters.computeIfAbsent(key, k -> new Counter());
+    }
+
+    void reset(String key) {
+      counters.remove(key);
+    }
+
+    /**
+     * 슬라이딩 윈도우 추정치 = 이전 윈도우 수 × (1 - 현재 윈도우 경과 비율) + 현재 윈도우 수
+     */
+    double estimate(long state, long now) {
+      long window = now / windowMillis;
+      long stateWindow = state >>> 32;
+      long previous = (state >>> 16) & COUNT_MASK;
+      long current = state & COUNT_MASK;
+      double elapsed = (double) (now % windowMillis) / windowMillis;
+
+      if (stateWindow == window) {
+        return previous * (1 - elapsed) + current;
+      }
+      if (stateWindow == window - 1) {
+        return current * (1 - elapsed);
+      }
+      return 0;
+    }
+
+    private static long next(long state, long window) {
+      long stateWindow = state >>> 32;
+      long previous = (state >>> 16) & COUNT_MASK;
+      long current = state & COUNT_MASK;
+
+      if (stateWindow == window) {
+        current = Math.min(COUNT_MASK, current + 1);
+      } else if (stateWindow == window - 1) {
+        previous = current;
+        current = 1;
+      } else {
+        previous = 0;
+        current = 1;
+      }
+      return (window << 32) | (previous << 16) | current;
+    }
+
+    /**
+     * 두 윈도우 이상 갱신이 없는 키를 정리합니다.
+     * 새 윈도우가 시작되었거나, 키 수가 상한에 도달했고 마지막 정리 후 1초가 지난 경우에만 한 스레드가 수행합니다.
+     */
+    private void sweepIfNeeded(long now) {
+      long window = now / windowMillis;
+      long last = lastSweepMillis.get();
+      boolean newWindow = last / windowMillis != window;
+      boolean full = counters.size() >= maxKeys && now - last >= MIN_FULL_SWEEP_INTERVAL_MILLIS;
+      if (!(newWindow || full) || !lastSweepMillis.compareAndSet(last, now)) {
+        return;
+      }
+
+      counters.forEach((key, counter) -> {
+        if ((counter.get() >>> 32) < window - 1 && counters.remove(key, counter)) {
+          evicted.increment();
+        }
+      });
+    }
+
+    /**
+     * 가장 오래 갱신되지 않은 키부터 max-keys 의 1/10 을 비웁니다 (한 번에 한 스레드).
+     * 정리 중에 들어온 새 키는 기다리지 않고 추가하므로 잠시 max-keys 를 조금 넘을 수 있습니다.
+     */
+    private void evictLeastRecentlyUpdated() {
+      if (!evicting.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        long[] updatedAts = new long[counters.size()];
+        int n = 0;
+        for (Counter counter : counters.values()) {
+          if (n == updatedAts.length) {
+            break;
+          }
+          updatedAts[n++] = counter.updatedAt;
+        }
+        if (n == 0) {
+          return;
+        }
+        Arrays.sort(updatedAts, 0, n);
+        long threshold = updatedAts[Math.min(n, Math.max(1, maxKeys / EVICTION_DIVISOR)) - 1];
+
+        counters.forEach((key, counter) -> {
+          if (counter.updatedAt <= threshold && counters.remove(key, counter)) {
+            lruEvicted.increment();
+          }
+        });
+      } finally {
+        evicting.set(false);
+      }
+    }
+
+    Map<String, Object> getStats() {
+      Map<String, Object> stats = new LinkedHashMap<>();
+      stats.put("limit", limit);
+      stats.put("keys", counters.size());
+      stats.put("rejected", rejected.sum());
+      stats.put("evicted", evicted.sum());
+      stats.put("lruEvicted", lruEvicted.sum());
+      return stats;
+    }
+
+    /**
+     * 키 하나의 상태 (윈도우 번호 | 이전 윈도우 수 | 현재 윈도우 수) 와 마지막 갱신 시각 (초과 시 정리 순서)
+     */
+    @SuppressWarnings("serial")
+    static final class Counter extends AtomicLong {
+      volatile long updatedAt = System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * 요청 제한 기준을 넘어 거부된 경우
+   */
+  public static class RateLimitedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String scope;
+
+    public RateLimitedException(String scope, String message) {
+      super(message);
+      this.scope = scope;
+    }
+
+    /** 거부 기준 (ip, email, ip-email) */
+    public String getScope() { return scope; }
+  }
+}
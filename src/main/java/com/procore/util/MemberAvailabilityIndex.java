@@ -0,0 +1,290 @@
+package com.procore.util;
+
+import com.procore.mapper.MemberMapper;
+import com.procore.vo.MemberStatus;
+import com.procore.vo.MemberVO;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이메일/닉네임/전화번호 사용 여부 인덱스 (메모리, 카운팅 Bloom 필터)
+ *
+ * 시작 시 INACTIVE 가 아닌 회원의 이메일, 닉네임, 전화번호를 필드별 카운팅 Bloom 필터에 적재합니다.
+ * 필터에 없다고 나오면 DB 에도 없으므로 중복확인을 메모리에서 바로 끝내고,
+ * 있을 수도 있다고 나올 때만 MySQL 에 COUNT 쿼리를 보냅니다.
+ *
+ * 가입/수정/탈퇴 시 MemberServiceImpl 이 add, replace, remove 로 인덱스를 갱신합니다.
+ * 추가는 즉시 반영하고(롤백되면 거짓 양성만 남음), 제거는 트랜잭션 커밋 후에 반영하여 거짓 음성이 생기지 않게 합니다.
+ *
+ * 인덱스는 프로세스별로 유지되므로 같은 DB 에 여러 인스턴스가 쓰는 환경에서는
+ * member.availability-index.enabled=false 로 끄거나, DB 고유 제약으로 최종 중복을 막아야 합니다.
+ * 적재에 실패하거나 꺼져 있으면 모든 조회에 "있을 수 있음"을 반환하여 기존처럼 DB 로 확인합니다.
+ */
+@Component
+public class MemberAvailabilityIndex implements InitializingBean {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberAvailabilityIndex.class);
+
+  private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+  private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+  @Autowired
+  private MemberMapper memberMapper;
+
+  @Value("${member.availability-index.enabled:true}")
+  private boolean enabled;
+
+  @Value("${member.availability-index.expected-entries:100000}")
+  private long expectedEntries;
+
+  @Value("${member.availability-index.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  private volatile Filters filters;
+
+  // 통계
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder negatives = new LongAdder();
+
+  @Override
+  public void afterPropertiesSet() {
+    if (!enabled) {
+      log.info("회원 중복확인 인덱스 사용 안 함 (member.availability-index.enabled=false)");
+      return;
+    }
+
+    long started = System.currentTimeMillis();
+    try {
+      long activeMembers = memberMapper.countActiveMembers();
+      Filters loaded = new Filters(Math.max(expectedEntries, activeMembers * 2), falsePositiveRate);
+      memberMapper.selectAvailabilityKeys(context -> loaded.add(context.getResultObject()));
+      filters = loaded;
+
+      log.info("회원 중복확인 인덱스 적재 완료: {}명, {}KB ({}ms)",
+              loaded.entries.sum(), loaded.sizeInBytes() / 1024, System.currentTimeMillis() - started);
+    } catch (Exception e) {
+      log.warn("회원 중복확인 인덱스 적재 실패 (DB 조회로 대체): {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 이메일이 사용 중일 수 있는지 확인합니다.
+   * @return 사용 중일 수 있으면 true (DB 확인 필요), 확실히 사용 가능하면 false
+   */
+  public boolean mightContainEmail(String email) {
+    Filters current = filters;
+    return current == null || lookup(current.email, email);
+  }
+
+  /**
+   * 닉네임이 사용 중일 수 있는지 확인합니다.
+   */
+  public boolean mightContainNickname(String nickname) {
+    Filters current = filters;
+    return current == null || lookup(current.nickname, nickname);
+  }
+
+  /**
+   * 전화번호가 사용 중일 수 있는지 확인합니다.
+   */
+  public boolean mightContainPhone(String phone) {
+    Filters current = filters;
+    return current == null || lookup(current.phone, phone);
+  }
+
+  /**
+   * 새로 등록된 회원을 인덱스에 추가합니다.
+   */
+  public void add(MemberVO member) {
+    Filters current = filters;
+    if (current != null) {
+      current.add(member);
+    }
+  }
+
+  /**
+   * 탈퇴한 회원을 인덱스에서 제거합니다. 트랜잭션 안이면 커밋 후에 반영합니다.
+   * @param before 변경 전 회원 정보 (DB 에서 읽은 값)
+   */
+  public void remove(MemberVO before) {
+    Filters current = filters;
+    if (current == null || before == null) {
+      return;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          current.remove(before);
+        }
+      });
+    } else {
+      current.remove(before);
+    }
+  }
+
+  /**
+   * 회원 정보 변경을 반영합니다. 새 값은 즉시 추가하고 이전 값은 커밋 후 제거합니다.
+   * @param before 변경 전 회원 정보 (DB 에서 읽은 값)
+   * @param after 변경 후 회원 정보
+   */
+  public void replace(MemberVO before, MemberVO after) {
+    add(after);
+    remove(before);
+  }
+
+  public boolean isReady() { return filters != null; }
+
+  /**
+   * 인덱스 상태 (적재 건수, 크기, 메모리에서 끝난 조회 비율)
+   */
+  public Map<String, Object> getStats() {
+    Filters current = filters;
+    long lookupCount = lookups.sum();
+    long negativeCount = negatives.sum();
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("ready", current != null);
+    stats.put("entries", current != null ? current.entries.sum() : 0);
+    stats.put("sizeBytes", current != null ? current.sizeInBytes() : 0);
+    stats.put("lookups", lookupCount);
+    stats.put("answeredInMemory", negativeCount);
+    stats.put("inMemoryRatio", lookupCount > 0 ? (double) negativeCount / lookupCount : 0.0);
+    return stats;
+  }
+
+  private boolean lookup(CountingBloomFilter filter, String value) {
+    String key = normalize(value);
+    if (key == null) {
+      return true;
+    }
+    lookups.increment();
+    if (filter.mightContain(hash(key, SEED_1), hash(key, SEED_2))) {
+      return true;
+    }
+    negatives.increment();
+    return false;
+  }
+
+  /**
+   * DB 비교 규칙(utf8mb4_unicode_ci)에서 같게 취급되는 값이 같은 키가 되도록 정규화합니다.
+   * 대소문자, 뒤쪽 공백, 전각/호환 문자, 결합 부호를 접으며, 더 많이 접는 쪽은 거짓 양성만 늘립니다.
+   * @return 정규화된 키, 비어 있으면 null
+   */
+  static String normalize(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    int end = value.length();
+    while (end > 0 && value.charAt(end - 1) == ' ') {
+      end--;
+    }
+    if (end == 0) {
+      return null;
+    }
+
+    String key = value.substring(0, end);
+    for (int i = 0; i < end; i++) {
+      if (key.charAt(i) >= 0x80) {
+        return foldUnicode(key);
+      }
+    }
+    return key.toLowerCase(Locale.ROOT);
+  }
+
+  private static String foldUnicode(String value) {
+    String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+    StringBuilder sb = new StringBuilder(decomposed.length());
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (Character.getType(c) != Character.NON_SPACING_MARK) {
+        sb.append(c);
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  private static long hash(String key, long seed) {
+    long h = seed ^ key.length();
+    for (int i = 0; i < key.length(); i++) {
+      h = (h ^ key.charAt(i)) * SEED_1;
+      h ^= h >>> 29;
+    }
+    // MurmurHash3 fmix64
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  /**
+   * 필드별 필터 묶음
+   */
+  private static final class Filters {
+    final CountingBloomFilter email;
+    final CountingBloomFilter nickname;
+    final CountingBloomFilter phone;
+    final LongAdder entries = new LongAdder();
+
+    Filters(long expectedEntries, double falsePositiveRate) {
+      email = CountingBloomFilter.create(expectedEntries, falsePositiveRate);
+      nickname = CountingBloomFilter.create(expectedEntries, falsePositiveRate);
+      phone = CountingBloomFilter.create(expectedEntries, falsePositiveRate);
+    }
+
+    void add(MemberVO member) {
+      if (member == null || member.getStatus() == MemberStatus.INACTIVE) {
+        return;
+      }
+      update(email, member.getEmail(), true);
+      update(nickname, member.getNickname(), true);
+      update(phone, member.getPhone(), true);
+      entries.increment();
+    }
+
+    void remove(MemberVO member) {
+      if (member == null || member.getStatus() == MemberStatus.INACTIVE) {
+        return;
+      }
+      update(email, member.getEmail(), false);
+      update(nickname, member.getNickname(), false);
+      update(phone, member.getPhone(), false);
+      entries.decrement();
+    }
+
+    long sizeInBytes() {
+      return email.getSizeInBytes() + nickname.getSizeInBytes() + phone.getSizeInBytes();
+    }
+
+    private static void update(CountingBloomFilter filter, String value, boolean add) {
+      String key = normalize(value);
+      if (key == null) {
+        return;
+      }
+      long h1 = hash(key, SEED_1);
+      long h2 = hash(key, SEED_2);
+      if (add) {
+        filter.add(h1, h2);
+      } else {
+        filter.remove(h1, h2);
+      }
+    }
+  }
+}
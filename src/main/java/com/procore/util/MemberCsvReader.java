@@ -0,0 +1,145 @@
+package com.procore.util;
+
+import com.procore.vo.MemberVO;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * 회원 일괄 등록용 CSV 읽기 (한 줄씩 스트리밍)
+ *
+ * 첫 줄은 헤더이며 email, password, nickname, name, phone, address 열을 이름으로 찾습니다 (순서 무관).
+ * 큰따옴표로 감싼 값 안의 쉼표와 "" 이스케이프를 지원합니다. 값 안의 줄바꿈은 지원하지 않습니다.
+ * 빈 줄은 건너뛰고, 없는 열과 빈 값은 null 로 둡니다 (검증은 MemberImportService 에서 처리).
+ */
+public class MemberCsvReader implements Iterator<MemberVO>, Closeable {
+
+  private final BufferedReader reader;
+  private final int emailColumn;
+  private final int passwordColumn;
+  private final int nicknameColumn;
+  private final int nameColumn;
+  private final int phoneColumn;
+  private final int addressColumn;
+
+  private MemberVO next;
+
+  public MemberCsvReader(Reader source) throws IOException {
+    this.reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source, 1 << 16);
+
+    String header = reader.readLine();
+    if (header == null) {
+      throw new IOException("CSV 헤더가 없습니다.");
+    }
+    if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+      header = header.substring(1);
+    }
+
+    List<String> columns = split(header);
+    for (int i = 0; i < columns.size(); i++) {
+      columns.set(i, columns.get(i).trim().toLowerCase(Locale.ROOT));
+    }
+    this.emailColumn = columns.indexOf("email");
+    this.passwordColumn = columns.indexOf("password");
+    this.nicknameColumn = columns.indexOf("nickname");
+    this.nameColumn = columns.indexOf("name");
+    this.phoneColumn = columns.indexOf("phone");
+    this.addressColumn = columns.indexOf("address");
+
+    if (emailColumn < 0 || passwordColumn < 0 || nicknameColumn < 0) {
+      throw new IOException("CSV 헤더에 email, password, nickname 열이 필요합니다: " + header);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next != null) {
+      return true;
+    }
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.trim().isEmpty()) {
+          next = toMember(split(line));
+          return true;
+        }
+      }
+      return false;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public MemberVO next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    MemberVO member = next;
+    next = null;
+    return member;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private MemberVO toMember(List<String> values) {
+    MemberVO member = new MemberVO(value(values, emailColumn), value(values, passwordColumn), value(values, nicknameColumn));
+    member.setName(value(values, nameColumn));
+    member.setPhone(value(values, phoneColumn));
+    member.setAddress(value(values, addressColumn));
+    return member;
+  }
+
+  private static String value(List<String> values, int column) {
+    if (column < 0 || column >= values.size()) {
+      return null;
+    }
+    String value = values.get(column);
+    return value.isEmpty() ? null : value;
+  }
+
+  /**
+   * 한 줄을 열 단위로 나눕니다 (큰따옴표 처리).
+   */
+  static List<String> split(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder sb = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"') {
+          if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+            sb.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else {
+          sb.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(sb.toString());
+        sb.setLength(0);
+      } else {
+        sb.append(c);
+      }
+    }
+    values.add(sb.toString());
+    return values;
+  }
+}
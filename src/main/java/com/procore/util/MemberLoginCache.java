@@ -0,0 +1,295 @@
+package com.procore.util;
+
+import com.procore.vo.MemberStatus;
+import com.procore.vo.MemberVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 조회 캐시 (크기 제한 LRU + TTL)
+ *
+ * 정규화한 이메일(앞뒤 공백 제거, 소문자)을 키로 인증에 필요한 값(회원 번호, 이메일, 해시, 상태)만 보관합니다.
+ * 없는 이메일도 짧은 TTL 로 저장하여 존재하지 않는 계정에 대한 반복 로그인이 DB 로 가지 않게 합니다.
+ *
+ * 잠금 경합을 줄이기 위해 키 해시로 나눈 여러 구역에 각각 접근 순서 LinkedHashMap 을 둡니다.
+ * 정보 변경 시 invalidate 로 즉시 제거하고 트랜잭션 커밋 후 한 번 더 제거하며,
+ * 제거 이후 시작된 조회만 캐시에 넣을 수 있도록 stamp 로 확인합니다 (오래된 값이 다시 들어가는 경쟁 방지).
+ *
+ * 캐시는 프로세스별이므로 다른 인스턴스에서의 변경은 TTL 이 지나야 반영됩니다.
+ */
+@Component
+public class MemberLoginCache {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberLoginCache.class);
+
+  private static final int SEGMENTS = 16;
+
+  private final boolean enabled;
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+  private final Segment[] segments = new Segment[SEGMENTS];
+
+  /** invalidate 호출마다 증가 (조회 시작 후 무효화가 있었는지 확인용) */
+  private final AtomicLong invalidations = new AtomicLong();
+
+  // 통계
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder negativeHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+  private final LongAdder invalidated = new LongAdder();
+
+  public MemberLoginCache(@Value("${member.login-cache.enabled:true}") boolean enabled,
+                          @Value("${member.login-cache.max-size:10000}") int maxSize,
+                          @Value("${member.login-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${member.login-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+    this.enabled = enabled;
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+
+    int segmentSize = Math.max(1, maxSize / SEGMENTS);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(segmentSize);
+    }
+
+    log.info("로그인 조회 캐시 {}: 최대 {}건, TTL {}초 (없는 이메일 {}초)",
+            enabled ? "사용" : "사용 안 함", maxSize, ttlSeconds, negativeTtlSeconds);
+  }
+
+  /**
+   * 캐시된 인증 정보를 조회합니다.
+   * @param email 이메일
+   * @return 캐시된 값 (없는 이메일이면 isNegative() 가 true), 캐시에 없으면 null
+   */
+  public CachedMember get(String email) {
+    String key = normalize(email);
+    if (!enabled || key == null) {
+      return null;
+    }
+
+    CachedMember cached = segmentFor(key).get(key, System.nanoTime());
+    if (cached == null) {
+      misses.increment();
+    } else if (cached.isNegative()) {
+      negativeHits.increment();
+    } else {
+      hits.increment();
+    }
+    return cached;
+  }
+
+  /**
+   * DB 조회 전에 호출하여 받은 값을 put 에 넘깁니다.
+   */
+  public long stamp() {
+    return invalidations.get();
+  }
+
+  /**
+   * DB 조회 결과를 저장합니다. 조회를 시작한 뒤 무효화가 있었으면 저장하지 않습니다.
+   * @param email 조회한 이메일
+   * @param member 조회 결과, 없으면 null (없는 이메일로 저장)
+   * @param stamp 조회 전에 받은 stamp() 값
+   */
+  public void put(String email, MemberVO member, long stamp) {
+    String key = normalize(email);
+    if (!enabled || key == null) {
+      return;
+    }
+
+    CachedMember value = member == null ? CachedMember.NEGATIVE : new CachedMember(member);
+    long expiresAt = System.nanoTime() + (member == null ? negativeTtlNanos : ttlNanos);
+
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      if (invalidations.get() == stamp) {
+        segment.map.put(key, new Timed(value, expiresAt));
+      }
+    }
+  }
+
+  /**
+   * 이메일의 캐시를 제거합니다. 트랜잭션 안이면 커밋 후에 한 번 더 제거합니다.
+   */
+  public void invalidate(String email) {
+    String key = normalize(email);
+    if (!enabled || key == null) {
+      return;
+    }
+
+    remove(key);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          remove(key);
+        }
+      });
+    }
+  }
+
+  /**
+   * 캐시 상태 (적중/실패/제거 건수)
+   */
+  public Map<String, Object> getStats() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.map.size();
+      }
+    }
+    long hitCount = hits.sum() + negativeHits.sum();
+    long lookupCount = hitCount + misses.sum();
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("size", size);
+    stats.put("hits", hits.sum());
+    stats.put("negativeHits", negativeHits.sum());
+    stats.put("misses", misses.sum());
+    stats.put("hitRatio", lookupCount > 0 ? (double) hitCount / lookupCount : 0.0);
+    stats.put("evictions", evictions.sum());
+    stats.put("expirations", expirations.sum());
+    stats.put("invalidations", invalidated.sum());
+    return stats;
+  }
+
+  private void remove(String key) {
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      invalidations.incrementAndGet();
+      if (segment.map.remove(key) != null) {
+        invalidated.increment();
+      }
+    }
+  }
+
+  private Segment segmentFor(String key) {
+    int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+  }
+
+  private static String normalize(String email) {
+    if (email == null) {
+      return null;
+    }
+    String trimmed = email.trim();
+    return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 구역 하나 (접근 순서 LinkedHashMap, 가득 차면 가장 오래 사용하지 않은 항목 제거)
+   */
+  private final class Segment {
+    final LinkedHashMap<String, Timed> map;
+
+    Segment(int maxSize) {
+      this.map = new LinkedHashMap<String, Timed>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Timed> eldest) {
+          if (size() <= maxSize) {
+            return false;
+          }
+          evictions.increment();
+          return true;
+        }
+      };
+    }
+
+    synchronized CachedMember get(String key, long now) {
+      Timed timed = map.get(key);
+      if (timed == null) {
+        return null;
+      }
+      if (now - timed.expiresAt >= 0) {
+        map.remove(key);
+        expirations.increment();
+        purgeExpired(now);
+        return null;
+      }
+      return timed.value;
+    }
+
+    /**
+     * 만료된 항목을 오래된 쪽부터 일부 정리합니다.
+     */
+    private void purgeExpired(long now) {
+      Iterator<Timed> iterator = map.values().iterator();
+      for (int i = 0; i < 8 && iterator.hasNext(); i++) {
+        if (now - iterator.next().expiresAt >= 0) {
+          iterator.remove();
+          expirations.increment();
+        }
+      }
+    }
+  }
+
+  private static final class Timed {
+    final CachedMember value;
+    final long expiresAt;
+
+    Timed(CachedMember value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  /**
+   * 캐시되는 인증 정보 (회원 번호, 이메일, 비밀번호 해시, 상태)
+   */
+  public static final class CachedMember {
+    static final CachedMember NEGATIVE = new CachedMember();
+
+    private final Long memberId;
+    private final String email;
+    private final String password;
+    private final MemberStatus status;
+
+    private CachedMember() {
+      this.memberId = null;
+      this.email = null;
+      this.password = null;
+      this.status = null;
+    }
+
+    CachedMember(MemberVO member) {
+      this.memberId = member.getMemberId();
+      this.email = member.getEmail();
+      this.password = member.getPassword();
+      this.status = member.getStatus();
+    }
+
+    /** 없는 이메일로 저장된 항목이면 true */
+    public boolean isNegative() {
+      return this == NEGATIVE;
+    }
+
+    /**
+     * 인증 정보만 채운 새 MemberVO 를 만듭니다. 없는 이메일이면 null 을 반환합니다.
+     */
+    public MemberVO toMember() {
+      if (isNegative()) {
+        return null;
+      }
+      MemberVO member = new MemberVO();
+      member.setMemberId(memberId);
+      member.setEmail(email);
+      member.setPassword(password);
+      member.setStatus(status);
+      return member;
+    }
+  }
+}
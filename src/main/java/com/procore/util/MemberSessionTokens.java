@@ -0,0 +1,447 @@
+package com.procore.util;
+
+import com.procore.vo.MemberStatus;
+import com.procore.vo.MemberVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명된 로그인 토큰 (서버에 세션을 저장하지 않음)
+ *
+ * 토큰에 회원 번호, 상태, 발급/만료 시각을 담고 HMAC-SHA256 으로 서명하므로,
+ * 같은 비밀 키를 가진 서버라면 어느 서버든 DB 나 세션 저장소 없이 토큰만으로 로그인 상태를 확인합니다.
+ *
+ * 형식: Base64url(버전 2 | 회원 번호 8 | 상태 1 | 로그인 시각 4 | 발급 시각 4 | 만료 시각 4 | 토큰 ID 8
+ *       | HMAC 앞 18바이트), 64자
+ * 시각은 epoch 초, 정수는 빅 엔디언입니다.
+ * 스레드마다 Mac 과 버퍼를 재사용하여 검증 1회당 새로 만드는 객체는 결과(SessionToken) 하나입니다.
+ *
+ * 갱신한 토큰도 처음 로그인 시각을 그대로 가지며, 로그인 후 max-session-hours 가 지나면 더 갱신하지 않고
+ * 만료 시각도 그 시점을 넘지 않게 정하므로 어떤 토큰도 로그인 후 max-session-hours 를 넘어 유효하지 않습니다.
+ * 갱신 전에는 호출자(SessionTokenFilter)가 DB 의 현재 회원 상태를 다시 확인합니다.
+ *
+ * 로그아웃한 토큰과 탈퇴/정지된 회원의 토큰은 메모리 거부 목록으로 막고, 만료 시각이 지나면 목록에서 지웁니다.
+ * 거부 목록은 서버별이므로 다른 서버(또는 재시작 후)에서는 다음과 같이 유효할 수 있습니다.
+ * - 탈퇴/정지: 다음 갱신 때 DB 상태 확인으로 거부되므로 최대 ttl-minutes
+ * - 로그아웃: 회원 상태는 그대로이므로 로그인 후 최대 max-session-hours
+ */
+@Component
+public class MemberSessionTokens {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberSessionTokens.class);
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final byte VERSION = 2;
+  private static final int PAYLOAD_LENGTH = 1 + 8 + 1 + 4 + 4 + 4 + 8;
+  private static final int MAC_LENGTH = 18;
+  private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + MAC_LENGTH;
+  private static final int TEXT_LENGTH = TOKEN_LENGTH / 3 * 4;
+  private static final int MIN_SECRET_LENGTH = 32;
+
+  /** 거부 목록이 이 수를 넘으면 만료된 항목을 정리 */
+  private static final int PURGE_THRESHOLD = 10_000;
+
+  private static final MemberStatus[] STATUSES = MemberStatus.values();
+
+  private static final char[] BASE64URL =
+          "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+  private static final byte[] BASE64URL_INDEX = new byte[128];
+
+  static {
+    Arrays.fill(BASE64URL_INDEX, (byte) -1);
+    for (int i = 0; i < BASE64URL.length; i++) {
+      BASE64URL_INDEX[BASE64URL[i]] = (byte) i;
+    }
+  }
+
+  private final SecretKeySpec key;
+  private final long ttlSeconds;
+  private final long maxSessionSeconds;
+  private final String cookieName;
+  private final boolean cookieSecure;
+  private final SecureRandom random = new SecureRandom();
+  private final ThreadLocal<State> state;
+
+  /** 로그아웃한 토큰 ID -> 토큰 만료 시각 */
+  private final ConcurrentHashMap<Long, Long> revokedTokens = new ConcurrentHashMap<>();
+
+  /** 회원 번호 -> 이 시각까지 발급된 토큰 거부 (값 + ttl 이 지나면 정리) */
+  private final ConcurrentHashMap<Long, Long> revokedMembers = new ConcurrentHashMap<>();
+
+  // 통계
+  private final LongAdder issued = new LongAdder();
+  private final LongAdder verified = new LongAdder();
+  private final LongAdder invalid = new LongAdder();
+  private final LongAdder expired = new LongAdder();
+  private final LongAdder denied = new LongAdder();
+
+  public MemberSessionTokens(@Value("${session.token.secret:}") String secret,
+                             @Value("${session.token.ttl-minutes:30}") long ttlMinutes,
+                             @Value("${session.token.max-session-hours:12}") long maxSessionHours,
+                             @Value("${session.token.cookie-name:PROCORE_SESSION}") String cookieName,
+                             @Value("${session.token.cookie-secure:false}") boolean cookieSecure) {
+    byte[] keyBytes;
+    if (secret == null || secret.trim().isEmpty()) {
+      keyBytes = new byte[MIN_SECRET_LENGTH];
+      random.nextBytes(keyBytes);
+      log.warn("session.token.secret 미설정: 임시 키 사용 (재시작하면 로그인이 풀리고 다른 서버의 토큰을 확인할 수 없음)");
+    } else {
+      keyBytes = Base64.getDecoder().decode(secret.trim());
+      if (keyBytes.length < MIN_SECRET_LENGTH) {
+        throw new IllegalArgumentException("session.token.secret 은 " + MIN_SECRET_LENGTH + "바이트 이상이어야 합니다.");
+      }
+    }
+
+    this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    this.ttlSeconds = TimeUnit.MINUTES.toSeconds(ttlMinutes);
+    this.maxSessionSeconds = TimeUnit.HOURS.toSeconds(maxSessionHours);
+    this.cookieName = cookieName;
+    this.cookieSecure = cookieSecure;
+    this.state = ThreadLocal.withInitial(() -> new State(key));
+
+    log.info("로그인 토큰: 유효 시간 {}분, 최대 로그인 유지 {}시간, 쿠키 {}", ttlMinutes, maxSessionHours, cookieName);
+  }
+
+  /**
+   * 회원의 로그인 토큰을 발급합니다.
+   */
+  public String issue(MemberVO member) {
+    long now = nowSeconds();
+    return issue(member.getMemberId(), member.getStatus() != null ? member.getStatus() : MemberStatus.ACTIVE, now, now);
+  }
+
+  /**
+   * 유효 시간을 새로 시작하는 토큰을 발급합니다 (이전 토큰은 만료 시까지 유효).
+   * 로그인 시각은 이전 토큰의 것을 유지하고, 만료 시각은 로그인 후 max-session-hours 를 넘지 않습니다.
+   * @param currentStatus 호출자가 DB 에서 다시 확인한 현재 회원 상태
+   * @return 새 토큰, 최대 로그인 유지 시간이 지났으면 null (다시 로그인해야 함)
+   */
+  public String renew(SessionToken token, MemberStatus currentStatus) {
+    if (!canRenew(token)) {
+      return null;
+    }
+    return issue(token.getMemberId(), currentStatus, token.getAuthenticatedAt(), nowSeconds());
+  }
+
+  /**
+   * 최대 로그인 유지 시간 안이라 갱신할 수 있는지 (갱신 전 DB 상태 확인을 할지 정할 때 사용)
+   */
+  public boolean canRenew(SessionToken token) {
+    return nowSeconds() < token.getAuthenticatedAt() + maxSessionSeconds;
+  }
+
+  private String issue(long memberId, MemberStatus status, long authenticatedAt, long now) {
+    long tokenId = random.nextLong();
+    long expiresAt = Math.min(now + ttlSeconds, authenticatedAt + maxSessionSeconds);
+
+    State s = state.get();
+    byte[] buf = s.token;
+    buf[0] = VERSION;
+    putLong(buf, 1, memberId);
+    buf[9] = (byte) status.ordinal();
+    putInt(buf, 10, (int) authenticatedAt);
+    putInt(buf, 14, (int) now);
+    putInt(buf, 18, (int) expiresAt);
+    putLong(buf, 22, tokenId);
+    sign(s, buf);
+    System.arraycopy(s.mac, 0, buf, PAYLOAD_LENGTH, MAC_LENGTH);
+
+    issued.increment();
+    return encode(buf, s.text);
+  }
+
+  /**
+   * 토큰을 확인합니다.
+   * @return 확인된 토큰, 형식/서명이 잘못되었거나 만료 또는 거부된 경우 null
+   */
+  public SessionToken verify(CharSequence text) {
+    if (text == null || text.length() != TEXT_LENGTH) {
+      if (text != null) {
+        invalid.increment();
+      }
+      return null;
+    }
+
+    State s = state.get();
+    byte[] buf = s.token;
+    if (!decode(text, buf) || buf[0] != VERSION) {
+      invalid.increment();
+      return null;
+    }
+    sign(s, buf);
+    if (!constantTimeEquals(s.mac, buf, PAYLOAD_LENGTH)) {
+      invalid.increment();
+      return null;
+    }
+
+    int statusOrdinal = buf[9];
+    if (statusOrdinal < 0 || statusOrdinal >= STATUSES.length) {
+      invalid.increment();
+      return null;
+    }
+    long memberId = getLong(buf, 1);
+    long authenticatedAt = getInt(buf, 10) & 0xFFFFFFFFL;
+    long issuedAt = getInt(buf, 14) & 0xFFFFFFFFL;
+    long expiresAt = getInt(buf, 18) & 0xFFFFFFFFL;
+    long tokenId = getLong(buf, 22);
+
+    long now = nowSeconds();
+    if (expiresAt <= now || authenticatedAt + maxSessionSeconds <= now) {
+      expired.increment();
+      return null;
+    }
+    Long memberRevokedAt = revokedMembers.get(memberId);
+    if ((memberRevokedAt != null && issuedAt <= memberRevokedAt) || revokedTokens.containsKey(tokenId)) {
+      denied.increment();
+      return null;
+    }
+
+    verified.increment();
+    return new SessionToken(memberId, STATUSES[statusOrdinal], authenticatedAt, issuedAt, expiresAt, tokenId);
+  }
+
+  /**
+   * 유효 시간의 절반이 지났으면 새 토큰으로 바꿀 때입니다 (요청이 이어지는 동안 로그인 유지).
+   */
+  public boolean shouldRenew(SessionToken token) {
+    return token.getExpiresAt() - nowSeconds() < ttlSeconds / 2;
+  }
+
+  /**
+   * 토큰 하나를 만료 시각까지 거부합니다 (로그아웃).
+   */
+  public void revoke(SessionToken token) {
+    if (token == null) {
+      return;
+    }
+    revokedTokens.put(token.getTokenId(), token.getExpiresAt());
+    purgeIfNeeded();
+  }
+
+  /**
+   * 회원에게 지금까지 발급된 토큰을 모두 거부합니다 (탈퇴, 정지).
+   * 시각은 초 단위이므로 같은 초에 새로 발급된 토큰도 거부됩니다.
+   */
+  public void revokeMember(Long memberId) {
+    if (memberId == null) {
+      return;
+    }
+    revokedMembers.put(memberId, nowSeconds());
+    purgeIfNeeded();
+    log.info("회원 로그인 토큰 거부: {}", memberId);
+  }
+
+  /**
+   * 요청의 쿠키 또는 Authorization: Bearer 헤더에서 토큰 문자열을 찾습니다.
+   */
+  public String resolve(HttpServletRequest request) {
+    String authorization = request.getHeader("Authorization");
+    if (authorization != null && authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+      return authorization.substring(7).trim();
+    }
+    Cookie[] cookies = request.getCookies();
+    if (cookies != null) {
+      for (Cookie cookie : cookies) {
+        if (cookieName.equals(cookie.getName())) {
+          return cookie.getValue();
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 토큰을 쿠키로 내려보냅니다 (HttpOnly, SameSite=Lax).
+   */
+  public void addCookie(HttpServletResponse response, String token) {
+    response.addHeader("Set-Cookie", cookieHeader(token, ttlSeconds));
+  }
+
+  /**
+   * 토큰 쿠키를 지웁니다.
+   */
+  public void clearCookie(HttpServletResponse response) {
+    response.addHeader("Set-Cookie", cookieHeader("", 0));
+  }
+
+  /**
+   * 발급/확인 수와 거부 목록 크기
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("ttlSeconds", ttlSeconds);
+    stats.put("maxSessionSeconds", maxSessionSeconds);
+    stats.put("issued", issued.sum());
+    stats.put("verified", verified.sum());
+    stats.put("invalid", invalid.sum());
+    stats.put("expired", expired.sum());
+    stats.put("denied", denied.sum());
+    stats.put("revokedTokens", revokedTokens.size());
+    stats.put("revokedMembers", revokedMembers.size());
+    return stats;
+  }
+
+  // === Private Helper Methods ===
+
+  private String cookieHeader(String value, long maxAge) {
+    StringBuilder header = new StringBuilder(cookieName.length() + TEXT_LENGTH + 64);
+    header.append(cookieName).append('=').append(value)
+            .append("; Max-Age=").append(maxAge)
+            .append("; Path=/; HttpOnly; SameSite=Lax");
+    if (cookieSecure) {
+      header.append("; Secure");
+    }
+    return header.toString();
+  }
+
+  private void purgeIfNeeded() {
+    if (revokedTokens.size() + revokedMembers.size() <= PURGE_THRESHOLD) {
+      return;
+    }
+    long now = nowSeconds();
+    revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    revokedMembers.values().removeIf(revokedAt -> revokedAt + ttlSeconds < now);
+  }
+
+  private static long nowSeconds() {
+    return System.currentTimeMillis() / 1000;
+  }
+
+  /** 앞 PAYLOAD_LENGTH 바이트의 HMAC 을 state.mac 에 계산 */
+  private static void sign(State s, byte[] payload) {
+    try {
+      s.hmac.update(payload, 0, PAYLOAD_LENGTH);
+      s.hmac.doFinal(s.mac, 0);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("로그인 토큰 서명 실패", e);
+    }
+  }
+
+  private static boolean constantTimeEquals(byte[] mac, byte[] token, int offset) {
+    int diff = 0;
+    for (int i = 0; i < MAC_LENGTH; i++) {
+      diff |= mac[i] ^ token[offset + i];
+    }
+    return diff == 0;
+  }
+
+  private static String encode(byte[] src, char[] out) {
+    int n = 0;
+    for (int i = 0; i < TOKEN_LENGTH; i += 3) {
+      int bits = ((src[i] & 0xFF) << 16) | ((src[i + 1] & 0xFF) << 8) | (src[i + 2] & 0xFF);
+      out[n++] = BASE64URL[(bits >>> 18) & 0x3F];
+      out[n++] = BASE64URL[(bits >>> 12) & 0x3F];
+      out[n++] = BASE64URL[(bits >>> 6) & 0x3F];
+      out[n++] = BASE64URL[bits & 0x3F];
+    }
+    return new String(out, 0, n);
+  }
+
+  private static boolean decode(CharSequence text, byte[] dst) {
+    int n = 0;
+    for (int i = 0; i < TEXT_LENGTH; i += 4) {
+      int bits = 0;
+      for (int j = 0; j < 4; j++) {
+        char c = text.charAt(i + j);
+        int v = c < 128 ? BASE64URL_INDEX[c] : -1;
+        if (v < 0) {
+          return false;
+        }
+        bits = (bits << 6) | v;
+      }
+      dst[n++] = (byte) (bits >>> 16);
+      dst[n++] = (byte) (bits >>> 8);
+      dst[n++] = (byte) bits;
+    }
+    return true;
+  }
+
+  private static void putInt(byte[] buf, int offset, int value) {
+    buf[offset] = (byte) (value >>> 24);
+    buf[offset + 1] = (byte) (value >>> 16);
+    buf[offset + 2] = (byte) (value >>> 8);
+    buf[offset + 3] = (byte) value;
+  }
+
+  private static void putLong(byte[] buf, int offset, long value) {
+    putInt(buf, offset, (int) (value >>> 32));
+    putInt(buf, offset + 4, (int) value);
+  }
+
+  private static int getInt(byte[] buf, int offset) {
+    return ((buf[offset] & 0xFF) << 24) | ((buf[offset + 1] & 0xFF) << 16)
+            | ((buf[offset + 2] & 0xFF) << 8) | (buf[offset + 3] & 0xFF);
+  }
+
+  private static long getLong(byte[] buf, int offset) {
+    return ((long) getInt(buf, offset) << 32) | (getInt(buf, offset + 4) & 0xFFFFFFFFL);
+  }
+
+  /**
+   * 스레드별 작업 상태 (Mac 과 버퍼)
+   */
+  private static final class State {
+    final Mac hmac;
+    final byte[] token = new byte[TOKEN_LENGTH];
+    final byte[] mac = new byte[32];
+    final char[] text = new char[TEXT_LENGTH];
+
+    State(SecretKeySpec key) {
+      try {
+        hmac = Mac.getInstance(ALGORITHM);
+        hmac.init(key);
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException(ALGORITHM + " 를 사용할 수 없습니다.", e);
+      }
+    }
+  }
+
+  /**
+   * 확인된 로그인 토큰
+   */
+  public static final class SessionToken {
+    private final long memberId;
+    private final MemberStatus status;
+    private final long authenticatedAt;
+    private final long issuedAt;
+    private final long expiresAt;
+    private final long tokenId;
+
+    private SessionToken(long memberId, MemberStatus status, long authenticatedAt, long issuedAt, long expiresAt,
+                         long tokenId) {
+      this.memberId = memberId;
+      this.status = status;
+      this.authenticatedAt = authenticatedAt;
+      this.issuedAt = issuedAt;
+      this.expiresAt = expiresAt;
+      this.tokenId = tokenId;
+    }
+
+    public long getMemberId() { return memberId; }
+    public MemberStatus getStatus() { return status; }
+    /** 처음 로그인(비밀번호 확인) 시각 (epoch 초, 갱신해도 유지) */
+    public long getAuthenticatedAt() { return authenticatedAt; }
+    /** 발급 시각 (epoch 초) */
+    public long getIssuedAt() { return issuedAt; }
+    /** 만료 시각 (epoch 초) */
+    public long getExpiresAt() { return expiresAt; }
+    public long getTokenId() { return tokenId; }
+  }
+}
@@ -0,0 +1,318 @@
+package com.procore.util;
+
+/**
+ * 비밀번호 1회 분석 결과 (불변 객체)
+ *
+ * 문자 종류, 연속/반복 패턴, 날짜/연도 패턴, 고유 문자 수, 사전 단어 일치를
+ * 문자 단위 단일 순회로 계산합니다. 정규표현식이나 중간 문자열을 만들지 않으므로
+ * 검증(validatePassword)과 강도 평가(evaluatePasswordStrength)가 같은 결과를 재사용합니다.
+ */
+public final class PasswordAnalysis {
+
+  /** 연속 문자로 판단하는 최소 길이 (예: abcd, 4321, qwer) */
+  static final int SEQUENCE_LENGTH = 4;
+
+  /** 같은 문자가 연속되면 반복 패턴으로 판단하는 길이 (예: aaa) */
+  static final int REPEAT_LENGTH = 3;
+
+  /** 연속 숫자로 판단하는 길이 (예: 940101) */
+  static final int DIGIT_RUN_LENGTH = 6;
+
+  /** 허용되는 특수문자 (기존 [!@#$%^&*(),.?":{}|<>] 과 동일) */
+  private static final String SPECIAL_CHARS = "!@#$%^&*(),.?\":{}|<>";
+
+  /** 키보드 배열 순서 */
+  private static final String KEYBOARD = "qwertyuiopasdfghjklzxcvbnm";
+
+  /** ASCII 문자별 특수문자 여부 */
+  static final boolean[] SPECIAL_TABLE = new boolean[128];
+
+  /** 소문자별 키보드 배열 위치 */
+  static final int[] KEYBOARD_POSITION = new int[128];
+
+  static {
+    for (int i = 0; i < SPECIAL_CHARS.length(); i++) {
+      SPECIAL_TABLE[SPECIAL_CHARS.charAt(i)] = true;
+    }
+    for (int i = 0; i < KEYBOARD_POSITION.length; i++) {
+      KEYBOARD_POSITION[i] = -1;
+    }
+    for (int i = 0; i < KEYBOARD.length(); i++) {
+      KEYBOARD_POSITION[KEYBOARD.charAt(i)] = i;
+    }
+  }
+
+  private final int length;
+  private final boolean hasLowercase;
+  private final boolean hasUppercase;
+  private final boolean hasDigit;
+  private final boolean hasSpecial;
+  private final boolean hasSequence;
+  private final boolean hasRepeat;
+  private final boolean hasBirthDate;
+  private final boolean hasYear;
+  private final boolean hasDigitRun;
+  private final int uniqueCharCount;
+  private final int dictionaryMatchLength;
+
+  PasswordAnalysis(int length, boolean hasLowercase, boolean hasUppercase,
+                   boolean hasDigit, boolean hasSpecial, boolean hasSequence,
+                   boolean hasRepeat, boolean hasBirthDate, boolean hasYear,
+                   boolean hasDigitRun, int uniqueCharCount, int dictionaryMatchLength) {
+    this.length = length;
+    this.hasLowercase = hasLowercase;
+    this.hasUppercase = hasUppercase;
+    this.hasDigit = hasDigit;
+    this.hasSpecial = hasSpecial;
+    this.hasSequence = hasSequence;
+    this.hasRepeat = hasRepeat;
+    this.hasBirthDate = hasBirthDate;
+    this.hasYear = hasYear;
+    this.hasDigitRun = hasDigitRun;
+    this.uniqueCharCount = uniqueCharCount;
+    this.dictionaryMatchLength = dictionaryMatchLength;
+  }
+
+  /**
+   * 비밀번호를 한 번 순회하며 분석합니다 (사전 검사 제외).
+   * @param password 분석할 비밀번호 (null 이면 빈 문자열로 취급)
+   * @return 분석 결과
+   */
+  public static PasswordAnalysis of(CharSequence password) {
+    return of(password, null);
+  }
+
+  /**
+   * 비밀번호를 한 번 순회하며 분석합니다. 같은 순회에서 사전 오토마톤도 함께 진행합니다.
+   * @param password 분석할 비밀번호 (null 이면 빈 문자열로 취급)
+   * @param dictionary 일반 비밀번호 사전 (null 이면 사전 검사 생략)
+   * @return 분석 결과
+   */
+  public static PasswordAnalysis of(CharSequence password, PasswordDictionary dictionary) {
+    int length = password == null ? 0 : password.length();
+
+    boolean lower = false;
+    boolean upper = false;
+    boolean digit = false;
+    boolean special = false;
+    boolean sequence = false;
+    boolean repeat = false;
+    boolean birthDate = false;
+    boolean year = false;
+    boolean digitRun = false;
+
+    // 고유 문자 수: ASCII 는 비트마스크, 그 외 문자는 앞부분 역방향 탐색
+    long asciiLow = 0L;
+    long asciiHigh = 0L;
+    int unique = 0;
+
+    int sameRun = 0;
+    int digitRunLength = 0;
+
+    // 시퀀스(알파벳 0, 숫자 1, 키보드 2)별 이전 문자 위치와 정/역방향 연속 길이
+    int ascRun0 = 0, ascRun1 = 0, ascRun2 = 0;
+    int descRun0 = 0, descRun1 = 0, descRun2 = 0;
+    int prev0 = -1, prev1 = -1, prev2 = -1;
+
+    char prevChar = 0;
+
+    int dictionaryState = PasswordDictionary.ROOT;
+    int dictionaryMatch = 0;
+
+    for (int i = 0; i < length; i++) {
+      char c = password.charAt(i);
+
+      // 1. 문자 종류
+      boolean isDigit = c >= '0' && c <= '9';
+      if (c >= 'a' && c <= 'z') {
+        lower = true;
+      } else if (c >= 'A' && c <= 'Z') {
+        upper = true;
+      } else if (isDigit) {
+        digit = true;
+      } else if (c < 128 && SPECIAL_TABLE[c]) {
+        special = true;
+      }
+
+      // 2. 고유 문자 수
+      if (c < 64) {
+        long bit = 1L << c;
+        if ((asciiLow & bit) == 0) {
+          asciiLow |= bit;
+          unique++;
+        }
+      } else if (c < 128) {
+        long bit = 1L << (c - 64);
+        if ((asciiHigh & bit) == 0) {
+          asciiHigh |= bit;
+          unique++;
+        }
+      } else if (!appearsBefore(password, c, i)) {
+        unique++;
+      }
+
+      // 3. 같은 문자 반복 (aaa)
+      sameRun = (i > 0 && c == prevChar) ? sameRun + 1 : 1;
+      if (sameRun >= REPEAT_LENGTH) {
+        repeat = true;
+      }
+
+      // 4. 연속 숫자 / 연도 / 생년월일
+      if (isDigit) {
+        digitRunLength++;
+        if (digitRunLength >= DIGIT_RUN_LENGTH) {
+          digitRun = true;
+        }
+        if (digitRunLength >= 4 && isYearPrefix(password.charAt(i - 3), password.charAt(i - 2))) {
+          year = true;
+        }
+        if (digitRunLength >= 8 && isMonthDay(password, i - 3)) {
+          birthDate = true;
+        }
+      } else {
+        digitRunLength = 0;
+      }
+
+      // 5. 연속 문자 (대소문자 무시, 정방향/역방향)
+      char folded = Character.toLowerCase(c);
+      int pos0 = (folded >= 'a' && folded <= 'z') ? folded - 'a' : -1;
+      int pos1 = isDigit ? c - '0' : -1;
+      int pos2 = folded < 128 ? KEYBOARD_POSITION[folded] : -1;
+
+      ascRun0 = nextRun(prev0, pos0, 1, ascRun0);
+      descRun0 = nextRun(prev0, pos0, -1, descRun0);
+      ascRun1 = nextRun(prev1, pos1, 1, ascRun1);
+      descRun1 = nextRun(prev1, pos1, -1, descRun1);
+      ascRun2 = nextRun(prev2, pos2, 1, ascRun2);
+      descRun2 = nextRun(prev2, pos2, -1, descRun2);
+
+      if (ascRun0 >= SEQUENCE_LENGTH || descRun0 >= SEQUENCE_LENGTH
+              || ascRun1 >= SEQUENCE_LENGTH || descRun1 >= SEQUENCE_LENGTH
+              || ascRun2 >= SEQUENCE_LENGTH || descRun2 >= SEQUENCE_LENGTH) {
+        sequence = true;
+      }
+
+      // 6. 사전 단어 일치 (Aho-Corasick 상태 전이)
+      if (dictionary != null) {
+        dictionaryState = dictionary.next(dictionaryState, c);
+        dictionaryMatch = Math.max(dictionaryMatch, dictionary.matchLength(dictionaryState));
+      }
+
+      prev0 = pos0;
+      prev1 = pos1;
+      prev2 = pos2;
+      prevChar = c;
+    }
+
+    // 7. 앞부분 패턴 반복 (abab, abcabc)
+    if (!repeat && hasRepeatedPrefix(password, length)) {
+      repeat = true;
+    }
+
+    return new PasswordAnalysis(length, lower, upper, digit, special, sequence,
+            repeat, birthDate, year, digitRun, unique, dictionaryMatch);
+  }
+
+  /**
+   * 시퀀스 내 위치가 이전 문자에서 step 만큼 이어지면 연속 길이를 늘립니다.
+   */
+  static int nextRun(int prevPos, int pos, int step, int run) {
+    if (pos < 0) {
+      return 0;
+    }
+    return (prevPos >= 0 && prevPos + step == pos) ? run + 1 : 1;
+  }
+
+  /**
+   * 19xx, 20xx 형태의 연도 앞자리인지 확인
+   */
+  static boolean isYearPrefix(char first, char second) {
+    return (first == '1' && second == '9') || (first == '2' && second == '0');
+  }
+
+  /**
+   * start 위치부터 MMDD (01-12월, 01-31일) 형태인지 확인
+   */
+  static boolean isMonthDay(CharSequence password, int start) {
+    int month = (password.charAt(start) - '0') * 10 + (password.charAt(start + 1) - '0');
+    int day = (password.charAt(start + 2) - '0') * 10 + (password.charAt(start + 3) - '0');
+    return month >= 1 && month <= 12 && day >= 1 && day <= 31;
+  }
+
+  /**
+   * ASCII 외 문자가 앞부분에 이미 나왔는지 확인
+   */
+  private static boolean appearsBefore(CharSequence password, char c, int end) {
+    for (int i = 0; i < end; i++) {
+      if (password.charAt(i) == c) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 길이 2 이상의 앞부분이 두 번 이상 반복되는지 확인 (abab, abcabc12)
+   * 대부분의 길이에서 첫 비교에 불일치하므로 실질적으로 선형 시간입니다.
+   */
+  private static boolean hasRepeatedPrefix(CharSequence password, int length) {
+    for (int len = 2; len <= length / 2; len++) {
+      int end = (length / len) * len;
+      int i = len;
+      while (i < end && password.charAt(i) == password.charAt(i - len)) {
+        i++;
+      }
+      if (i == end) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Getter Methods
+
+  public int getLength() { return length; }
+  public boolean hasLowercase() { return hasLowercase; }
+  public boolean hasUppercase() { return hasUppercase; }
+  public boolean hasDigit() { return hasDigit; }
+  public boolean hasSpecial() { return hasSpecial; }
+  public boolean hasSequence() { return hasSequence; }
+  public boolean hasRepeat() { return hasRepeat; }
+  public boolean hasBirthDate() { return hasBirthDate; }
+  public boolean hasYear() { return hasYear; }
+  public boolean hasDigitRun() { return hasDigitRun; }
+  public int getUniqueCharCount() { return uniqueCharCount; }
+  public int getDictionaryMatchLength() { return dictionaryMatchLength; }
+
+  /**
+   * 사전 단어 자체이거나 사전 단어에 3자 이하를 덧붙인 변형인지 확인 (예: password12)
+   */
+  public boolean isDictionaryVariant() {
+    return dictionaryMatchLength > 0 && length <= dictionaryMatchLength + 3;
+  }
+
+  /**
+   * 개인정보 패턴 (생년월일, 연도, 6자리 이상 연속 숫자)
+   */
+  public boolean hasPersonalInfo() {
+    return hasBirthDate || hasYear || hasDigitRun;
+  }
+
+  /**
+   * 추측하기 쉬운 패턴 (연속, 반복, 개인정보)
+   */
+  public boolean hasWeakPattern() {
+    return hasSequence || hasRepeat || hasPersonalInfo();
+  }
+
+  /**
+   * 문자 다양성과 길이를 고려한 엔트로피 체크
+   */
+  public boolean hasGoodEntropy() {
+    if (length == 0) {
+      return false;
+    }
+    double entropy = uniqueCharCount * Math.log(length) / Math.log(2);
+    return entropy > 30; // 임계값
+  }
+}
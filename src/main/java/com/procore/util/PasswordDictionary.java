@@ -0,0 +1,48 @@
+package com.procore.util;
+
+/**
+ * 일반/유출 비밀번호 사전
+ *
+ * 비밀번호를 한 글자씩 상태 전이시키며 사전 단어가 부분 문자열로 포함되는지 확인합니다.
+ * 구현체는 불변이어야 하며 여러 스레드에서 동시에 사용할 수 있어야 합니다.
+ */
+public interface PasswordDictionary {
+
+  /** 초기 상태 */
+  int ROOT = 0;
+
+  /**
+   * 현재 상태에서 문자 하나를 읽은 다음 상태를 반환합니다.
+   * @param state 현재 상태
+   * @param c 읽을 문자 (대소문자 구분 없음)
+   * @return 다음 상태
+   */
+  int next(int state, char c);
+
+  /**
+   * 해당 상태에서 끝나는 사전 단어 중 가장 긴 단어의 길이
+   * @param state 상태
+   * @return 일치하는 단어가 없으면 0
+   */
+  int matchLength(int state);
+
+  /**
+   * 사전에 등록된 단어 수
+   */
+  int size();
+
+  /**
+   * 비밀번호에 포함된 사전 단어 중 가장 긴 단어의 길이를 구합니다.
+   * @param password 검사할 비밀번호
+   * @return 포함된 단어가 없으면 0
+   */
+  default int longestMatch(CharSequence password) {
+    int state = ROOT;
+    int longest = 0;
+    for (int i = 0; i < password.length(); i++) {
+      state = next(state, password.charAt(i));
+      longest = Math.max(longest, matchLength(state));
+    }
+    return longest;
+  }
+}
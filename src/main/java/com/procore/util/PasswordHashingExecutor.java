@@ -0,0 +1,233 @@
+package com.procore.util;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀 (크기 제한 + 대기열 제한 + 즉시 거부)
+ *
+ * 해시/검증을 요청 스레드가 아닌 고정 크기 풀에서 실행하여 해시 CPU 사용량을 제한합니다.
+ * 대기열이 가득 차면 즉시 거부하고, 호출자는 정해진 시간까지만 결과를 기다립니다.
+ * 로그인/가입 폭주 중에도 이메일 중복확인 같은 가벼운 요청은 컨테이너 스레드를 계속 사용할 수 있습니다.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+  private final PasswordSecurityUtil passwordSecurityUtil;
+  private final LatencyMetrics latencyMetrics;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+
+  // 통계
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder timedOut = new LongAdder();
+  private final LongAdder started = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+
+  @Autowired
+  public PasswordHashingExecutor(PasswordSecurityUtil passwordSecurityUtil,
+                                 LatencyMetrics latencyMetrics,
+                                 @Value("${password.hashing.threads:0}") int threads,
+                                 @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                 @Value("${password.hashing.timeout-millis:3000}") long timeoutMillis) {
+    this.passwordSecurityUtil = passwordSecurityUtil;
+    this.latencyMetrics = latencyMetrics;
+    this.timeoutMillis = timeoutMillis;
+
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    log.info("비밀번호 해시 풀 초기화: 스레드 {}개, 대기열 {}, 대기 제한 {}ms", poolSize, queueCapacity, timeoutMillis);
+  }
+
+  /**
+   * 비밀번호를 해시 풀에서 해시화합니다.
+   * @param password 원본 비밀번호
+   * @return 해시화된 비밀번호
+   * @throws HashingRejectedException 대기열 초과 또는 대기 시간 초과
+   */
+  public String hashPassword(String password) {
+    return execute("password-hash.hash", () -> passwordSecurityUtil.hashPassword(password));
+  }
+
+  /**
+   * 비밀번호를 해시 풀에서 검증합니다.
+   * @param password 입력된 비밀번호
+   * @param hashedPassword 저장된 해시
+   * @return 일치 여부
+   * @throws HashingRejectedException 대기열 초과 또는 대기 시간 초과
+   */
+  public boolean verifyPassword(String password, String hashedPassword) {
+    return execute("password-hash.verify", () -> passwordSecurityUtil.verifyPassword(password, hashedPassword));
+  }
+
+  /**
+   * 작업을 해시 풀에서 실행하고 제한 시간까지 결과를 기다립니다.
+   */
+  public <T> T execute(Callable<T> task) {
+    return execute("password-hash.task", task);
+  }
+
+  /**
+   * 비밀번호 해시를 해시 풀에 넣기만 하고 기다리지 않습니다 (일괄 등록처럼 여러 건을 겹쳐 실행할 때).
+   * 로그인/가입과 같은 대기열을 쓰므로 같은 admission control 을 받습니다. 결과는 await 로 받습니다.
+   * @throws HashingRejectedException 대기열 초과
+   */
+  public Future<String> submitHashPassword(String password) {
+    return submit("password-hash.hash", () -> passwordSecurityUtil.hashPassword(password));
+  }
+
+  /**
+   * submit 한 작업의 결과를 제한 시간까지 기다립니다.
+   * @throws HashingRejectedException 대기 시간 초과 (대기열에 남아 있으면 제거)
+   */
+  public <T> T await(Future<T> future) {
+    try {
+      T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+      completed.increment();
+      return result;
+    } catch (TimeoutException e) {
+      // 아직 대기열에 있으면 제거하여 자리를 비움
+      future.cancel(true);
+      executor.remove((Runnable) future);
+      timedOut.increment();
+      throw new HashingRejectedException("비밀번호 해시 대기 시간(" + timeoutMillis + "ms)을 초과했습니다.", e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new HashingRejectedException("비밀번호 해시 대기 중 인터럽트가 발생했습니다.", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException("비밀번호 해시 작업 중 오류가 발생했습니다.", cause);
+    }
+  }
+
+  /**
+   * 작업을 해시 풀에서 실행하고 제한 시간까지 결과를 기다립니다.
+   */
+  private <T> T execute(String metricName, Callable<T> task) {
+    return await(submit(metricName, task));
+  }
+
+  /**
+   * 작업을 해시 풀에 넣습니다.
+   * 대기열 대기 시간은 password-hash.wait, 실행 시간은 주어진 이름으로 기록합니다.
+   */
+  private <T> Future<T> submit(String metricName, Callable<T> task) {
+    long enqueuedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        long startedAt = System.nanoTime();
+        recordWait(startedAt - enqueuedAt);
+        try {
+          return task.call();
+        } finally {
+          latencyMetrics.record(metricName, System.nanoTime() - startedAt);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new HashingRejectedException("비밀번호 해시 대기열이 가득 찼습니다.", e);
+    }
+    submitted.increment();
+    return future;
+  }
+
+  private void recordWait(long waitNanos) {
+    latencyMetrics.record("password-hash.wait", waitNanos);
+    started.increment();
+    totalWaitNanos.add(waitNanos);
+    long max = maxWaitNanos.get();
+    while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+      max = maxWaitNanos.get();
+    }
+  }
+
+  /**
+   * 해시 풀 상태 (대기열 길이, 대기 시간, 거부 수)
+   */
+  public Map<String, Object> getStats() {
+    long startedCount = started.sum();
+    long totalWait = totalWaitNanos.sum();
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("poolSize", executor.getPoolSize());
+    stats.put("activeThreads", executor.getActiveCount());
+    stats.put("queueDepth", executor.getQueue().size());
+    stats.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+    stats.put("submitted", submitted.sum());
+    stats.put("completed", completed.sum());
+    stats.put("rejected", rejected.sum());
+    stats.put("timedOut", timedOut.sum());
+    stats.put("avgWaitMillis", startedCount > 0 ? totalWait / startedCount / 1_000_000.0 : 0.0);
+    stats.put("maxWaitMillis", maxWaitNanos.get() / 1_000_000.0);
+    return stats;
+  }
+
+  public int getQueueDepth() { return executor.getQueue().size(); }
+  public long getRejectedCount() { return rejected.sum(); }
+  public long getTimedOutCount() { return timedOut.sum(); }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 해시 풀 스레드 이름 지정 (password-hash-N)
+   */
+  private static class HashingThreadFactory implements ThreadFactory {
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  /**
+   * 해시 풀이 과부하 상태라 작업을 받지 않았거나 제한 시간 안에 끝나지 않은 경우
+   */
+  public static class HashingRejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public HashingRejectedException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
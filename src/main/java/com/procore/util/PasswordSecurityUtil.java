@@ -1,37 +1,100 @@
 package com.procore.util;
 
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import java.security.MessageDigest;
-import java.security.SecureRandom;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @Component
-public class PasswordSecurityUtil {
+public class PasswordSecurityUtil implements InitializingBean {
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordSecurityUtil.class);
 
   private static final int MIN_PASSWORD_LENGTH = 8;
   private static final int MAX_PASSWORD_LENGTH = 128;
-  private static final int SALT_LENGTH = 32;
-
-  // 일반적인 비밀번호 패턴들
-  private static final Set<String> COMMON_PASSWORDS = new HashSet<>(Arrays.asList(
-          "password", "12345678", "qwerty123", "abc12345", "password123",
-          "1q2w3e4r", "admin123", "welcome123", "letmein123", "monkey123",
-          "dragon123", "111111", "123123", "sunshine", "master123",
-          "shadow123", "ashley123", "football123", "jesus123", "michael123",
-          "ninja123", "mustang123", "password1", "123456789", "princess123"
-  ));
-
-  // 정규표현식 패턴들
-  private static final Pattern LOWERCASE_PATTERN = Pattern.compile("[a-z]");
-  private static final Pattern UPPERCASE_PATTERN = Pattern.compile("[A-Z]");
-  private static final Pattern DIGIT_PATTERN = Pattern.compile("\\d");
-  private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[!@#$%^&*(),.?\":{}|<>]");
-  private static final Pattern SEQUENTIAL_PATTERN = Pattern.compile("(abc|bcd|cde|def|efg|fgh|ghi|hij|ijk|jkl|klm|lmn|mno|nop|opq|pqr|qrs|rst|stu|tuv|uvw|vwx|wxy|xyz|123|234|345|456|567|678|789|890)");
-  private static final Pattern BIRTH_DATE_PATTERN = Pattern.compile("\\d{4}(0[1-9]|1[012])(0[1-9]|[12][0-9]|3[01])");
-  private static final Pattern YEAR_PATTERN = Pattern.compile("(19|20)\\d{2}");
+
+  // 반복 횟수 (시작 시 목표 시간 기준으로 측정, 범위 제한)
+  private static final int DEFAULT_ITERATIONS = 310_000;
+  private static final int MIN_ITERATIONS = 100_000;
+  private static final int MAX_ITERATIONS = 10_000_000;
+  private static final int CALIBRATION_ITERATIONS = 20_000;
+
+  /** 기본 일반 비밀번호 사전 (classpath) */
+  private static final String DEFAULT_DICTIONARY = "/security/common-passwords.txt";
+
+  // PBKDF2 반복 횟수 설정 (0 이면 목표 시간으로 측정)
+  private int configuredIterations;
+  private long targetMillis = 250;
+  private volatile int iterations = DEFAULT_ITERATIONS;
+
+  @Value("${password.hashing.iterations:0}")
+  public void setConfiguredIterations(int configuredIterations) {
+    this.configuredIterations = configuredIterations;
+  }
+
+  @Value("${password.hashing.target-millis:250}")
+  public void setTargetMillis(long targetMillis) {
+    this.targetMillis = targetMillis;
+  }
+
+  /**
+   * 해시 비용을 결정합니다. 고정 반복 횟수가 없으면 현재 하드웨어에서 측정합니다.
+   */
+  @Override
+  public void afterPropertiesSet() {
+    if (configuredIterations > 0) {
+      iterations = Math.max(MIN_ITERATIONS, configuredIterations);
+    } else {
+      iterations = calibrateIterations(targetMillis);
+    }
+    log.info("PBKDF2 반복 횟수: {} (목표 {}ms)", iterations, targetMillis);
+  }
+
+  // 일반적인 비밀번호 사전 (Spring 설정의 passwordDictionary 빈이 주입, 없으면 처음 사용할 때 기본 사전을 로드)
+  private volatile PasswordDictionary passwordDictionary;
+
+  /**
+   * 일반/유출 비밀번호 사전을 교체합니다.
+   * @param passwordDictionary 사용할 사전
+   */
+  @Autowired(required = false)
+  public void setPasswordDictionary(PasswordDictionary passwordDictionary) {
+    this.passwordDictionary = passwordDictionary;
+  }
+
+  // 유출 비밀번호 필터 (password.breach-filter.path 설정 시에만 사용)
+  private volatile BreachedPasswordFilter breachedPasswordFilter;
+
+  /**
+   * 유출 비밀번호 Bloom 필터를 설정합니다.
+   * @param breachedPasswordFilter 메모리 매핑된 필터
+   */
+  @Autowired(required = false)
+  public void setBreachedPasswordFilter(BreachedPasswordFilter breachedPasswordFilter) {
+    this.breachedPasswordFilter = breachedPasswordFilter;
+  }
+
+  /**
+   * 비밀번호를 한 번 순회하여 분석합니다.
+   * 검증과 강도 평가를 함께 수행할 때는 이 결과를 재사용하세요.
+   * @param password 분석할 비밀번호
+   * @return PasswordAnalysis 객체
+   */
+  public PasswordAnalysis analyze(String password) {
+    return PasswordAnalysis.of(password, dictionary());
+  }
+
+  /**
+   * 입력 중인 비밀번호를 글자 단위로 분석하는 증분 분석기를 만듭니다 (최대 길이까지).
+   */
+  public IncrementalPasswordAnalyzer newIncrementalAnalyzer() {
+    return new IncrementalPasswordAnalyzer(dictionary(), MAX_PASSWORD_LENGTH);
+  }
 
   /**
    * 비밀번호 강도를 평가합니다.
@@ -42,30 +105,37 @@ public class PasswordSecurityUtil {
     if (password == null || password.isEmpty()) {
       return new PasswordStrength(0, StrengthLevel.NONE, "비밀번호를 입력하세요");
     }
+    return evaluatePasswordStrength(analyze(password));
+  }
+
+  /**
+   * 이미 계산된 분석 결과로 비밀번호 강도를 평가합니다 (validatePassword 와 분석 공유, 증분 분석기의 snapshot 등).
+   * @param analysis 분석 결과
+   * @return PasswordStrength 객체
+   */
+  public PasswordStrength evaluatePasswordStrength(PasswordAnalysis analysis) {
+    if (analysis.getLength() == 0) {
+      return new PasswordStrength(0, StrengthLevel.NONE, "비밀번호를 입력하세요");
+    }
 
     int score = 0;
-    StringBuilder feedback = new StringBuilder();
 
     // 기본 요구사항 체크
-    boolean hasMinLength = password.length() >= MIN_PASSWORD_LENGTH;
-    boolean hasLowercase = LOWERCASE_PATTERN.matcher(password).find();
-    boolean hasUppercase = UPPERCASE_PATTERN.matcher(password).find();
-    boolean hasDigit = DIGIT_PATTERN.matcher(password).find();
-    boolean hasSpecial = SPECIAL_CHAR_PATTERN.matcher(password).find();
-    boolean notCommon = !isCommonPassword(password);
+    boolean hasMinLength = analysis.getLength() >= MIN_PASSWORD_LENGTH;
+    boolean notCommon = !isCommonPassword(analysis);
 
     // 점수 계산
     if (hasMinLength) score++;
-    if (hasLowercase) score++;
-    if (hasUppercase) score++;
-    if (hasDigit) score++;
-    if (hasSpecial) score++;
+    if (analysis.hasLowercase()) score++;
+    if (analysis.hasUppercase()) score++;
+    if (analysis.hasDigit()) score++;
+    if (analysis.hasSpecial()) score++;
     if (notCommon) score++;
 
     // 추가 보너스 점수
-    if (password.length() >= 12) score++;
-    if (password.length() >= 16) score++;
-    if (hasGoodEntropy(password)) score++;
+    if (analysis.getLength() >= 12) score++;
+    if (analysis.getLength() >= 16) score++;
+    if (analysis.hasGoodEntropy()) score++;
 
     // 점수를 5점 만점으로 정규화
     double normalizedScore = Math.min(5.0, score * 5.0 / 9.0);
@@ -103,41 +173,60 @@ public class PasswordSecurityUtil {
     if (password == null) {
       return new PasswordValidationResult(false, "비밀번호는 필수입니다.");
     }
+    return validatePassword(password, analyze(password));
+  }
+
+  /**
+   * 이미 계산된 분석 결과로 비밀번호를 검증합니다.
+   * @param password 검증할 비밀번호
+   * @param analysis password 의 분석 결과
+   * @return 유효성 검증 결과
+   */
+  public PasswordValidationResult validatePassword(String password, PasswordAnalysis analysis) {
+    if (password == null) {
+      return new PasswordValidationResult(false, "비밀번호는 필수입니다.");
+    }
 
-    if (password.length() < MIN_PASSWORD_LENGTH) {
+    if (analysis.getLength() < MIN_PASSWORD_LENGTH) {
       return new PasswordValidationResult(false,
               "비밀번호는 최소 " + MIN_PASSWORD_LENGTH + "자 이상이어야 합니다.");
     }
 
-    if (password.length() > MAX_PASSWORD_LENGTH) {
+    if (analysis.getLength() > MAX_PASSWORD_LENGTH) {
       return new PasswordValidationResult(false,
               "비밀번호는 최대 " + MAX_PASSWORD_LENGTH + "자 이하여야 합니다.");
     }
 
     // 기본 문자 조합 체크
-    if (!LOWERCASE_PATTERN.matcher(password).find()) {
+    if (!analysis.hasLowercase()) {
       return new PasswordValidationResult(false, "비밀번호에 영문 소문자가 포함되어야 합니다.");
     }
 
-    if (!UPPERCASE_PATTERN.matcher(password).find()) {
+    if (!analysis.hasUppercase()) {
       return new PasswordValidationResult(false, "비밀번호에 영문 대문자가 포함되어야 합니다.");
     }
 
-    if (!DIGIT_PATTERN.matcher(password).find()) {
+    if (!analysis.hasDigit()) {
       return new PasswordValidationResult(false, "비밀번호에 숫자가 포함되어야 합니다.");
     }
 
-    if (!SPECIAL_CHAR_PATTERN.matcher(password).find()) {
+    if (!analysis.hasSpecial()) {
       return new PasswordValidationResult(false, "비밀번호에 특수문자가 포함되어야 합니다.");
     }
 
     // 일반적인 비밀번호 체크
-    if (isCommonPassword(password)) {
+    if (isCommonPassword(analysis)) {
       return new PasswordValidationResult(false, "너무 일반적인 비밀번호입니다. 더 복잡한 비밀번호를 사용해주세요.");
     }
 
+    // 유출 비밀번호 체크
+    BreachedPasswordFilter filter = breachedPasswordFilter;
+    if (filter != null && filter.mightContain(password)) {
+      return new PasswordValidationResult(false, "유출된 이력이 있는 비밀번호입니다. 다른 비밀번호를 사용해주세요.");
+    }
+
     // 강도 체크 (최소 보통 이상)
-    PasswordStrength strength = evaluatePasswordStrength(password);
+    PasswordStrength strength = evaluatePasswordStrength(analysis);
     if (strength.getScore() < 3) {
       return new PasswordValidationResult(false,
               "비밀번호가 너무 약합니다. 현재 강도: " + strength.getMessage() + " (최소 '보통' 이상 필요)");
@@ -147,182 +236,124 @@ public class PasswordSecurityUtil {
   }
 
   /**
-   * 비밀번호를 해시화합니다 (Salt 포함)
+   * 비밀번호를 해시화합니다 (PBKDF2-HMAC-SHA256, Salt 포함)
+   * 형식: $pbkdf2-sha256$v=1$i=반복횟수$salt$hash (Base64, 패딩 없음)
    * @param password 원본 비밀번호
-   * @return 해시화된 비밀번호 (salt + hash)
+   * @return 해시화된 비밀번호 (알고리즘, 비용, salt, hash 포함)
    */
   public String hashPassword(String password) {
     try {
-      // Salt 생성
-      SecureRandom random = new SecureRandom();
-      byte[] salt = new byte[SALT_LENGTH];
-      random.nextBytes(salt);
-
-      // 비밀번호 해시화
-      MessageDigest md = MessageDigest.getInstance("SHA-256");
-      md.update(salt);
-      byte[] hashedPassword = md.digest(password.getBytes("UTF-8"));
-
-      // Salt + Hash를 Base64로 인코딩하여 저장
-      byte[] saltAndHash = new byte[salt.length + hashedPassword.length];
-      System.arraycopy(salt, 0, saltAndHash, 0, salt.length);
-      System.arraycopy(hashedPassword, 0, saltAndHash, salt.length, hashedPassword.length);
-
-      return java.util.Base64.getEncoder().encodeToString(saltAndHash);
-
+      return CredentialCodec.hash(password, iterations);
     } catch (Exception e) {
       throw new RuntimeException("비밀번호 해시화 중 오류가 발생했습니다.", e);
     }
   }
 
   /**
-   * 비밀번호를 검증합니다
+   * 비밀번호를 검증합니다 (PBKDF2 형식과 기존 SHA-256 형식 모두 지원)
    * @param password 입력된 비밀번호
    * @param hashedPassword 저장된 해시화된 비밀번호
    * @return 일치 여부
    */
   public boolean verifyPassword(String password, String hashedPassword) {
     try {
-      // 저장된 hash에서 salt와 hash 분리
-      byte[] saltAndHash = java.util.Base64.getDecoder().decode(hashedPassword);
-
-      byte[] salt = new byte[SALT_LENGTH];
-      byte[] hash = new byte[saltAndHash.length - SALT_LENGTH];
-
-      System.arraycopy(saltAndHash, 0, salt, 0, SALT_LENGTH);
-      System.arraycopy(saltAndHash, SALT_LENGTH, hash, 0, hash.length);
-
-      // 입력된 비밀번호를 같은 salt로 해시화
-      MessageDigest md = MessageDigest.getInstance("SHA-256");
-      md.update(salt);
-      byte[] testHash = md.digest(password.getBytes("UTF-8"));
-
-      // 해시 비교
-      return MessageDigest.isEqual(hash, testHash);
-
+      return CredentialCodec.verify(password, hashedPassword);
     } catch (Exception e) {
-      System.err.println("비밀번호 검증 중 오류: " + e.getMessage());
+      log.warn("비밀번호 검증 중 오류: {}", e.getMessage());
       return false;
     }
   }
 
   /**
-   * 일반적인 비밀번호인지 확인
+   * 저장된 해시를 현재 설정으로 다시 만들어야 하는지 확인합니다.
+   * 기존 SHA-256 형식이거나 반복 횟수가 현재 설정보다 낮으면 재해시 대상입니다.
+   * @param hashedPassword 저장된 해시화된 비밀번호
+   * @return 재해시가 필요하면 true
    */
-  private boolean isCommonPassword(String password) {
-    String lowerPassword = password.toLowerCase();
-
-    // 정확히 일치하는 일반적인 비밀번호
-    if (COMMON_PASSWORDS.contains(lowerPassword)) {
-      return true;
-    }
-
-    // 일반적인 비밀번호의 변형 체크
-    for (String common : COMMON_PASSWORDS) {
-      if (lowerPassword.contains(common) && lowerPassword.length() <= common.length() + 3) {
-        return true;
-      }
-    }
-
-    // 순차적 패턴
-    if (hasSequentialPattern(password)) {
-      return true;
-    }
-
-    // 반복 패턴
-    if (hasRepeatingPattern(password)) {
-      return true;
-    }
-
-    // 개인정보 패턴
-    if (hasPersonalInfoPattern(password)) {
-      return true;
-    }
-
-    return false;
+  public boolean needsRehash(String hashedPassword) {
+    return CredentialCodec.iterationsOf(hashedPassword) < iterations;
   }
 
   /**
-   * 순차적 패턴 체크
+   * 현재 PBKDF2 반복 횟수
    */
-  private boolean hasSequentialPattern(String password) {
-    String lowerPassword = password.toLowerCase();
-
-    // 알파벳 순서
-    String alphabet = "abcdefghijklmnopqrstuvwxyz";
-    String numbers = "0123456789";
-    String keyboard = "qwertyuiopasdfghjklzxcvbnm";
-
-    return checkSequence(lowerPassword, alphabet) ||
-            checkSequence(lowerPassword, numbers) ||
-            checkSequence(lowerPassword, keyboard);
+  public int getIterations() {
+    return iterations;
   }
 
   /**
-   * 시퀀스 체크 헬퍼 메서드
+   * 해시 1회가 목표 시간에 가깝도록 반복 횟수를 측정합니다.
    */
-  private boolean checkSequence(String password, String sequence) {
-    for (int i = 0; i <= sequence.length() - 4; i++) {
-      String subSeq = sequence.substring(i, i + 4);
-      String reverseSeq = new StringBuilder(subSeq).reverse().toString();
-
-      if (password.contains(subSeq) || password.contains(reverseSeq)) {
-        return true;
+  private static int calibrateIterations(long targetMillis) {
+    try {
+      long best = Long.MAX_VALUE;
+      for (int i = 0; i < 5; i++) {
+        long start = System.nanoTime();
+        CredentialCodec.benchmark("calibration-Password1!", CALIBRATION_ITERATIONS);
+        best = Math.min(best, System.nanoTime() - start);
       }
+
+      long estimated = CALIBRATION_ITERATIONS * (targetMillis * 1_000_000L) / Math.max(1, best);
+      estimated = estimated / 1000 * 1000;
+      return (int) Math.max(MIN_ITERATIONS, Math.min(MAX_ITERATIONS, estimated));
+
+    } catch (Exception e) {
+      log.warn("PBKDF2 반복 횟수 측정 실패, 기본값 사용: {}", e.getMessage());
+      return DEFAULT_ITERATIONS;
     }
-    return false;
   }
 
   /**
-   * 반복 패턴 체크
+   * 일반적인 비밀번호인지 확인합니다 (사전 단어 및 변형, 연속/반복/개인정보 패턴).
+   * @param password 확인할 비밀번호
+   * @return 일반적인 비밀번호이면 true
    */
-  private boolean hasRepeatingPattern(String password) {
-    // 3글자 이상 반복
-    for (int i = 0; i < password.length() - 2; i++) {
-      char c = password.charAt(i);
-      if (password.charAt(i + 1) == c && password.charAt(i + 2) == c) {
-        return true;
-      }
-    }
+  public boolean isCommonPassword(String password) {
+    return password != null && isCommonPassword(analyze(password));
+  }
 
-// 패턴 반복
-    for (int len = 2; len <= password.length() / 2; len++) {
-      String pattern = password.substring(0, len);
-      StringBuilder sb = new StringBuilder();
-      int repeatCount = password.length() / len;
-      for (int i = 0; i < repeatCount; i++) {
-        sb.append(pattern);
-      }
-      String repeated = sb.toString();
-      if (password.startsWith(repeated) && repeated.length() >= 4) {
-        return true;
-      }
+  /**
+   * 일반적인 비밀번호인지 확인
+   */
+  private boolean isCommonPassword(PasswordAnalysis analysis) {
+    // 일반적인 비밀번호 및 변형 (사전 단어 + 3자 이하)
+    if (analysis.isDictionaryVariant()) {
+      return true;
     }
 
-    return false;
+    // 순차적 패턴, 반복 패턴, 개인정보 패턴
+    return analysis.hasWeakPattern();
   }
 
   /**
-   * 개인정보 패턴 체크
+   * 사용할 사전 (주입된 빈이 없으면 기본 사전을 한 번만 로드, Spring 밖에서 직접 생성한 경우)
    */
-  private boolean hasPersonalInfoPattern(String password) {
-    return BIRTH_DATE_PATTERN.matcher(password).find() ||
-            YEAR_PATTERN.matcher(password).find() ||
-            password.matches(".*\\d{6}.*"); // 6자리 연속 숫자
+  private PasswordDictionary dictionary() {
+    PasswordDictionary dictionary = passwordDictionary;
+    if (dictionary == null) {
+      synchronized (this) {
+        dictionary = passwordDictionary;
+        if (dictionary == null) {
+          dictionary = loadDefaultDictionary();
+          passwordDictionary = dictionary;
+        }
+      }
+    }
+    return dictionary;
   }
 
   /**
-   * 엔트로피 체크
+   * classpath 의 기본 사전을 읽어옵니다.
    */
-  private boolean hasGoodEntropy(String password) {
-    Set<Character> uniqueChars = new HashSet<>();
-    for (char c : password.toCharArray()) {
-      uniqueChars.add(c);
+  private static PasswordDictionary loadDefaultDictionary() {
+    try (InputStream in = PasswordSecurityUtil.class.getResourceAsStream(DEFAULT_DICTIONARY)) {
+      if (in == null) {
+        throw new IllegalStateException("기본 비밀번호 사전을 찾을 수 없습니다: " + DEFAULT_DICTIONARY);
+      }
+      return AhoCorasickDictionary.load(in);
+    } catch (IOException e) {
+      throw new IllegalStateException("기본 비밀번호 사전 로드 중 오류가 발생했습니다.", e);
     }
-
-    // 문자 다양성과 길이 고려
-    double entropy = uniqueChars.size() * Math.log(password.length()) / Math.log(2);
-    return entropy > 30; // 임계값
   }
 
   // 내부 클래스들
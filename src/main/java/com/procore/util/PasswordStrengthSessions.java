@@ -0,0 +1,175 @@
+package com.procore.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 입력 중 비밀번호 강도 평가 세션 (세션마다 증분 분석기 하나)
+ *
+ * 회원가입 화면이 스트림을 열면 세션을 만들고, 이후에는 바뀐 부분(앞에서 유지할 글자 수 + 새로 입력한 뒷부분)만 받아
+ * 분석기 상태를 갱신한 뒤 결과를 리스너(SSE)로 보냅니다. 전체 비밀번호를 매번 다시 보내거나 다시 분석하지 않습니다.
+ *
+ * 세션 ID 는 추측할 수 없는 임의 값이며, 열린 세션 수는 max-sessions 로 제한합니다.
+ * 스트림이 끝나면(타임아웃 포함) 세션을 닫고 분석기 버퍼를 지우며,
+ * 세션 수가 가득 차면 timeout-seconds 동안 변경이 없던 세션부터 정리합니다.
+ */
+@Component
+public class PasswordStrengthSessions {
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordStrengthSessions.class);
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  @Autowired
+  private PasswordSecurityUtil passwordSecurityUtil;
+
+  @Value("${password.strength-stream.max-sessions:1000}")
+  private int maxSessions;
+
+  @Value("${password.strength-stream.timeout-seconds:300}")
+  private long timeoutSeconds;
+
+  private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+
+  // 통계
+  private final LongAdder opened = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder edits = new LongAdder();
+  private final LongAdder editedChars = new LongAdder();
+  private final LongAdder expired = new LongAdder();
+
+  /**
+   * 스트림(SSE) 최대 유지 시간 = 변경 없는 세션을 정리하는 시간
+   */
+  public long getTimeoutMillis() {
+    return TimeUnit.SECONDS.toMillis(timeoutSeconds);
+  }
+
+  /**
+   * 세션을 엽니다.
+   * @param listener 변경마다 평가 결과를 받을 곳
+   * @return 세션, 열린 세션이 너무 많으면 null
+   */
+  public Session open(Consumer<PasswordSecurityUtil.PasswordStrength> listener) {
+    if (sessions.size() >= maxSessions) {
+      purgeIdle();
+      if (sessions.size() >= maxSessions) {
+        rejected.increment();
+        log.warn("비밀번호 강도 평가 세션 수 초과: {}", sessions.size());
+        return null;
+      }
+    }
+
+    byte[] bytes = new byte[16];
+    RANDOM.nextBytes(bytes);
+    String id = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    Session session = new Session(id, passwordSecurityUtil.newIncrementalAnalyzer(), listener);
+    sessions.put(id, session);
+    opened.increment();
+    return session;
+  }
+
+  /**
+   * 입력 변경을 반영하고 평가 결과를 리스너로 보냅니다.
+   * @param id 세션 ID
+   * @param keep 앞에서 그대로 유지할 글자 수
+   * @param appended keep 뒤에 새로 입력된 글자들
+   * @return 평가 결과, 세션이 없으면 null
+   * @throws IllegalArgumentException keep 이 현재 길이보다 크거나 최대 길이 초과
+   */
+  public PasswordSecurityUtil.PasswordStrength edit(String id, int keep, String appended) {
+    Session session = id != null ? sessions.get(id) : null;
+    if (session == null) {
+      return null;
+    }
+
+    PasswordSecurityUtil.PasswordStrength strength;
+    synchronized (session) {
+      IncrementalPasswordAnalyzer analyzer = session.analyzer;
+      String suffix = appended != null ? appended : "";
+      if (keep < 0 || keep > analyzer.length() || keep + suffix.length() > analyzer.getMaxLength()) {
+        throw new IllegalArgumentException("잘못된 변경: keep=" + keep + ", 현재 길이 " + analyzer.length());
+      }
+      analyzer.truncate(keep);
+      analyzer.append(suffix);
+      session.lastEditAt = System.nanoTime();
+      strength = passwordSecurityUtil.evaluatePasswordStrength(analyzer.snapshot());
+      session.listener.accept(strength);
+    }
+
+    edits.increment();
+    editedChars.add(appended != null ? appended.length() : 0);
+    return strength;
+  }
+
+  /**
+   * 세션을 닫고 분석기 버퍼를 지웁니다.
+   */
+  public void close(String id) {
+    Session session = id != null ? sessions.remove(id) : null;
+    if (session != null) {
+      synchronized (session) {
+        session.analyzer.clear();
+      }
+    }
+  }
+
+  /**
+   * 열린 세션 수, 변경 횟수와 변경당 전송 글자 수
+   */
+  public Map<String, Object> getStats() {
+    long editCount = edits.sum();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("openSessions", sessions.size());
+    stats.put("maxSessions", maxSessions);
+    stats.put("opened", opened.sum());
+    stats.put("rejected", rejected.sum());
+    stats.put("expired", expired.sum());
+    stats.put("edits", editCount);
+    stats.put("charsPerEdit", editCount > 0 ? (double) editedChars.sum() / editCount : 0.0);
+    return stats;
+  }
+
+  private void purgeIdle() {
+    long idleNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    long now = System.nanoTime();
+    for (Session session : sessions.values()) {
+      if (now - session.lastEditAt > idleNanos) {
+        close(session.id);
+        expired.increment();
+      }
+    }
+  }
+
+  /**
+   * 강도 평가 세션 하나
+   */
+  public static final class Session {
+    private final String id;
+    private final IncrementalPasswordAnalyzer analyzer;
+    private final Consumer<PasswordSecurityUtil.PasswordStrength> listener;
+    private volatile long lastEditAt = System.nanoTime();
+
+    private Session(String id, IncrementalPasswordAnalyzer analyzer,
+                    Consumer<PasswordSecurityUtil.PasswordStrength> listener) {
+      this.id = id;
+      this.analyzer = analyzer;
+      this.listener = listener;
+    }
+
+    public String getId() { return id; }
+  }
+}
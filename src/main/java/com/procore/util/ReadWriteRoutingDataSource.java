@@ -0,0 +1,222 @@
+package com.procore.util;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 (읽기 전용 트랜잭션은 복제본, 나머지는 주 DB)
+ *
+ * @Transactional(readOnly = true) 안에서 얻는 커넥션은 replica 로, 그 외(쓰기 트랜잭션, 트랜잭션 없음)는 primary 로 보냅니다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 뒤에 두어
+ * 첫 SQL 실행 시 실제 커넥션을 고르게 합니다 (applicationContext.xml 참고).
+ *
+ * 복제본에 연결하지 못하면 (네트워크/인증 오류) retry-seconds 동안 복제본을 쓰지 않고 주 DB 로 대체합니다.
+ * 복제본 풀이 가득 차 maxWait 안에 커넥션을 빌리지 못한 경우는 장애가 아니므로 대체하지 않고 그대로 실패시킵니다.
+ *
+ * LazyConnectionDataSourceProxy 뒤에서는 실제 풀 대여가 첫 SQL 의 Statement 준비 중에 일어나므로,
+ * 대여 시간은 여기서 재고 스레드에 남겨 SqlStatementInterceptor 가 그 문장의 커넥션 대기로 가져갑니다.
+ * 복제 지연 동안 복제본에서는 방금 쓴 값이 보이지 않을 수 있으므로, 바로 다시 읽어야 하는 값은 쓰기 트랜잭션에서 조회해야 합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+  public static final String PRIMARY = "primary";
+  public static final String REPLICA = "replica";
+
+  private boolean replicaEnabled;
+  private long retryMillis = TimeUnit.SECONDS.toMillis(30);
+
+  /** 복제본을 다시 시도할 시각 (이 시각 전에는 주 DB 사용) */
+  private volatile long replicaRetryAt;
+
+  /** 현재 스레드가 마지막으로 풀에서 커넥션을 빌리는 데 걸린 시간 (가져가지 않았으면 -1) */
+  private static final ThreadLocal<long[]> LAST_WAIT_NANOS = ThreadLocal.withInitial(() -> new long[] {-1});
+
+  // 통계
+  private final LongAdder primaryConnections = new LongAdder();
+  private final LongAdder replicaConnections = new LongAdder();
+  private final LongAdder replicaFailures = new LongAdder();
+  private final LongAdder fallbackConnections = new LongAdder();
+  private final LongAdder replicaPoolTimeouts = new LongAdder();
+  private final LongAdder connectionWaits = new LongAdder();
+  private final LongAdder connectionWaitNanos = new LongAdder();
+  private final AtomicLong maxConnectionWaitNanos = new AtomicLong();
+
+  public void setReplicaEnabled(boolean replicaEnabled) {
+    this.replicaEnabled = replicaEnabled;
+  }
+
+  public void setRetrySeconds(long retrySeconds) {
+    this.retryMillis = TimeUnit.SECONDS.toMillis(retrySeconds);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    super.afterPropertiesSet();
+    if (replicaEnabled && !getResolvedDataSources().containsKey(REPLICA)) {
+      throw new IllegalStateException("db.replica.enabled=true 이지만 replica DataSource 가 없습니다.");
+    }
+    log.info("DataSource 라우팅: 읽기 전용 트랜잭션 {}", replicaEnabled ? "→ 복제본 (장애 시 주 DB)" : "→ 주 DB (복제본 사용 안 함)");
+  }
+
+  /**
+   * 현재 스레드의 읽기 전용 트랜잭션이 복제본을 사용하는지 (복제본 장애로 대체 중이면 false)
+   */
+  public boolean isReplicaRoute() {
+    return replicaEnabled
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && System.currentTimeMillis() >= replicaRetryAt;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return isReplicaRoute() ? REPLICA : PRIMARY;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return route(DataSource::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return route(dataSource -> dataSource.getConnection(username, password));
+  }
+
+  /**
+   * 현재 스레드가 마지막으로 커넥션을 빌리는 데 걸린 시간을 가져오고 비웁니다.
+   * @return 대기 시간(ns), 그 뒤로 빌린 적이 없으면 -1
+   */
+  public static long takeConnectionWaitNanos() {
+    long[] last = LAST_WAIT_NANOS.get();
+    long waitNanos = last[0];
+    last[0] = -1;
+    return waitNanos;
+  }
+
+  private Connection route(ConnectionSource source) throws SQLException {
+    long started = System.nanoTime();
+    try {
+      if (!isReplicaRoute()) {
+        primaryConnections.increment();
+        return source.get(primary());
+      }
+      try {
+        Connection connection = source.get(replica());
+        replicaConnections.increment();
+        return connection;
+      } catch (SQLException e) {
+        if (!isConnectionFailure(e)) {
+          // 풀 대기 시간 초과 등은 복제본 장애가 아님 (주 DB 로 몰리지 않게 그대로 실패)
+          replicaPoolTimeouts.increment();
+          throw e;
+        }
+        markReplicaDown(e);
+        fallbackConnections.increment();
+        return source.get(primary());
+      }
+    } finally {
+      recordWait(System.nanoTime() - started);
+    }
+  }
+
+  /**
+   * DB 에 연결하지 못한 오류인지 (SQLState 08xxx 연결 오류, 28xxx 인증 오류, 소켓 오류)
+   * DBCP 의 "Timeout waiting for idle object" (풀 고갈) 는 SQLState 가 없고 원인이 NoSuchElementException 이라 제외됩니다.
+   */
+  static boolean isConnectionFailure(SQLException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException) {
+        String state = ((SQLException) cause).getSQLState();
+        if (state != null && (state.startsWith("08") || state.startsWith("28"))) {
+          return true;
+        }
+      }
+      if (cause instanceof IOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void recordWait(long waitNanos) {
+    LAST_WAIT_NANOS.get()[0] = waitNanos;
+    connectionWaits.increment();
+    connectionWaitNanos.add(waitNanos);
+    long max = maxConnectionWaitNanos.get();
+    while (waitNanos > max && !maxConnectionWaitNanos.compareAndSet(max, waitNanos)) {
+      max = maxConnectionWaitNanos.get();
+    }
+  }
+
+  /**
+   * 라우팅 상태와 풀별 사용량
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("replicaEnabled", replicaEnabled);
+    stats.put("replicaAvailable", replicaEnabled && System.currentTimeMillis() >= replicaRetryAt);
+    stats.put("primaryConnections", primaryConnections.sum());
+    stats.put("replicaConnections", replicaConnections.sum());
+    stats.put("replicaFailures", replicaFailures.sum());
+    stats.put("fallbackConnections", fallbackConnections.sum());
+    stats.put("replicaPoolTimeouts", replicaPoolTimeouts.sum());
+    long waits = connectionWaits.sum();
+    stats.put("connectionWaitMeanMillis", waits > 0 ? connectionWaitNanos.sum() / waits / 1_000_000.0 : 0.0);
+    stats.put("connectionWaitMaxMillis", maxConnectionWaitNanos.get() / 1_000_000.0);
+    stats.put(PRIMARY, poolStats(primary()));
+    if (replicaEnabled) {
+      stats.put(REPLICA, poolStats(replica()));
+    }
+    return stats;
+  }
+
+  private void markReplicaDown(SQLException e) {
+    replicaFailures.increment();
+    long now = System.currentTimeMillis();
+    if (now >= replicaRetryAt) {
+      replicaRetryAt = now + retryMillis;
+      log.warn("복제본 커넥션 실패, {}초 동안 주 DB 사용: {}", TimeUnit.MILLISECONDS.toSeconds(retryMillis), e.getMessage());
+    }
+  }
+
+  private DataSource primary() {
+    return getResolvedDataSources().get(PRIMARY);
+  }
+
+  private DataSource replica() {
+    return getResolvedDataSources().get(REPLICA);
+  }
+
+  /**
+   * 대상 DataSource 에서 커넥션 얻기 (사용자/비밀번호 유무에 관계없이 같은 라우팅을 쓰기 위함)
+   */
+  private interface ConnectionSource {
+    Connection get(DataSource dataSource) throws SQLException;
+  }
+
+  private static Map<String, Object> poolStats(DataSource dataSource) {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    if (dataSource instanceof BasicDataSource) {
+      BasicDataSource pool = (BasicDataSource) dataSource;
+      stats.put("active", pool.getNumActive());
+      stats.put("idle", pool.getNumIdle());
+      stats.put("maxTotal", pool.getMaxTotal());
+    }
+    return stats;
+  }
+}
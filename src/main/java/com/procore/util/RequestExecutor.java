@@ -0,0 +1,180 @@
+package com.procore.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 컨트롤러 비동기 처리용 스레드 풀 (크기 제한 + 대기열 제한 + 요청별 제한 시간)
+ *
+ * 핸들러가 DeferredResult 를 반환하면 컨테이너 스레드는 바로 반환되고, 실제 작업(DB 조회, 비밀번호 해시 대기 등)은
+ * 이 풀에서 실행됩니다. 느린 DB 때문에 컨테이너 스레드가 모두 묶여 정적 페이지까지 기다리는 일이 없어집니다.
+ *
+ * 대기열이 가득 차면 즉시, 제한 시간 안에 끝나지 않으면 그 시점에 대체 결과(fallback)로 응답합니다.
+ * 제한 시간이 지나면 대기 중인 작업은 대기열에서 빼고, 실행 중인 작업은 인터럽트합니다.
+ * 인터럽트는 해시 대기처럼 인터럽트에 반응하는 지점에서만 작업을 멈추므로, 이미 DB 쓰기에 들어간 작업은
+ * 끝까지 실행될 수 있습니다 (대체 결과에서 사용자가 결과를 다시 확인하도록 안내할 것).
+ * 작업 중 예외는 Spring MVC 예외 처리로 넘깁니다.
+ *
+ * applicationContext.xml 에서 DB 용(dbRequestExecutor), 로그인/가입용(authRequestExecutor),
+ * CPU 용(cpuRequestExecutor) 세 개를 만듭니다.
+ */
+public class RequestExecutor implements Executor, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(RequestExecutor.class);
+
+  private final String name;
+  private final LatencyMetrics latencyMetrics;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+  private final String waitMetricName;
+
+  // 통계
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder timedOut = new LongAdder();
+
+  /**
+   * @param name 풀 이름 (스레드 이름, 측정 이름 "이름.wait" 에 사용)
+   * @param threads 스레드 수 (0 이면 CPU 코어 수)
+   * @param queueCapacity 대기열 크기
+   * @param timeoutMillis 요청별 제한 시간 (대기열 대기 포함)
+   */
+  public RequestExecutor(String name, int threads, int queueCapacity, long timeoutMillis,
+                         LatencyMetrics latencyMetrics) {
+    this.name = name;
+    this.latencyMetrics = latencyMetrics;
+    this.timeoutMillis = timeoutMillis;
+    this.waitMetricName = name + ".wait";
+
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new RequestThreadFactory(name),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    log.info("요청 처리 풀 {} 초기화: 스레드 {}개, 대기열 {}, 제한 시간 {}ms", name, poolSize, queueCapacity, timeoutMillis);
+  }
+
+  /**
+   * 작업을 풀에서 실행하고 결과를 DeferredResult 로 돌려줍니다.
+   * @param task 실행할 작업 (요청/응답 객체를 쓰지 말고 필요한 값은 미리 꺼내 둘 것)
+   * @param fallback 대기열 초과 또는 제한 시간 초과 시 응답할 결과
+   */
+  public <T> DeferredResult<T> defer(Callable<T> task, Supplier<T> fallback) {
+    DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+    long enqueuedAt = System.nanoTime();
+
+    Future<?> future;
+    try {
+      future = executor.submit(() -> {
+        latencyMetrics.record(waitMetricName, System.nanoTime() - enqueuedAt);
+        if (result.isSetOrExpired()) {
+          return;
+        }
+        try {
+          result.setResult(task.call());
+          completed.increment();
+        } catch (Exception e) {
+          failed.increment();
+          result.setErrorResult(e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("요청 처리 풀 {} 대기열 초과", name);
+      result.setResult(fallback.get());
+      return result;
+    }
+    submitted.increment();
+
+    result.onTimeout(() -> {
+      // 실행 중이면 인터럽트, 아직 대기열에 있으면 제거하여 자리를 비움 (결과는 버려짐)
+      future.cancel(true);
+      executor.remove((Runnable) future);
+      timedOut.increment();
+      log.warn("요청 처리 풀 {} 제한 시간({}ms) 초과", name, timeoutMillis);
+      result.setResult(fallback.get());
+    });
+    return result;
+  }
+
+  /**
+   * CompletableFuture.supplyAsync 등에 쓰는 실행 (대기열이 가득 차면 RejectedExecutionException)
+   */
+  @Override
+  public void execute(Runnable command) {
+    try {
+      executor.execute(command);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw e;
+    }
+    submitted.increment();
+  }
+
+  public long getTimeoutMillis() {
+    return timeoutMillis;
+  }
+
+  /**
+   * 풀 상태 (대기열 길이, 거부/제한 시간 초과 수)
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("poolSize", executor.getPoolSize());
+    stats.put("activeThreads", executor.getActiveCount());
+    stats.put("queueDepth", executor.getQueue().size());
+    stats.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+    stats.put("timeoutMillis", timeoutMillis);
+    stats.put("submitted", submitted.sum());
+    stats.put("completed", completed.sum());
+    stats.put("failed", failed.sum());
+    stats.put("rejected", rejected.sum());
+    stats.put("timedOut", timedOut.sum());
+    return stats;
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 풀 스레드 이름 지정 (이름-N)
+   */
+  private static class RequestThreadFactory implements ThreadFactory {
+    private final String prefix;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    RequestThreadFactory(String prefix) {
+      this.prefix = prefix + "-";
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.procore.util;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 메서드 처리 시간 기록 ("service.인터페이스.메서드")
+ *
+ * applicationContext.xml 의 BeanNameAutoProxyCreator 가 서비스 빈에 적용합니다.
+ * 예외로 끝난 호출도 같은 이름으로 기록합니다.
+ */
+@Component
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+  @Autowired
+  private LatencyMetrics latencyMetrics;
+
+  private final ConcurrentHashMap<Method, String> names = new ConcurrentHashMap<>();
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    if (!latencyMetrics.isEnabled()) {
+      return invocation.proceed();
+    }
+    long started = System.nanoTime();
+    try {
+      return invocation.proceed();
+    } finally {
+      latencyMetrics.record(nameOf(invocation.getMethod()), System.nanoTime() - started);
+    }
+  }
+
+  private String nameOf(Method method) {
+    String name = names.get(method);
+    if (name == null) {
+      name = names.computeIfAbsent(method, key ->
+              "service." + key.getDeclaringClass().getSimpleName() + "." + key.getName());
+    }
+    return name;
+  }
+}
@@ -0,0 +1,96 @@
+package com.procore.vo;
+
+import java.time.LocalDateTime;
+
+public class LoginAttemptVO {
+
+  /** 기록 고유 번호 */
+  private Long id;
+
+  /** 요청 IP 주소 */
+  private String ipAddress;
+
+  /** 로그인 시도 이메일 */
+  private String email;
+
+  /** 시도 구분 (MEMBER, ADMIN) */
+  private String attemptType;
+
+  /** 성공 여부 */
+  private boolean success;
+
+  /** 시도 일시 (기록 시점이 아닌 실제 시도 시점) */
+  private LocalDateTime attemptedAt;
+
+  // 기본 생성자
+  public LoginAttemptVO() {
+  }
+
+  public LoginAttemptVO(String ipAddress, String email, String attemptType, boolean success) {
+    this.ipAddress = ipAddress;
+    this.email = email;
+    this.attemptType = attemptType;
+    this.success = success;
+    this.attemptedAt = LocalDateTime.now();
+  }
+
+  // Getter/Setter Methods
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getIpAddress() {
+    return ipAddress;
+  }
+
+  public void setIpAddress(String ipAddress) {
+    this.ipAddress = ipAddress;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public String getAttemptType() {
+    return attemptType;
+  }
+
+  public void setAttemptType(String attemptType) {
+    this.attemptType = attemptType;
+  }
+
+  public boolean isSuccess() {
+    return success;
+  }
+
+  public void setSuccess(boolean success) {
+    this.success = success;
+  }
+
+  public LocalDateTime getAttemptedAt() {
+    return attemptedAt;
+  }
+
+  public void setAttemptedAt(LocalDateTime attemptedAt) {
+    this.attemptedAt = attemptedAt;
+  }
+
+  @Override
+  public String toString() {
+    return "LoginAttemptVO{" +
+            "ipAddress='" + ipAddress + '\'' +
+            ", email='" + email + '\'' +
+            ", attemptType='" + attemptType + '\'' +
+            ", success=" + success +
+            ", attemptedAt=" + attemptedAt +
+            '}';
+  }
+}
@@ -0,0 +1,123 @@
+package com.procore.vo;
+
+import java.time.LocalDateTime;
+
+public class MemberSearchCondition {
+
+  /** 회원 상태 (null 이면 전체) */
+  private MemberStatus status;
+
+  /** 이메일 접두어 (LIKE 'prefix%') */
+  private String emailPrefix;
+
+  /** 닉네임 접두어 (LIKE 'prefix%') */
+  private String nicknamePrefix;
+
+  /** 가입 일시 시작 (포함) */
+  private LocalDateTime createdFrom;
+
+  /** 가입 일시 끝 (제외) */
+  private LocalDateTime createdTo;
+
+  /** 이전 페이지 마지막 회원의 가입 일시 (키셋 페이지네이션, 첫 페이지면 null) */
+  private LocalDateTime afterCreatedAt;
+
+  /** 이전 페이지 마지막 회원 번호 */
+  private Long afterMemberId;
+
+  /** 조회할 행 수 */
+  private int limit;
+
+  // 기본 생성자
+  public MemberSearchCondition() {
+  }
+
+  // Getter/Setter Methods
+  public MemberStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(MemberStatus status) {
+    this.status = status;
+  }
+
+  public String getEmailPrefix() {
+    return emailPrefix;
+  }
+
+  public void setEmailPrefix(String emailPrefix) {
+    this.emailPrefix = emailPrefix;
+  }
+
+  public String getNicknamePrefix() {
+    return nicknamePrefix;
+  }
+
+  public void setNicknamePrefix(String nicknamePrefix) {
+    this.nicknamePrefix = nicknamePrefix;
+  }
+
+  public LocalDateTime getCreatedFrom() {
+    return createdFrom;
+  }
+
+  public void setCreatedFrom(LocalDateTime createdFrom) {
+    this.createdFrom = createdFrom;
+  }
+
+  public LocalDateTime getCreatedTo() {
+    return createdTo;
+  }
+
+  public void setCreatedTo(LocalDateTime createdTo) {
+    this.createdTo = createdTo;
+  }
+
+  public LocalDateTime getAfterCreatedAt() {
+    return afterCreatedAt;
+  }
+
+  public void setAfterCreatedAt(LocalDateTime afterCreatedAt) {
+    this.afterCreatedAt = afterCreatedAt;
+  }
+
+  public Long getAfterMemberId() {
+    return afterMemberId;
+  }
+
+  public void setAfterMemberId(Long afterMemberId) {
+    this.afterMemberId = afterMemberId;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public void setLimit(int limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * LIKE 접두어 검색용으로 특수문자(\, %, _)를 이스케이프합니다. 비어 있으면 null (조건 없음).
+   */
+  public static String likePrefix(String prefix) {
+    if (prefix == null || prefix.trim().isEmpty()) {
+      return null;
+    }
+    return prefix.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  @Override
+  public String toString() {
+    return "MemberSearchCondition{" +
+            "status=" + status +
+            ", emailPrefix='" + emailPrefix + '\'' +
+            ", nicknamePrefix='" + nicknamePrefix + '\'' +
+            ", createdFrom=" + createdFrom +
+            ", createdTo=" + createdTo +
+            ", afterCreatedAt=" + afterCreatedAt +
+            ", afterMemberId=" + afterMemberId +
+            ", limit=" + limit +
+            '}';
+  }
+}
@@ -17,7 +17,10 @@ CREATE TABLE member (
                         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                         INDEX idx_email (email),
                         INDEX idx_nickname (nickname),
-                        INDEX idx_phone (phone)
+                        INDEX idx_phone (phone),
+                        -- 관리자 회원 검색 키셋 페이지네이션 (가입 최신순)
+                        INDEX idx_created_at (created_at, member_id),
+                        INDEX idx_status_created_at (status, created_at, member_id)
 );
 
 -- 관리자 테이블
@@ -0,0 +1,19 @@
+-- 관리자 회원 검색용 인덱스 추가 (기존 데이터베이스)
+-- 검색은 (created_at, member_id) 키셋 페이지네이션으로 최신순 정렬하므로,
+-- 아래 인덱스를 역순으로 읽어 페이지 깊이와 관계없이 페이지 크기만큼만 읽습니다.
+-- 이메일/닉네임 접두어 검색은 기존 고유 인덱스 범위를 읽은 뒤 정렬하므로 접두어에 맞는 행 수에 비례합니다.
+USE procore;
+
+ALTER TABLE member
+    ADD INDEX idx_created_at (created_at, member_id),
+    ADD INDEX idx_status_created_at (status, created_at, member_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 실행 계획 확인 (key 가 idx_status_created_at, Extra 에 filesort 가 없어야 함)
+EXPLAIN
+SELECT member_id, email, nickname, name, phone, status, created_at, updated_at
+FROM member
+WHERE status = 'ACTIVE'
+  AND (created_at < '2024-01-01 00:00:00' OR (created_at = '2024-01-01 00:00:00' AND member_id < 1000))
+ORDER BY created_at DESC, member_id DESC
+LIMIT 21;
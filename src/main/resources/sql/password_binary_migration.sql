@@ -0,0 +1,39 @@
+-- (선택) 비밀번호 컬럼을 바이너리 형식으로 변환
+-- 텍스트 해시(VARCHAR 255)를 CredentialCodec 바이너리 형식(최대 65바이트)으로 바꿔 행과 인덱스 크기를 줄입니다.
+--
+-- 1단계(이 파일): password_bin 컬럼을 추가하고 채운 뒤 검증합니다. 기존 password 컬럼은 그대로 둡니다.
+-- 2단계(password_binary_migration_finalize.sql): 검증 결과를 확인한 뒤 수동으로 실행합니다.
+--   변환되지 않은 행이 하나라도 있으면 중단하고, 없을 때만 기존 컬럼을 지우고 password_bin 을 password 로 바꿉니다.
+-- 2단계 후 application.properties 에 db.password-column.jdbc-type=VARBINARY 를 설정하세요.
+--
+-- PBKDF2 = 0x01 | 반복횟수(4바이트, 빅 엔디언) | salt 16바이트 | hash 32바이트
+-- 기존   = 0x00 | salt 32바이트 | hash 32바이트
+USE procore;
+
+ALTER TABLE member ADD COLUMN password_bin VARBINARY(72) NULL AFTER password;
+
+UPDATE member
+SET password_bin = CASE
+    WHEN password LIKE '$pbkdf2-sha256$v=1$i=%' THEN CONCAT(
+        0x01,
+        UNHEX(LPAD(HEX(CAST(SUBSTRING(SUBSTRING_INDEX(SUBSTRING_INDEX(password, '$', 4), '$', -1), 3) AS UNSIGNED)), 8, '0')),
+        FROM_BASE64(CONCAT(SUBSTRING_INDEX(SUBSTRING_INDEX(password, '$', 5), '$', -1), '==')),
+        FROM_BASE64(CONCAT(SUBSTRING_INDEX(password, '$', -1), '='))
+    )
+    ELSE CONCAT(0x00, FROM_BASE64(password))
+END;
+
+-- 변환되지 않은 행 수 확인 (0이 아니면 2단계를 실행하지 말고 해당 행을 확인할 것)
+SELECT COUNT(*) AS unconverted
+FROM member
+WHERE password_bin IS NULL
+   OR LENGTH(password_bin) NOT IN (53, 65)
+   OR (LENGTH(password_bin) = 53 AND CONV(HEX(SUBSTRING(password_bin, 2, 4)), 16, 10) = 0);
+
+-- PBKDF2 행 표본 확인 (반복횟수가 설정값과 같아야 함)
+SELECT member_id,
+       CONV(HEX(SUBSTRING(password_bin, 2, 4)), 16, 10) AS iterations,
+       LENGTH(password_bin) AS bytes
+FROM member
+WHERE password LIKE '$pbkdf2-sha256$%'
+LIMIT 10;
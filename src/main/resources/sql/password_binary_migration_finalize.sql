@@ -0,0 +1,30 @@
+-- (선택) 비밀번호 컬럼 바이너리 변환 2단계: 기존 텍스트 컬럼 삭제
+-- password_binary_migration.sql 실행 후 검증 결과(unconverted = 0)를 확인하고 수동으로 실행합니다.
+-- 변환되지 않은 행이 하나라도 있으면 SIGNAL 로 중단하며 컬럼을 지우지 않습니다.
+USE procore;
+
+DROP PROCEDURE IF EXISTS finalize_password_binary_migration;
+
+DELIMITER //
+CREATE PROCEDURE finalize_password_binary_migration()
+BEGIN
+    DECLARE unconverted BIGINT;
+
+    SELECT COUNT(*) INTO unconverted
+    FROM member
+    WHERE password_bin IS NULL
+       OR LENGTH(password_bin) NOT IN (53, 65)
+       OR (LENGTH(password_bin) = 53 AND CONV(HEX(SUBSTRING(password_bin, 2, 4)), 16, 10) = 0);
+
+    IF unconverted > 0 THEN
+        SIGNAL SQLSTATE '45000'
+            SET MESSAGE_TEXT = '변환되지 않은 password_bin 행이 있어 중단합니다. password_binary_migration.sql 을 다시 확인하세요.';
+    END IF;
+
+    ALTER TABLE member DROP COLUMN password;
+    ALTER TABLE member CHANGE password_bin password VARBINARY(72) NOT NULL;
+END //
+DELIMITER ;
+
+CALL finalize_password_binary_migration();
+DROP PROCEDURE finalize_password_binary_migration;
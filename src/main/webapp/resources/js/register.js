@@ -5,6 +5,12 @@ class EnhancedPasswordValidator {
     this.confirmPasswordField = null;
     this.strengthIndicator = null;
     this.requirementsContainer = null;
+
+    // 서버 강도 평가 스트림 (SSE): 입력이 바뀔 때 바뀐 뒷부분만 보냄
+    this.strengthStream = null;
+    this.streamId = null;
+    this.serverValue = '';
+    this.editInFlight = false;
     this.init();
   }
 
@@ -14,6 +20,90 @@ class EnhancedPasswordValidator {
     this.createStrengthIndicator();
     this.createRequirementsDisplay();
     this.setupEventListeners();
+    this.openStrengthStream();
+  }
+
+  // 서버 강도 평가 스트림 열기 (EventSource 가 없거나 실패하면 화면에서 계산한 강도만 사용)
+  openStrengthStream() {
+    if (!window.EventSource) {
+      return;
+    }
+
+    const stream = new EventSource('/member/password-strength/stream');
+    this.strengthStream = stream;
+
+    stream.addEventListener('session', (e) => {
+      this.streamId = JSON.parse(e.data).id;
+      this.serverValue = '';
+      this.pushStrengthEdit();
+    });
+
+    stream.addEventListener('strength', (e) => {
+      const strength = JSON.parse(e.data);
+      this.updateStrengthIndicator({
+        score: Math.round(strength.score * 10) / 10,
+        level: strength.level,
+        text: strength.message
+      });
+    });
+
+    stream.onerror = () => {
+      // EventSource 가 다시 연결하면 새 session 이벤트를 받음
+      this.streamId = null;
+      if (stream.readyState === EventSource.CLOSED) {
+        this.strengthStream = null;
+      }
+    };
+  }
+
+  // 서버에 입력 변경 전송 (앞에서 같은 글자 수 keep + 바뀐 뒷부분 text, 한 번에 하나만)
+  pushStrengthEdit() {
+    if (!this.streamId || this.editInFlight) {
+      return;
+    }
+
+    const value = this.passwordField.value;
+    if (value === this.serverValue) {
+      return;
+    }
+
+    let keep = 0;
+    const max = Math.min(value.length, this.serverValue.length);
+    while (keep < max && value.charCodeAt(keep) === this.serverValue.charCodeAt(keep)) {
+      keep++;
+    }
+
+    const params = new URLSearchParams();
+    params.append('keep', keep);
+    params.append('text', value.substring(keep));
+
+    const id = this.streamId;
+    this.editInFlight = true;
+    fetch(`/member/password-strength/stream/${encodeURIComponent(id)}`, {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/x-www-form-urlencoded',
+      },
+      body: params.toString()
+    })
+        .then(response => {
+          if (!response.ok) {
+            throw new Error(`HTTP ${response.status}`);
+          }
+          this.serverValue = value;
+        })
+        .catch(() => {
+          // 세션이 만료되었거나 입력이 너무 긴 경우: 화면에서 계산한 강도로 표시
+          if (this.streamId === id) {
+            this.streamId = null;
+          }
+          this.updateStrengthIndicator(this.calculateStrength(this.passwordField.value, this.checkRequirements()));
+        })
+        .finally(() => {
+          this.editInFlight = false;
+          // 전송 중에 입력이 더 바뀌었으면 이어서 전송
+          this.pushStrengthEdit();
+        });
   }
 
   createStrengthIndicator() {
@@ -161,9 +251,9 @@ class EnhancedPasswordValidator {
     return commonPersonalPatterns.some(pattern => pattern.test(password));
   }
 
-  validatePassword() {
+  checkRequirements() {
     const password = this.passwordField.value;
-    const requirements = {
+    return {
       length: password.length >= 8,
       lowercase: /[a-z]/.test(password),
       uppercase: /[A-Z]/.test(password),
@@ -171,6 +261,11 @@ class EnhancedPasswordValidator {
       special: /[!@#$%^&*(),.?":{}|<>]/.test(password),
       noCommon: !this.isCommonPassword(password)
     };
+  }
+
+  validatePassword() {
+    const password = this.passwordField.value;
+    const requirements = this.checkRequirements();
 
     // 요구사항 UI 업데이트
     Object.entries(requirements).forEach(([rule, passed]) => {
@@ -188,9 +283,13 @@ class EnhancedPasswordValidator {
       }
     });
 
-    // 강도 계산
+    // 강도 계산 (스트림이 열려 있으면 표시는 서버 평가 결과로)
     const strength = this.calculateStrength(password, requirements);
-    this.updateStrengthIndicator(strength);
+    if (this.streamId) {
+      this.pushStrengthEdit();
+    } else {
+      this.updateStrengthIndicator(strength);
+    }
 
     return strength;
   }
@@ -495,42 +594,29 @@ class ProCoreRegisterForm {
     return true;
   }
 
+  // 중복확인 버튼: 입력된 항목 전체를 한 번의 요청으로 확인
   checkEmailDuplicate() {
-    const email = this.fields.email.value.trim();
-    const checkResult = document.getElementById('emailCheckResult');
-    const checkBtn = document.getElementById('checkEmailBtn');
-
     if (!this.validateEmail()) {
       return;
     }
+    this.runPrecheckFromButton(document.getElementById('checkEmailBtn'));
+  }
+
+  checkNicknameDuplicate() {
+    if (!this.validateNickname()) {
+      return;
+    }
+    this.runPrecheckFromButton(document.getElementById('checkNicknameBtn'));
+  }
 
+  runPrecheckFromButton(checkBtn) {
     checkBtn.disabled = true;
     checkBtn.textContent = '확인중...';
-    checkResult.textContent = '';
 
-    fetch('/member/check-email', {
-      method: 'POST',
-      headers: {
-        'Content-Type': 'application/x-www-form-urlencoded',
-      },
-      body: `email=${encodeURIComponent(email)}`
-    })
-        .then(response => response.json())
-        .then(data => {
-          if (data.success) {
-            checkResult.style.color = '#16a34a';
-            checkResult.textContent = data.message;
-            this.setFieldSuccess(this.fields.email);
-          } else {
-            checkResult.style.color = '#dc2626';
-            checkResult.textContent = data.message;
-            this.setFieldError(this.fields.email, '이미 사용 중인 이메일입니다.');
-          }
-        })
+    this.precheck()
         .catch(error => {
           console.error('Error:', error);
-          checkResult.style.color = '#dc2626';
-          checkResult.textContent = '중복확인 중 오류가 발생했습니다.';
+          alert('중복확인 중 오류가 발생했습니다.');
         })
         .finally(() => {
           checkBtn.disabled = false;
@@ -538,49 +624,69 @@ class ProCoreRegisterForm {
         });
   }
 
-  checkNicknameDuplicate() {
-    const nickname = this.fields.nickname.value.trim();
-    const checkResult = document.getElementById('nicknameCheckResult');
-    const checkBtn = document.getElementById('checkNicknameBtn');
-
-    if (!this.validateNickname()) {
-      return;
+  // 가입 사전 확인 (이메일/닉네임/전화번호 중복과 비밀번호 검증을 /member/precheck 한 번으로)
+  precheck() {
+    const params = new URLSearchParams();
+    ['email', 'nickname', 'phone'].forEach(name => {
+      const value = this.fields[name].value.trim();
+      if (value) {
+        params.append(name, value);
+      }
+    });
+    if (this.fields.password.value) {
+      params.append('password', this.fields.password.value);
     }
 
-    checkBtn.disabled = true;
-    checkBtn.textContent = '확인중...';
-    checkResult.textContent = '';
-
-    fetch('/member/check-nickname', {
+    return fetch('/member/precheck', {
       method: 'POST',
       headers: {
         'Content-Type': 'application/x-www-form-urlencoded',
       },
-      body: `nickname=${encodeURIComponent(nickname)}`
+      body: params.toString()
     })
         .then(response => response.json())
         .then(data => {
-          if (data.success) {
-            checkResult.style.color = '#16a34a';
-            checkResult.textContent = data.message;
-            this.setFieldSuccess(this.fields.nickname);
-          } else {
-            checkResult.style.color = '#dc2626';
-            checkResult.textContent = data.message;
-            this.setFieldError(this.fields.nickname, '이미 사용 중인 닉네임입니다.');
-          }
-        })
-        .catch(error => {
-          console.error('Error:', error);
-          checkResult.style.color = '#dc2626';
-          checkResult.textContent = '중복확인 중 오류가 발생했습니다.';
-        })
-        .finally(() => {
-          checkBtn.disabled = false;
-          checkBtn.textContent = '중복확인';
+          this.applyPrecheck(data);
+          return data;
         });
   }
 
+  applyPrecheck(data) {
+    if (!data.success) {
+      throw new Error(data.message);
+    }
+
+    const checkResults = {
+      email: document.getElementById('emailCheckResult'),
+      nickname: document.getElementById('nicknameCheckResult')
+    };
+
+    ['email', 'nickname', 'phone', 'password'].forEach(name => {
+      const fieldResult = data[name];
+      if (!fieldResult) {
+        return;
+      }
+
+      if (fieldResult.valid) {
+        this.setFieldSuccess(this.fields[name]);
+      } else {
+        this.setFieldError(this.fields[name], fieldResult.message);
+      }
+
+      // setFieldError 가 중복확인 결과를 지우므로 그 다음에 표시
+      const checkResult = checkResults[name];
+      if (checkResult) {
+        checkResult.style.color = fieldResult.valid ? '#16a34a' : '#dc2626';
+        checkResult.textContent = fieldResult.message;
+      }
+    });
+  }
+
+  isPrecheckPassed(data) {
+    return data.success && ['email', 'nickname', 'phone', 'password']
+        .every(name => !data[name] || data[name].valid);
+  }
+
   handleSubmit(e) {
     e.preventDefault();
 
@@ -602,26 +708,26 @@ class ProCoreRegisterForm {
       return;
     }
 
-    // 중복확인 여부 체크
-    const emailCheckResult = document.getElementById('emailCheckResult');
-    const nicknameCheckResult = document.getElementById('nicknameCheckResult');
-
-    if (!emailCheckResult || !emailCheckResult.textContent.includes('사용 가능')) {
-      alert('이메일 중복확인을 해주세요.');
-      this.fields.email.focus();
-      return;
-    }
-
-    if (!nicknameCheckResult || !nicknameCheckResult.textContent.includes('사용 가능')) {
-      alert('닉네임 중복확인을 해주세요.');
-      this.fields.nickname.focus();
-      return;
-    }
-
+    // 중복확인과 서버 비밀번호 검증을 한 번에 (버튼으로 미리 확인했어도 그 뒤 입력이 바뀌었을 수 있음)
     this.showLoading();
-    setTimeout(() => {
-      this.form.submit();
-    }, 500);
+    this.precheck()
+        .then(data => {
+          if (this.isPrecheckPassed(data)) {
+            this.form.submit();
+            return;
+          }
+          this.hideLoading();
+          const firstError = document.querySelector('.form-group.error input');
+          if (firstError) {
+            firstError.focus();
+            firstError.scrollIntoView({ behavior: 'smooth', block: 'center' });
+          }
+        })
+        .catch(error => {
+          console.error('Error:', error);
+          this.hideLoading();
+          alert('입력 정보 확인 중 오류가 발생했습니다. 다시 시도해주세요.');
+        });
   }
 
   // UI 업데이트 메서드들
@@ -694,6 +800,16 @@ class ProCoreRegisterForm {
     btnText.style.opacity = '0';
     btnLoading.style.display = 'block';
   }
+
+  hideLoading() {
+    const submitBtn = this.form.querySelector('button[type="submit"]');
+    const btnText = submitBtn.querySelector('.btn-text');
+    const btnLoading = submitBtn.querySelector('.btn-loading');
+
+    submitBtn.disabled = false;
+    btnText.style.opacity = '1';
+    btnLoading.style.display = 'none';
+  }
 }
 
 // 페이지 로드 시 초기화
@@ -0,0 +1,58 @@
+package com.procore.service.impl;
+
+import com.procore.service.MemberService.RegistrationStatus;
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.junit.Assert.assertEquals;
+
+public class MemberServiceImplTest {
+
+  @Test
+  public void mapsMySql8KeyNames() {
+    assertEquals(RegistrationStatus.DUPLICATE_EMAIL,
+            statusOf("Duplicate entry 'a@b.com' for key 'member.email'"));
+    assertEquals(RegistrationStatus.DUPLICATE_NICKNAME,
+            statusOf("Duplicate entry 'nick' for key 'member.nickname'"));
+    assertEquals(RegistrationStatus.DUPLICATE_PHONE,
+            statusOf("Duplicate entry '010-1234-5678' for key 'member.phone'"));
+  }
+
+  @Test
+  public void mapsMySql57KeyNames() {
+    assertEquals(RegistrationStatus.DUPLICATE_EMAIL, statusOf("Duplicate entry 'a@b.com' for key 'email'"));
+    assertEquals(RegistrationStatus.DUPLICATE_NICKNAME, statusOf("Duplicate entry 'nick' for key 'NICKNAME'"));
+    assertEquals(RegistrationStatus.DUPLICATE_PHONE, statusOf("Duplicate entry '010' for key 'uk_member_phone'"));
+  }
+
+  @Test
+  public void keyNameDecidesEvenWhenValueLooksLikeAnotherField() {
+    // 값이 아니라 인덱스 이름으로 판단
+    assertEquals(RegistrationStatus.DUPLICATE_NICKNAME,
+            statusOf("Duplicate entry 'email@x.com' for key 'member.nickname'"));
+  }
+
+  @Test
+  public void unknownKeyOrMessageFails() {
+    assertEquals(RegistrationStatus.FAILED, statusOf("Duplicate entry '1' for key 'PRIMARY'"));
+    assertEquals(RegistrationStatus.FAILED, statusOf("Duplicate entry 'x'"));
+    assertEquals(RegistrationStatus.FAILED, MemberServiceImpl.duplicateStatusOf(new DuplicateKeyException(null)));
+  }
+
+  @Test
+  public void usesMessageWithoutCause() {
+    assertEquals(RegistrationStatus.DUPLICATE_EMAIL, MemberServiceImpl.duplicateStatusOf(
+            new DuplicateKeyException("Duplicate entry 'a@b.com' for key 'member.email'")));
+  }
+
+  /**
+   * MyBatis/Spring 이 감싼 형태 (원인 SQLException 의 메시지로 판단)
+   */
+  private static RegistrationStatus statusOf(String sqlMessage) {
+    SQLIntegrityConstraintViolationException cause = new SQLIntegrityConstraintViolationException(sqlMessage, "23000", 1062);
+    return MemberServiceImpl.duplicateStatusOf(
+            new DuplicateKeyException("### Error updating database. Cause: " + cause, cause));
+  }
+}
@@ -0,0 +1,76 @@
+package com.procore.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class AhoCorasickDictionaryTest {
+
+  @Test
+  public void longestMatchAgreesWithNaiveSearch() {
+    Random random = new Random(11L);
+    for (int round = 0; round < 50; round++) {
+      // 작은 알파벳으로 서로 겹치는 단어가 많이 생기게 함 (실패 링크 경로 확인)
+      List<String> words = new ArrayList<>();
+      int wordCount = 1 + random.nextInt(30);
+      for (int i = 0; i < wordCount; i++) {
+        words.add(randomText(random, 1 + random.nextInt(6), "abcAB1가"));
+      }
+      AhoCorasickDictionary dictionary = AhoCorasickDictionary.of(words);
+
+      for (int i = 0; i < 200; i++) {
+        String password = randomText(random, random.nextInt(20), "abcABC12가나");
+        assertEquals(words + " / " + password, naiveLongestMatch(words, password), dictionary.longestMatch(password));
+      }
+    }
+  }
+
+  @Test
+  public void matchesCaseInsensitively() {
+    AhoCorasickDictionary dictionary = AhoCorasickDictionary.of(Arrays.asList("Password", "qwerty"));
+
+    assertEquals(8, dictionary.longestMatch("myPASSWORD!"));
+    assertEquals(6, dictionary.longestMatch("QwErTy99"));
+    assertEquals(0, dictionary.longestMatch("passwor"));
+  }
+
+  @Test
+  public void loadSkipsBlankLinesAndComments() throws IOException {
+    String text = "# 주석\n\n  password  \nletmein\n#qwerty\n";
+    AhoCorasickDictionary dictionary =
+            AhoCorasickDictionary.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals(2, dictionary.size());
+    assertEquals(8, dictionary.longestMatch("xpassword"));
+    assertEquals(7, dictionary.longestMatch("LetMeIn1"));
+    assertEquals(0, dictionary.longestMatch("qwerty"));
+  }
+
+  private static int naiveLongestMatch(List<String> words, String password) {
+    String lower = password.toLowerCase(Locale.ROOT);
+    int longest = 0;
+    for (String word : words) {
+      if (lower.contains(word.toLowerCase(Locale.ROOT))) {
+        longest = Math.max(longest, word.length());
+      }
+    }
+    return longest;
+  }
+
+  private static String randomText(Random random, int length, String alphabet) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+}
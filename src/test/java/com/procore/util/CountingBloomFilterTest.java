@@ -0,0 +1,109 @@
+package com.procore.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CountingBloomFilterTest {
+
+  private static final int ENTRIES = 20_000;
+
+  @Test
+  public void addedEntriesAreAlwaysFound() {
+    CountingBloomFilter filter = CountingBloomFilter.create(ENTRIES, 0.01);
+    long[][] keys = randomKeys(ENTRIES, 1L);
+    for (long[] key : keys) {
+      filter.add(key[0], key[1]);
+    }
+
+    for (long[] key : keys) {
+      assertTrue(filter.mightContain(key[0], key[1]));
+    }
+  }
+
+  @Test
+  public void removingSomeEntriesKeepsTheRest() {
+    CountingBloomFilter filter = CountingBloomFilter.create(ENTRIES, 0.01);
+    long[][] keys = randomKeys(ENTRIES, 2L);
+    for (long[] key : keys) {
+      filter.add(key[0], key[1]);
+    }
+    for (int i = 0; i < keys.length; i += 2) {
+      filter.remove(keys[i][0], keys[i][1]);
+    }
+
+    int stillFound = 0;
+    for (int i = 0; i < keys.length; i++) {
+      boolean found = filter.mightContain(keys[i][0], keys[i][1]);
+      if (i % 2 == 1) {
+        assertTrue("남은 항목은 반드시 찾아야 합니다: " + i, found);
+      } else if (found) {
+        stillFound++;
+      }
+    }
+    // 지운 항목은 거짓 양성 정도만 남음 (목표 1%, 여유를 두고 5%)
+    assertTrue("지운 항목 중 남은 수: " + stillFound, stillFound < ENTRIES / 2 / 20);
+  }
+
+  @Test
+  public void falsePositiveRateStaysNearTarget() {
+    CountingBloomFilter filter = CountingBloomFilter.create(ENTRIES, 0.01);
+    for (long[] key : randomKeys(ENTRIES, 3L)) {
+      filter.add(key[0], key[1]);
+    }
+
+    int falsePositives = 0;
+    for (long[] key : randomKeys(ENTRIES, 4L)) {
+      if (filter.mightContain(key[0], key[1])) {
+        falsePositives++;
+      }
+    }
+    assertTrue("거짓 양성 수: " + falsePositives, falsePositives < ENTRIES / 20);
+  }
+
+  @Test
+  public void saturatedCountersNeverCauseFalseNegatives() {
+    CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+    // 같은 항목을 카운터 최대값(15)보다 많이 추가한 뒤 같은 수만큼 제거해도 포화된 카운터는 줄지 않음
+    for (int i = 0; i < 20; i++) {
+      filter.add(42L, 4242L);
+    }
+    filter.add(7L, 77L);
+    for (int i = 0; i < 20; i++) {
+      filter.remove(42L, 4242L);
+    }
+
+    assertTrue(filter.mightContain(42L, 4242L));
+    assertTrue(filter.mightContain(7L, 77L));
+  }
+
+  @Test
+  public void extraRemoveDoesNotUnderflow() {
+    CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+    filter.add(1L, 2L);
+    filter.remove(1L, 2L);
+    filter.remove(1L, 2L);
+
+    assertFalse(filter.mightContain(1L, 2L));
+    filter.add(1L, 2L);
+    assertTrue(filter.mightContain(1L, 2L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsInvalidFalsePositiveRate() {
+    CountingBloomFilter.create(100, 1.0);
+  }
+
+  private static long[][] randomKeys(int count, long seed) {
+    Random random = new Random(seed);
+    long[][] keys = new long[count][2];
+    for (long[] key : keys) {
+      key[0] = random.nextLong();
+      key[1] = random.nextLong();
+    }
+    return keys;
+  }
+}
@@ -0,0 +1,138 @@
+package com.procore.util;
+
+import org.junit.Test;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CredentialCodecTest {
+
+  /** 테스트 속도를 위해 낮은 반복 횟수 사용 (형식과 계산 결과만 확인) */
+  private static final int ITERATIONS = 1_000;
+
+  @Test
+  public void hashThenVerifyRoundTrip() {
+    for (String password : new String[] {"Secret!123", "한글비밀번호1!", "", "emoji😀pw"}) {
+      String stored = CredentialCodec.hash(password, ITERATIONS);
+
+      assertTrue(stored.startsWith("$pbkdf2-sha256$v=1$i=" + ITERATIONS + "$"));
+      assertEquals(ITERATIONS, CredentialCodec.iterationsOf(stored));
+      assertTrue(password, CredentialCodec.verify(password, stored));
+      assertFalse(password, CredentialCodec.verify(password + "x", stored));
+    }
+  }
+
+  @Test
+  public void hashUsesFreshSalt() {
+    String first = CredentialCodec.hash("Secret!123", ITERATIONS);
+    String second = CredentialCodec.hash("Secret!123", ITERATIONS);
+
+    assertNotEquals(first, second);
+    assertTrue(CredentialCodec.verify("Secret!123", first));
+    assertTrue(CredentialCodec.verify("Secret!123", second));
+  }
+
+  @Test
+  public void hashMatchesJdkPbkdf2() throws Exception {
+    String password = "Secret!123한글";
+    String stored = CredentialCodec.hash(password, ITERATIONS);
+
+    String[] parts = stored.split("\\$");
+    byte[] salt = Base64.getDecoder().decode(parts[4]);
+    byte[] hash = Base64.getDecoder().decode(parts[5]);
+    assertEquals(CredentialCodec.SALT_LENGTH, salt.length);
+    assertEquals(CredentialCodec.HASH_LENGTH, hash.length);
+
+    PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, ITERATIONS, CredentialCodec.HASH_LENGTH * 8);
+    byte[] expected = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+    assertArrayEquals(expected, hash);
+  }
+
+  @Test
+  public void verifiesLegacyFormat() throws Exception {
+    String legacy = legacyHash("OldPassword1!", 42L);
+
+    assertTrue(CredentialCodec.verify("OldPassword1!", legacy));
+    assertFalse(CredentialCodec.verify("OldPassword1?", legacy));
+    assertEquals(-1, CredentialCodec.iterationsOf(legacy));
+  }
+
+  @Test
+  public void rejectsMalformedHashes() {
+    String stored = CredentialCodec.hash("Secret!123", ITERATIONS);
+
+    assertFalse(CredentialCodec.verify("Secret!123", null));
+    assertFalse(CredentialCodec.verify(null, stored));
+    assertFalse(CredentialCodec.verify("Secret!123", ""));
+    assertFalse(CredentialCodec.verify("Secret!123", "not-a-hash"));
+    assertFalse(CredentialCodec.verify("Secret!123", stored.substring(0, stored.lastIndexOf('$'))));
+    assertFalse(CredentialCodec.verify("Secret!123", stored.replace("$i=" + ITERATIONS, "$i=0")));
+    assertEquals(-1, CredentialCodec.iterationsOf("$pbkdf2-sha256$v=1$i=abc$x$y"));
+    assertEquals(-1, CredentialCodec.iterationsOf("$pbkdf2-sha256$v=1$i=99999999999$x$y"));
+    assertEquals(-1, CredentialCodec.iterationsOf(null));
+  }
+
+  @Test
+  public void binaryRoundTrip() throws Exception {
+    String pbkdf2 = CredentialCodec.hash("Secret!123", ITERATIONS);
+    byte[] pbkdf2Binary = CredentialCodec.toBinary(pbkdf2);
+    assertEquals(1 + 4 + CredentialCodec.SALT_LENGTH + CredentialCodec.HASH_LENGTH, pbkdf2Binary.length);
+    assertEquals(pbkdf2, CredentialCodec.fromBinary(pbkdf2Binary));
+    assertTrue(CredentialCodec.verify("Secret!123", CredentialCodec.fromBinary(pbkdf2Binary)));
+
+    String legacy = legacyHash("OldPassword1!", 7L);
+    byte[] legacyBinary = CredentialCodec.toBinary(legacy);
+    assertEquals(1 + CredentialCodec.LEGACY_SALT_LENGTH + CredentialCodec.HASH_LENGTH, legacyBinary.length);
+    assertEquals(legacy, CredentialCodec.fromBinary(legacyBinary));
+    assertTrue(CredentialCodec.verify("OldPassword1!", CredentialCodec.fromBinary(legacyBinary)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toBinaryRejectsUnknownFormat() {
+    CredentialCodec.toBinary("not-a-hash");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fromBinaryRejectsUnknownFormat() {
+    CredentialCodec.fromBinary(new byte[] {9, 1, 2, 3});
+  }
+
+  @Test
+  public void encodeUtf8MatchesStringGetBytes() {
+    String[] samples = {"", "ascii", "한글", "mixed 한 ascii", "emoji😀", "lone\uD83Dhigh", "lone\uDE00low", "\uD83D"};
+    byte[] out = new byte[64];
+    for (String sample : samples) {
+      int length = CredentialCodec.encodeUtf8(sample, out);
+      byte[] actual = new byte[length];
+      System.arraycopy(out, 0, actual, 0, length);
+      assertArrayEquals(sample, sample.getBytes(StandardCharsets.UTF_8), actual);
+    }
+  }
+
+  /**
+   * 기존 형식 = Base64(32바이트 salt + SHA-256(salt + 비밀번호))
+   */
+  private static String legacyHash(String password, long seed) throws Exception {
+    byte[] salt = new byte[CredentialCodec.LEGACY_SALT_LENGTH];
+    new Random(seed).nextBytes(salt);
+
+    MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+    sha256.update(salt);
+    byte[] hash = sha256.digest(password.getBytes(StandardCharsets.UTF_8));
+
+    byte[] combined = new byte[salt.length + hash.length];
+    System.arraycopy(salt, 0, combined, 0, salt.length);
+    System.arraycopy(hash, 0, combined, salt.length, hash.length);
+    return Base64.getEncoder().encodeToString(combined);
+  }
+}
@@ -0,0 +1,146 @@
+package com.procore.util;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * IncrementalPasswordAnalyzer 의 결과가 매번 처음부터 분석한 PasswordAnalysis.of 와 같은지 확인
+ */
+public class IncrementalPasswordAnalyzerTest {
+
+  private static final int MAX_LENGTH = 48;
+
+  /** 패턴(연속, 반복, 연도, 생년월일, 사전 단어)이 자주 생기도록 섞어 넣는 조각 */
+  private static final String[] CHUNKS = {
+          "abc", "cba", "123", "321", "qwe", "asdf", "aaa", "1111", "1990", "2024", "19900101", "0315",
+          "password", "PassWord", "qwerty", "abab", "xyzxyz", "!@#", "가나다", "한글"
+  };
+
+  private static final String SINGLE_CHARS = "aAbBzZ0189!@#.?xq가";
+
+  private static PasswordDictionary dictionary;
+
+  @BeforeClass
+  public static void loadDictionary() throws IOException {
+    try (InputStream in = IncrementalPasswordAnalyzerTest.class.getResourceAsStream("/security/common-passwords.txt")) {
+      dictionary = AhoCorasickDictionary.load(in);
+    }
+  }
+
+  @Test
+  public void matchesFullAnalysisOverRandomEditsWithoutDictionary() {
+    runRandomEdits(null, 1L);
+    runRandomEdits(null, 2L);
+  }
+
+  @Test
+  public void matchesFullAnalysisOverRandomEditsWithDictionary() {
+    runRandomEdits(dictionary, 3L);
+    runRandomEdits(dictionary, 4L);
+  }
+
+  @Test
+  public void emptyAnalyzerMatchesEmptyPassword() {
+    IncrementalPasswordAnalyzer analyzer = new IncrementalPasswordAnalyzer(dictionary, MAX_LENGTH);
+    assertSameAnalysis("", PasswordAnalysis.of("", dictionary), analyzer.snapshot());
+
+    analyzer.append("abc123");
+    analyzer.clear();
+    assertEquals(0, analyzer.length());
+    assertSameAnalysis("", PasswordAnalysis.of("", dictionary), analyzer.snapshot());
+  }
+
+  @Test
+  public void rejectsAppendOverMaxLengthWithoutChangingState() {
+    IncrementalPasswordAnalyzer analyzer = new IncrementalPasswordAnalyzer(dictionary, 8);
+    analyzer.append("pass1990");
+
+    try {
+      analyzer.append('x');
+      fail("최대 길이를 넘는 추가는 거부되어야 합니다.");
+    } catch (IllegalArgumentException expected) {
+      // 기대한 예외
+    }
+    try {
+      analyzer.append("xy");
+      fail("최대 길이를 넘는 추가는 거부되어야 합니다.");
+    } catch (IllegalArgumentException expected) {
+      // 기대한 예외
+    }
+
+    assertEquals(8, analyzer.length());
+    assertSameAnalysis("pass1990", PasswordAnalysis.of("pass1990", dictionary), analyzer.snapshot());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsTruncateBeyondLength() {
+    IncrementalPasswordAnalyzer analyzer = new IncrementalPasswordAnalyzer(null, MAX_LENGTH);
+    analyzer.append("abc");
+    analyzer.truncate(4);
+  }
+
+  /**
+   * 무작위 추가/삭제/잘라내기를 이어가며 매 단계마다 전체 분석과 비교합니다.
+   */
+  private static void runRandomEdits(PasswordDictionary dictionary, long seed) {
+    Random random = new Random(seed);
+    IncrementalPasswordAnalyzer analyzer = new IncrementalPasswordAnalyzer(dictionary, MAX_LENGTH);
+    StringBuilder expected = new StringBuilder();
+
+    for (int step = 0; step < 5_000; step++) {
+      int op = random.nextInt(10);
+      if (op < 4) {
+        char c = SINGLE_CHARS.charAt(random.nextInt(SINGLE_CHARS.length()));
+        if (expected.length() < MAX_LENGTH) {
+          analyzer.append(c);
+          expected.append(c);
+        }
+      } else if (op < 7) {
+        String chunk = CHUNKS[random.nextInt(CHUNKS.length)];
+        if (expected.length() + chunk.length() <= MAX_LENGTH) {
+          analyzer.append(chunk);
+          expected.append(chunk);
+        }
+      } else if (op < 9) {
+        analyzer.removeLast();
+        if (expected.length() > 0) {
+          expected.setLength(expected.length() - 1);
+        }
+      } else if (random.nextInt(10) == 0) {
+        analyzer.clear();
+        expected.setLength(0);
+      } else {
+        int newLength = expected.length() == 0 ? 0 : random.nextInt(expected.length() + 1);
+        analyzer.truncate(newLength);
+        expected.setLength(newLength);
+      }
+
+      String password = expected.toString();
+      assertEquals(password, expected.length(), analyzer.length());
+      assertSameAnalysis(password, PasswordAnalysis.of(password, dictionary), analyzer.snapshot());
+    }
+  }
+
+  private static void assertSameAnalysis(String password, PasswordAnalysis expected, PasswordAnalysis actual) {
+    String message = "비밀번호: \"" + password + "\"";
+    assertEquals(message, expected.getLength(), actual.getLength());
+    assertEquals(message, expected.hasLowercase(), actual.hasLowercase());
+    assertEquals(message, expected.hasUppercase(), actual.hasUppercase());
+    assertEquals(message, expected.hasDigit(), actual.hasDigit());
+    assertEquals(message, expected.hasSpecial(), actual.hasSpecial());
+    assertEquals(message, expected.hasSequence(), actual.hasSequence());
+    assertEquals(message, expected.hasRepeat(), actual.hasRepeat());
+    assertEquals(message, expected.hasBirthDate(), actual.hasBirthDate());
+    assertEquals(message, expected.hasYear(), actual.hasYear());
+    assertEquals(message, expected.hasDigitRun(), actual.hasDigitRun());
+    assertEquals(message, expected.getUniqueCharCount(), actual.getUniqueCharCount());
+    assertEquals(message, expected.getDictionaryMatchLength(), actual.getDictionaryMatchLength());
+  }
+}
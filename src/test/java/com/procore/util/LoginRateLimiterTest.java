@@ -0,0 +1,158 @@
+package com.procore.util;
+
+import com.procore.util.LoginRateLimiter.RateLimitedException;
+import com.procore.util.LoginRateLimiter.SlidingWindowCounter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LoginRateLimiterTest {
+
+  private static final long WINDOW = 1_000L;
+
+  /** 윈도우 경계에 맞춘 기준 시각 (윈도우 번호 10) */
+  private static final long START = 10 * WINDOW;
+
+  @Test
+  public void countsWithinWindow() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 3, 100);
+
+    counter.increment("k", START);
+    counter.increment("k", START + 100);
+    assertFalse(counter.isOverLimit("k", START + 200));
+
+    counter.increment("k", START + 300);
+    assertTrue(counter.isOverLimit("k", START + 400));
+    assertFalse(counter.isOverLimit("other", START + 400));
+  }
+
+  @Test
+  public void previousWindowDecaysAcrossRollover() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 3, 100);
+    for (int i = 0; i < 4; i++) {
+      counter.increment("k", START + i);
+    }
+
+    // 다음 윈도우 시작: 이전 윈도우 4회가 그대로 반영
+    assertEquals(4.0, counter.estimate(stateAfterIncrements(4), START + WINDOW), 1e-9);
+    assertTrue(counter.isOverLimit("k", START + WINDOW));
+    // 절반 경과: 4 × 0.5 = 2 < 3
+    assertFalse(counter.isOverLimit("k", START + WINDOW + WINDOW / 2));
+    // 두 윈도우 뒤: 0
+    assertFalse(counter.isOverLimit("k", START + 2 * WINDOW));
+
+    // 이전 윈도우 수에 현재 윈도우 수를 더함: 4 × 0.75 + 1 = 4 >= 3
+    counter.increment("k", START + WINDOW + WINDOW / 4);
+    assertTrue(counter.isOverLimit("k", START + WINDOW + WINDOW / 4));
+  }
+
+  @Test
+  public void tryIncrementRejectsOverLimitUntilWindowPasses() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 3, 100);
+
+    assertTrue(counter.tryIncrement("ip", START));
+    assertTrue(counter.tryIncrement("ip", START + 1));
+    assertTrue(counter.tryIncrement("ip", START + 2));
+    assertFalse(counter.tryIncrement("ip", START + 3));
+    assertFalse(counter.tryIncrement("ip", START + WINDOW));
+    assertTrue(counter.tryIncrement("ip", START + 2 * WINDOW));
+
+    assertEquals(2L, counter.getStats().get("rejected"));
+  }
+
+  @Test
+  public void evictsLeastRecentlyUpdatedKeysWhenFull() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(60_000L, 1, 10);
+    long now = 60_000L * 100;
+    for (int i = 0; i < 10; i++) {
+      counter.increment("key" + i, now + i);
+    }
+    // key0 을 다시 갱신하여 가장 오래된 키는 key1 이 됨
+    counter.increment("key0", now + 20);
+
+    counter.increment("new", now + 30);
+
+    assertEquals(1L, counter.getStats().get("lruEvicted"));
+    assertEquals(10, counter.getStats().get("keys"));
+    assertTrue(counter.isOverLimit("key0", now + 40));
+    assertFalse(counter.isOverLimit("key1", now + 40));
+    assertTrue(counter.isOverLimit("key2", now + 40));
+    assertTrue(counter.isOverLimit("new", now + 40));
+  }
+
+  @Test
+  public void sweepsKeysIdleForTwoWindows() {
+    SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 5, 100);
+    counter.increment("old", START);
+    counter.increment("fresh", START + 2 * WINDOW);
+
+    assertEquals(1, counter.getStats().get("keys"));
+    assertEquals(1L, counter.getStats().get("evicted"));
+  }
+
+  @Test
+  public void locksIpEmailPairBeforeEmailAlone() {
+    LoginRateLimiter limiter = new LoginRateLimiter(true, 300, 1000, 50, 100, 5, 10);
+    for (int i = 0; i < 5; i++) {
+      limiter.checkLogin("10.0.0.1", "user@example.com");
+      limiter.recordLogin("10.0.0.1", "user@example.com", false);
+    }
+
+    assertRejected(limiter, "10.0.0.1", "USER@example.com", "ip-email");
+    // 다른 주소에서 온 계정 주인은 막지 않음
+    limiter.checkLogin("10.0.0.2", "user@example.com");
+  }
+
+  @Test
+  public void successClearsIpEmailPair() {
+    LoginRateLimiter limiter = new LoginRateLimiter(true, 300, 1000, 50, 100, 5, 10);
+    for (int i = 0; i < 4; i++) {
+      limiter.recordLogin("10.0.0.1", "user@example.com", false);
+    }
+    limiter.recordLogin("10.0.0.1", "user@example.com", true);
+    limiter.recordLogin("10.0.0.1", "user@example.com", false);
+
+    limiter.checkLogin("10.0.0.1", "user@example.com");
+  }
+
+  @Test
+  public void registrationIsLimitedPerIp() {
+    LoginRateLimiter limiter = new LoginRateLimiter(true, 300, 1000, 50, 100, 5, 2);
+    limiter.acquireRegistration("10.0.0.1");
+    limiter.acquireRegistration("10.0.0.1");
+    try {
+      limiter.acquireRegistration("10.0.0.1");
+      fail("IP 별 회원가입 시도 기준을 넘으면 거부되어야 합니다.");
+    } catch (RateLimitedException e) {
+      assertEquals("ip", e.getScope());
+    }
+    limiter.acquireRegistration("10.0.0.2");
+  }
+
+  @Test
+  public void disabledLimiterNeverRejects() {
+    LoginRateLimiter limiter = new LoginRateLimiter(false, 300, 1000, 1, 1, 1, 1);
+    for (int i = 0; i < 5; i++) {
+      limiter.recordLogin("10.0.0.1", "user@example.com", false);
+      limiter.acquireRegistration("10.0.0.1");
+    }
+    limiter.checkLogin("10.0.0.1", "user@example.com");
+  }
+
+  private static void assertRejected(LoginRateLimiter limiter, String ip, String email, String scope) {
+    try {
+      limiter.checkLogin(ip, email);
+      fail("로그인 실패 기준을 넘으면 거부되어야 합니다: " + scope);
+    } catch (RateLimitedException e) {
+      assertEquals(scope, e.getScope());
+    }
+  }
+
+  /** 윈도우 10 에서 count 회 증가한 상태 값 */
+  private static long stateAfterIncrements(int count) {
+    return (10L << 32) | count;
+  }
+}
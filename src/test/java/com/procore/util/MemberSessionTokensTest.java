@@ -0,0 +1,147 @@
+package com.procore.util;
+
+import com.procore.util.MemberSessionTokens.SessionToken;
+import com.procore.vo.MemberStatus;
+import com.procore.vo.MemberVO;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MemberSessionTokensTest {
+
+  private static final String SECRET = Base64.getEncoder().encodeToString(
+          "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+  private static final String BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+  private MemberSessionTokens tokens;
+
+  @Before
+  public void setUp() {
+    tokens = new MemberSessionTokens(SECRET, 30, 12, "PROCORE_SESSION", false);
+  }
+
+  @Test
+  public void issuedTokenVerifies() {
+    String text = tokens.issue(member(42L, MemberStatus.ACTIVE));
+    SessionToken token = tokens.verify(text);
+
+    assertNotNull(token);
+    assertEquals(42L, token.getMemberId());
+    assertEquals(MemberStatus.ACTIVE, token.getStatus());
+    assertEquals(token.getAuthenticatedAt(), token.getIssuedAt());
+    assertTrue(token.getExpiresAt() > token.getIssuedAt());
+  }
+
+  @Test
+  public void tokenFromAnotherSecretIsRejected() {
+    MemberSessionTokens other = new MemberSessionTokens(
+            Base64.getEncoder().encodeToString("fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII)), 30, 12, "PROCORE_SESSION", false);
+    String text = other.issue(member(42L, MemberStatus.ACTIVE));
+
+    assertNull(tokens.verify(text));
+  }
+
+  @Test
+  public void everySingleCharacterChangeIsRejected() {
+    String text = tokens.issue(member(42L, MemberStatus.ACTIVE));
+    for (int i = 0; i < text.length(); i++) {
+      char original = text.charAt(i);
+      char replacement = BASE64URL.charAt((BASE64URL.indexOf(original) + 1) % BASE64URL.length());
+      String tampered = text.substring(0, i) + replacement + text.substring(i + 1);
+      assertNull("위치 " + i, tokens.verify(tampered));
+    }
+    assertEquals((long) text.length(), tokens.getStats().get("invalid"));
+  }
+
+  @Test
+  public void malformedTokensAreRejected() {
+    String text = tokens.issue(member(42L, MemberStatus.ACTIVE));
+
+    assertNull(tokens.verify(null));
+    assertNull(tokens.verify(""));
+    assertNull(tokens.verify(text.substring(1)));
+    assertNull(tokens.verify(text + "A"));
+    assertNull(tokens.verify("!" + text.substring(1)));
+  }
+
+  @Test
+  public void expiredTokenIsRejected() {
+    MemberSessionTokens immediate = new MemberSessionTokens(SECRET, 0, 12, "PROCORE_SESSION", false);
+    String text = immediate.issue(member(42L, MemberStatus.ACTIVE));
+
+    assertNull(immediate.verify(text));
+    assertEquals(1L, immediate.getStats().get("expired"));
+  }
+
+  @Test
+  public void tokenPastMaxSessionIsRejectedAndNotRenewed() {
+    MemberSessionTokens noSession = new MemberSessionTokens(SECRET, 30, 0, "PROCORE_SESSION", false);
+
+    // 만료 시각이 로그인 시각 + 최대 유지 시간을 넘지 않으므로 발급 즉시 만료
+    assertNull(noSession.verify(noSession.issue(member(42L, MemberStatus.ACTIVE))));
+
+    // 같은 키의 다른 설정에서 발급된 토큰도 최대 유지 시간이 지났으면 거부, 갱신 불가
+    String text = tokens.issue(member(42L, MemberStatus.ACTIVE));
+    SessionToken token = tokens.verify(text);
+    assertNotNull(token);
+    assertNull(noSession.verify(text));
+    assertFalse(noSession.canRenew(token));
+    assertNull(noSession.renew(token, MemberStatus.ACTIVE));
+  }
+
+  @Test
+  public void revokedTokenIsRejected() {
+    String first = tokens.issue(member(42L, MemberStatus.ACTIVE));
+    String second = tokens.issue(member(42L, MemberStatus.ACTIVE));
+
+    tokens.revoke(tokens.verify(first));
+
+    assertNull(tokens.verify(first));
+    assertNotNull(tokens.verify(second));
+    assertEquals(1L, tokens.getStats().get("denied"));
+  }
+
+  @Test
+  public void revokedMemberTokensAreRejected() {
+    String text = tokens.issue(member(42L, MemberStatus.ACTIVE));
+    String otherMember = tokens.issue(member(43L, MemberStatus.ACTIVE));
+
+    tokens.revokeMember(42L);
+
+    assertNull(tokens.verify(text));
+    assertNotNull(tokens.verify(otherMember));
+  }
+
+  @Test
+  public void renewKeepsLoginTimeAndUsesCurrentStatus() {
+    SessionToken token = tokens.verify(tokens.issue(member(42L, MemberStatus.ACTIVE)));
+
+    assertTrue(tokens.canRenew(token));
+    SessionToken renewed = tokens.verify(tokens.renew(token, MemberStatus.SUSPENDED));
+
+    assertNotNull(renewed);
+    assertEquals(token.getAuthenticatedAt(), renewed.getAuthenticatedAt());
+    assertEquals(MemberStatus.SUSPENDED, renewed.getStatus());
+    assertTrue(renewed.getTokenId() != token.getTokenId());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsShortSecret() {
+    new MemberSessionTokens(Base64.getEncoder().encodeToString(new byte[16]), 30, 12, "PROCORE_SESSION", false);
+  }
+
+  private static MemberVO member(long memberId, MemberStatus status) {
+    MemberVO member = new MemberVO();
+    member.setMemberId(memberId);
+    member.setStatus(status);
+    return member;
+  }
+}
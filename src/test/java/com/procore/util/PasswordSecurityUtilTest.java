@@ -0,0 +1,37 @@
+package com.procore.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PasswordSecurityUtilTest {
+
+  private static final int ITERATIONS = 100_000;
+
+  private PasswordSecurityUtil passwordSecurityUtil;
+
+  @Before
+  public void setUp() {
+    passwordSecurityUtil = new PasswordSecurityUtil();
+    passwordSecurityUtil.setConfiguredIterations(ITERATIONS);
+    passwordSecurityUtil.afterPropertiesSet();
+  }
+
+  @Test
+  public void currentHashDoesNotNeedRehash() {
+    String stored = passwordSecurityUtil.hashPassword("Secret!123");
+
+    assertTrue(passwordSecurityUtil.verifyPassword("Secret!123", stored));
+    assertFalse(passwordSecurityUtil.needsRehash(stored));
+    assertFalse(passwordSecurityUtil.needsRehash(CredentialCodec.hash("Secret!123", ITERATIONS * 2)));
+  }
+
+  @Test
+  public void weakerOrLegacyHashNeedsRehash() {
+    assertTrue(passwordSecurityUtil.needsRehash(CredentialCodec.hash("Secret!123", ITERATIONS - 1)));
+    assertTrue(passwordSecurityUtil.needsRehash("bGVnYWN5LWZvcm1hdC1oYXNoLXZhbHVlLWJ5dGVzLWhlcmU="));
+    assertTrue(passwordSecurityUtil.needsRehash(null));
+  }
+}
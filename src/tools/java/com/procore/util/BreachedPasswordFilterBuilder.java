@@ -0,0 +1,170 @@
+package com.procore.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 유출 비밀번호 Bloom 필터 파일 생성 도구 (오프라인 실행, src/tools/java 라 war 에는 포함되지 않음)
+ *
+ * 사용법 (mvn compile 후):
+ * java -cp target/classes com.procore.util.BreachedPasswordFilterBuilder
+ *      [--format=sha1|plain] [--fpp=0.001] 입력파일 출력파일
+ *
+ * sha1: 한 줄에 SHA-1 16진수 40자 (HIBP 형식 "HASH:COUNT" 허용, 대소문자 무관)
+ * plain: 한 줄에 비밀번호 하나 (UTF-8)
+ *
+ * 입력을 두 번 읽어 항목 수를 센 뒤, 출력 파일을 메모리 매핑하여 바로 비트를 설정하므로
+ * 힙 사용량은 필터 크기와 무관합니다.
+ */
+public final class BreachedPasswordFilterBuilder {
+
+  private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+  private final boolean plainText;
+  private final double falsePositiveRate;
+  private final MessageDigest sha1;
+  private final byte[] digest = new byte[BreachedPasswordFilter.DIGEST_LENGTH];
+
+  public BreachedPasswordFilterBuilder(boolean plainText, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("거짓 양성률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+    }
+    this.plainText = plainText;
+    this.falsePositiveRate = falsePositiveRate;
+    try {
+      this.sha1 = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-1 을 사용할 수 없습니다.", e);
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    boolean plainText = false;
+    double falsePositiveRate = DEFAULT_FALSE_POSITIVE_RATE;
+    String input = null;
+    String output = null;
+
+    for (String arg : args) {
+      if (arg.startsWith("--format=")) {
+        plainText = "plain".equals(arg.substring("--format=".length()));
+      } else if (arg.startsWith("--fpp=")) {
+        falsePositiveRate = Double.parseDouble(arg.substring("--fpp=".length()));
+      } else if (input == null) {
+        input = arg;
+      } else {
+        output = arg;
+      }
+    }
+
+    if (input == null || output == null) {
+      System.err.println("사용법: BreachedPasswordFilterBuilder [--format=sha1|plain] [--fpp=0.001] 입력파일 출력파일");
+      System.exit(1);
+      return;
+    }
+
+    new BreachedPasswordFilterBuilder(plainText, falsePositiveRate).build(new File(input), new File(output));
+  }
+
+  /**
+   * 입력 파일로 필터 파일을 만듭니다.
+   * @param input 유출 비밀번호(또는 SHA-1) 목록
+   * @param output 생성할 필터 파일
+   */
+  public void build(File input, File output) throws IOException {
+    long started = System.currentTimeMillis();
+
+    // 1. 항목 수 계산
+    long entries = 0;
+    try (BufferedReader reader = open(input)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (toDigest(line)) {
+          entries++;
+        }
+      }
+    }
+
+    long bitCount = BreachedPasswordFilter.optimalBitCount(entries, falsePositiveRate);
+    int hashCount = BreachedPasswordFilter.optimalHashCount(entries, bitCount);
+    long size = BreachedPasswordFilter.HEADER_SIZE + (bitCount + 7) / 8;
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("필터 크기가 2GB 를 넘습니다. 거짓 양성률을 높이거나 입력을 나누세요: " + size);
+    }
+
+    System.out.println("항목 " + entries + "건, 비트 " + bitCount + "개 (" + (size / 1024 / 1024)
+            + "MB), 해시 " + hashCount + "개, 목표 거짓 양성률 " + falsePositiveRate);
+
+    // 2. 출력 파일을 매핑하여 비트 설정
+    try (RandomAccessFile raf = new RandomAccessFile(output, "rw");
+         FileChannel channel = raf.getChannel()) {
+      raf.setLength(0);
+      raf.setLength(size);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      BreachedPasswordFilter.writeHeader(buffer, hashCount, bitCount, entries);
+
+      try (BufferedReader reader = open(input)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!toDigest(line)) {
+            continue;
+          }
+          long h1 = BreachedPasswordFilter.readLong(digest, 0);
+          long h2 = BreachedPasswordFilter.readLong(digest, 8);
+          for (int i = 0; i < hashCount; i++) {
+            long bit = BreachedPasswordFilter.bitIndex(h1, h2, i, bitCount);
+            int index = BreachedPasswordFilter.HEADER_SIZE + (int) (bit >>> 3);
+            buffer.put(index, (byte) (buffer.get(index) | (1 << (bit & 7))));
+          }
+        }
+      }
+      buffer.force();
+    }
+
+    System.out.println("필터 생성 완료: " + output + " (" + (System.currentTimeMillis() - started) + "ms)");
+  }
+
+  private BufferedReader open(File input) throws IOException {
+    return new BufferedReader(new InputStreamReader(new FileInputStream(input), StandardCharsets.UTF_8), 1 << 16);
+  }
+
+  /**
+   * 한 줄을 SHA-1 로 변환하여 digest 에 저장합니다.
+   * @return 유효한 항목이면 true
+   */
+  private boolean toDigest(String line) {
+    if (plainText) {
+      if (line.isEmpty()) {
+        return false;
+      }
+      System.arraycopy(sha1.digest(line.getBytes(StandardCharsets.UTF_8)), 0, digest, 0, digest.length);
+      return true;
+    }
+
+    String hex = line.trim();
+    int colon = hex.indexOf(':');
+    if (colon >= 0) {
+      hex = hex.substring(0, colon);
+    }
+    if (hex.length() != BreachedPasswordFilter.DIGEST_LENGTH * 2) {
+      return false;
+    }
+    for (int i = 0; i < digest.length; i++) {
+      int high = Character.digit(hex.charAt(i * 2), 16);
+      int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+      if (high < 0 || low < 0) {
+        return false;
+      }
+      digest[i] = (byte) ((high << 4) | low);
+    }
+    return true;
+  }
+}
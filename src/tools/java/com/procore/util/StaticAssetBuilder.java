@@ -0,0 +1,383 @@
+package com.procore.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 정적 리소스(CSS/JS) 빌드 도구 (mvn package 의 prepare-package 단계에서 실행, src/tools/java 라 war 에는 포함되지 않음)
+ *
+ * 사용법 (mvn compile 후):
+ * java -cp target/classes com.procore.util.StaticAssetBuilder 원본디렉터리 출력디렉터리
+ *
+ * 원본의 .css/.js 를 최소화하여 같은 상대 경로로 출력하고, 옆에 gzip(.gz) 과 brotli(.br) 파일을 만듭니다.
+ * brotli 는 JDK 에 인코더가 없으므로 빌드 환경에 brotli 명령이 있을 때만 만듭니다.
+ * 출력 디렉터리는 war 에 원본보다 먼저 복사되어(maven-war-plugin webResources) 원본 대신 배포됩니다.
+ *
+ * 파일 이름의 내용 해시는 빌드에서 붙이지 않고, 실행 중 VersionResourceResolver(ContentVersionStrategy) 가
+ * 배포된(최소화된) 파일 내용으로 계산하여 URL 에 붙입니다.
+ *
+ * 최소화는 구문 분석 없이 안전한 범위만 합니다.
+ * CSS: 주석 제거, 공백 축약, { } ; , 주변 공백과 } 앞의 ; 제거 (문자열 안은 그대로)
+ * JS: 주석 제거, 줄 앞뒤 공백과 빈 줄 제거, 연속 공백 축약 (줄바꿈은 유지하여 세미콜론 자동 삽입 동작을 바꾸지 않음,
+ *     문자열/템플릿 문자열/정규식 리터럴 안은 그대로)
+ */
+public final class StaticAssetBuilder {
+
+  private static final int MIN_COMPRESS_SIZE = 256;
+
+  private final boolean brotliAvailable;
+
+  public StaticAssetBuilder() {
+    this.brotliAvailable = commandAvailable("brotli", "--version");
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("사용법: StaticAssetBuilder 원본디렉터리 출력디렉터리");
+      System.exit(1);
+      return;
+    }
+    new StaticAssetBuilder().build(Paths.get(args[0]), Paths.get(args[1]));
+  }
+
+  /**
+   * 원본 디렉터리의 CSS/JS 를 최소화/압축하여 출력 디렉터리에 씁니다.
+   */
+  public void build(Path source, Path target) throws IOException {
+    List<Path> assets;
+    try (Stream<Path> files = Files.walk(source)) {
+      assets = files.filter(Files::isRegularFile)
+              .filter(path -> path.toString().endsWith(".css") || path.toString().endsWith(".js"))
+              .collect(Collectors.toList());
+    }
+    if (!brotliAvailable) {
+      System.out.println("brotli 명령이 없어 .br 파일은 만들지 않습니다.");
+    }
+
+    long originalTotal = 0;
+    long minifiedTotal = 0;
+    for (Path asset : assets) {
+      String text = new String(Files.readAllBytes(asset), StandardCharsets.UTF_8);
+      String minified = asset.toString().endsWith(".css") ? minifyCss(text) : minifyJs(text);
+      byte[] bytes = minified.getBytes(StandardCharsets.UTF_8);
+
+      Path output = target.resolve(source.relativize(asset));
+      Files.createDirectories(output.getParent());
+      Files.write(output, bytes);
+
+      long gzipSize = -1;
+      if (bytes.length >= MIN_COMPRESS_SIZE) {
+        gzipSize = writeGzip(bytes, output.resolveSibling(output.getFileName() + ".gz"));
+        if (brotliAvailable) {
+          writeBrotli(output);
+        }
+      }
+
+      originalTotal += Files.size(asset);
+      minifiedTotal += bytes.length;
+      System.out.println(source.relativize(asset) + ": " + Files.size(asset) + " -> " + bytes.length
+              + (gzipSize >= 0 ? " (gzip " + gzipSize + ")" : "") + " bytes");
+    }
+
+    System.out.println("정적 리소스 " + assets.size() + "개: " + originalTotal + " -> " + minifiedTotal + " bytes");
+  }
+
+  // === 최소화 ===
+
+  /**
+   * CSS 최소화 (주석 제거, 공백 축약)
+   */
+  static String minifyCss(String css) {
+    StringBuilder out = new StringBuilder(css.length());
+    int length = css.length();
+    int i = 0;
+    boolean pendingSpace = false;
+
+    while (i < length) {
+      char c = css.charAt(i);
+
+      if (c == '/' && i + 1 < length && css.charAt(i + 1) == '*') {
+        int end = css.indexOf("*/", i + 2);
+        i = end < 0 ? length : end + 2;
+        continue;
+      }
+      if (Character.isWhitespace(c)) {
+        pendingSpace = true;
+        i++;
+        continue;
+      }
+
+      if (c == '{' || c == '}' || c == ';' || c == ',') {
+        if (c == '}' && out.length() > 0 && out.charAt(out.length() - 1) == ';') {
+          out.setLength(out.length() - 1);
+        }
+        out.append(c);
+        pendingSpace = false;
+        i++;
+        continue;
+      }
+
+      if (pendingSpace && out.length() > 0 && !isCssPunctuation(out.charAt(out.length() - 1))) {
+        out.append(' ');
+      }
+      pendingSpace = false;
+
+      if (c == '"' || c == '\'') {
+        i = copyQuoted(css, i, c, out);
+      } else {
+        out.append(c);
+        i++;
+      }
+    }
+    return out.toString();
+  }
+
+  private static boolean isCssPunctuation(char c) {
+    return c == '{' || c == '}' || c == ';' || c == ',';
+  }
+
+  /**
+   * JS 최소화 (주석/들여쓰기/빈 줄 제거, 줄바꿈 유지)
+   */
+  static String minifyJs(String js) {
+    StringBuilder out = new StringBuilder(js.length());
+    int length = js.length();
+    int i = 0;
+    boolean pendingSpace = false;
+    boolean pendingNewline = false;
+    // 템플릿 문자열 ${ } 안의 코드에서 중괄호 깊이 (바깥 템플릿으로 돌아갈 위치)
+    List<Integer> templateDepths = new ArrayList<>();
+    int braceDepth = 0;
+
+    while (i < length) {
+      char c = js.charAt(i);
+      char next = i + 1 < length ? js.charAt(i + 1) : '\0';
+
+      // 주석
+      if (c == '/' && next == '/') {
+        int end = js.indexOf('\n', i);
+        i = end < 0 ? length : end;
+        continue;
+      }
+      if (c == '/' && next == '*') {
+        int end = js.indexOf("*/", i + 2);
+        String comment = js.substring(i, end < 0 ? length : end);
+        pendingSpace = true;
+        if (comment.indexOf('\n') >= 0) {
+          pendingNewline = true;
+        }
+        i = end < 0 ? length : end + 2;
+        continue;
+      }
+
+      // 공백 (줄바꿈은 하나로)
+      if (c == '\n' || c == '\r') {
+        pendingNewline = true;
+        i++;
+        continue;
+      }
+      if (Character.isWhitespace(c)) {
+        pendingSpace = true;
+        i++;
+        continue;
+      }
+
+      if (out.length() > 0) {
+        if (pendingNewline) {
+          out.append('\n');
+        } else if (pendingSpace) {
+          out.append(' ');
+        }
+      }
+      pendingSpace = false;
+      pendingNewline = false;
+
+      if (c == '"' || c == '\'') {
+        i = copyQuoted(js, i, c, out);
+      } else if (c == '`') {
+        i = copyTemplate(js, i + 1, out.append('`'));
+        if (i > 0 && js.charAt(i - 1) == '{') {
+          // ${ 에서 멈춤: 코드로 돌아가 짝이 되는 } 에서 템플릿을 이어서 복사
+          templateDepths.add(braceDepth);
+          braceDepth++;
+        }
+      } else if (c == '/' && isRegexStart(out, out.length() - 1)) {
+        i = copyRegex(js, i, out);
+      } else if (c == '{') {
+        braceDepth++;
+        out.append(c);
+        i++;
+      } else if (c == '}') {
+        braceDepth--;
+        out.append(c);
+        i++;
+        int last = templateDepths.size() - 1;
+        if (last >= 0 && templateDepths.get(last) == braceDepth) {
+          templateDepths.remove(last);
+          i = copyTemplate(js, i, out);
+          if (js.charAt(i - 1) == '{') {
+            templateDepths.add(braceDepth);
+            braceDepth++;
+          }
+        }
+      } else {
+        out.append(c);
+        i++;
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * 따옴표 문자열을 그대로 복사 (이스케이프 포함)
+   * @return 닫는 따옴표 다음 위치
+   */
+  private static int copyQuoted(String text, int start, char quote, StringBuilder out) {
+    out.append(quote);
+    int i = start + 1;
+    while (i < text.length()) {
+      char c = text.charAt(i++);
+      out.append(c);
+      if (c == '\\' && i < text.length()) {
+        out.append(text.charAt(i++));
+      } else if (c == quote || c == '\n') {
+        break;
+      }
+    }
+    return i;
+  }
+
+  /**
+   * 템플릿 문자열 본문을 닫는 ` 또는 ${ 까지 그대로 복사
+   * @return 멈춘 문자(` 또는 {) 다음 위치
+   */
+  private static int copyTemplate(String text, int start, StringBuilder out) {
+    int i = start;
+    while (i < text.length()) {
+      char c = text.charAt(i++);
+      out.append(c);
+      if (c == '\\' && i < text.length()) {
+        out.append(text.charAt(i++));
+      } else if (c == '`') {
+        break;
+      } else if (c == '$' && i < text.length() && text.charAt(i) == '{') {
+        out.append(text.charAt(i++));
+        break;
+      }
+    }
+    return i;
+  }
+
+  /**
+   * 정규식 리터럴을 그대로 복사 ([...] 안의 / 포함)
+   * @return 닫는 / 다음 위치 (플래그는 일반 문자로 이어서 복사됨)
+   */
+  private static int copyRegex(String text, int start, StringBuilder out) {
+    out.append('/');
+    int i = start + 1;
+    boolean inClass = false;
+    while (i < text.length()) {
+      char c = text.charAt(i++);
+      out.append(c);
+      if (c == '\\' && i < text.length()) {
+        out.append(text.charAt(i++));
+      } else if (c == '[') {
+        inClass = true;
+      } else if (c == ']') {
+        inClass = false;
+      } else if ((c == '/' && !inClass) || c == '\n') {
+        break;
+      }
+    }
+    return i;
+  }
+
+  /**
+   * 직전 출력으로 보아 / 가 나눗셈이 아닌 정규식 시작인지 판단
+   */
+  private static boolean isRegexStart(StringBuilder out, int index) {
+    while (index >= 0 && Character.isWhitespace(out.charAt(index))) {
+      index--;
+    }
+    if (index < 0) {
+      return true;
+    }
+    char prev = out.charAt(index);
+    if ("(,=:[!&|?{};+-*%<>~^".indexOf(prev) >= 0) {
+      return true;
+    }
+    if (!Character.isJavaIdentifierPart(prev)) {
+      return false;
+    }
+    int end = index + 1;
+    while (index >= 0 && Character.isJavaIdentifierPart(out.charAt(index))) {
+      index--;
+    }
+    String word = out.substring(index + 1, end);
+    return word.equals("return") || word.equals("typeof") || word.equals("case") || word.equals("do")
+            || word.equals("else") || word.equals("in") || word.equals("of") || word.equals("void")
+            || word.equals("new") || word.equals("delete") || word.equals("throw");
+  }
+
+  // === 압축 ===
+
+  private static long writeGzip(byte[] bytes, Path output) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 2);
+    try (OutputStream gzip = new GZIPOutputStream(buffer) {
+      {
+        def.setLevel(Deflater.BEST_COMPRESSION);
+      }
+    }) {
+      gzip.write(bytes);
+    }
+    try (FileOutputStream out = new FileOutputStream(output.toFile())) {
+      buffer.writeTo(out);
+    }
+    return buffer.size();
+  }
+
+  private static void writeBrotli(Path input) throws IOException {
+    File output = input.resolveSibling(input.getFileName() + ".br").toFile();
+    if (!runCommand("brotli", "--best", "--force", "--output=" + output.getPath(), input.toString())) {
+      throw new IOException("brotli 압축 실패: " + input);
+    }
+  }
+
+  private static boolean commandAvailable(String... command) {
+    try {
+      return runCommand(command);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static boolean runCommand(String... command) throws IOException {
+    Process process = new ProcessBuilder(command).redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.INHERIT).start();
+    try {
+      if (!process.waitFor(60, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+        return false;
+      }
+      return process.exitValue() == 0;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      process.destroyForcibly();
+      return false;
+    }
+  }
+}